@@ -0,0 +1,47 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductVariant;
+import io.sphere.sdk.products.attributes.AttributeAccess;
+import io.sphere.sdk.products.attributes.NamedAttributeAccess;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures typed attribute reads of a product variant like a product detail page does them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeBenchmark {
+    private static final NamedAttributeAccess<LocalizedString> LOC_STRING = AttributeAccess.ofLocalizedString().ofName("loc-string-attribute");
+    private static final NamedAttributeAccess<String> STRING = AttributeAccess.ofString().ofName("string-attribute");
+    private ProductVariant variant;
+
+    @Setup
+    public void setup() {
+        final Product product = SphereJsonUtils.readObject(Fixtures.bytes(Fixtures.PRODUCT), Product.typeReference());
+        variant = product.getMasterData().getCurrent().getMasterVariant();
+    }
+
+    @Benchmark
+    public LocalizedString findLocalizedStringAttribute() {
+        return variant.findAttribute(LOC_STRING).orElse(null);
+    }
+
+    @Benchmark
+    public String findStringAttributeWithNewAccess() {
+        return variant.findAttribute("string-attribute", AttributeAccess.ofString()).orElse(null);
+    }
+
+    @Benchmark
+    public boolean hasAttribute() {
+        return variant.hasAttribute(STRING) && !variant.hasAttribute("not-present");
+    }
+}
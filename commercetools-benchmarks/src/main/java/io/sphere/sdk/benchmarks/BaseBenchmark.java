@@ -0,0 +1,76 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.SdkDefaults;
+import io.sphere.sdk.products.Product;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares equals, hashCode and toString of {@link io.sphere.sdk.models.Base} with the reflection builders of commons-lang it used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseBenchmark {
+    private Product product;
+    private Product equalProduct;
+    private LocalizedString localizedString;
+
+    @Setup
+    public void setup() {
+        final byte[] json = Fixtures.bytes(Fixtures.PRODUCT);
+        product = SphereJsonUtils.readObject(json, Product.typeReference());
+        equalProduct = SphereJsonUtils.readObject(json, Product.typeReference());
+        localizedString = LocalizedString.of(Locale.ENGLISH, "dog food").plus(Locale.GERMAN, "Hundefutter");
+    }
+
+    @Benchmark
+    public int productHashCode() {
+        return product.hashCode();
+    }
+
+    @Benchmark
+    public int productReflectionHashCode() {
+        return HashCodeBuilder.reflectionHashCode(product);
+    }
+
+    @Benchmark
+    public boolean productEquals() {
+        return product.equals(equalProduct);
+    }
+
+    @Benchmark
+    public boolean productReflectionEquals() {
+        return EqualsBuilder.reflectionEquals(product, equalProduct);
+    }
+
+    @Benchmark
+    public String productToString() {
+        return product.toString();
+    }
+
+    @Benchmark
+    public String productReflectionToString() {
+        return new ReflectionToStringBuilder(product, SdkDefaults.TO_STRING_STYLE).build();
+    }
+
+    @Benchmark
+    public int localizedStringHashCode() {
+        return localizedString.hashCode();
+    }
+
+    @Benchmark
+    public int localizedStringReflectionHashCode() {
+        return HashCodeBuilder.reflectionHashCode(localizedString);
+    }
+}
@@ -0,0 +1,44 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+final class Fixtures {
+    static final String PRODUCT = "fixtures/product.json";
+    static final String CATEGORY_QUERY_RESULT = "fixtures/category-query-result.json";
+    static final String CART_DRAFT = "fixtures/cart-draft.json";
+    static final String ORDER_IMPORT_DRAFT = "fixtures/order-import-draft.json";
+
+    private Fixtures() {
+    }
+
+    static byte[] bytes(final String resourcePath) {
+        try (final InputStream inputStream = Fixtures.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates the JSON of a query result page which contains {@code pageSize} times the fixture {@code elementResourcePath}.
+     */
+    static byte[] queryResultPage(final String elementResourcePath, final int pageSize) {
+        final String element = SphereJsonUtils.parse(bytes(elementResourcePath)).toString();
+        final String results = String.join(",", Collections.nCopies(pageSize, element));
+        final String page = "{\"offset\":0,\"count\":" + pageSize + ",\"total\":" + pageSize + ",\"results\":[" + results + "]}";
+        return page.getBytes(StandardCharsets.UTF_8);
+    }
+}
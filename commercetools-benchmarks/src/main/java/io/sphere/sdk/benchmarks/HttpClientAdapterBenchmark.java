@@ -0,0 +1,84 @@
+package io.sphere.sdk.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.sphere.sdk.http.*;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.asynchttpclient.DefaultAsyncHttpClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes GET requests against a local HTTP server to compare the adapters and the {@link ResponseExecutionStrategy}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpClientAdapterBenchmark {
+    @Param({"ahc-2.0", "apache-async"})
+    public String adapter;
+
+    @Param({"default", "io-thread"})
+    public String strategy;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient httpClient;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        final byte[] body = Fixtures.bytes(Fixtures.CATEGORY_QUERY_RESULT);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+        httpRequest = HttpRequest.of(HttpMethod.GET, "http://localhost:" + server.getAddress().getPort() + "/categories");
+        httpClient = createHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdown();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public HttpResponse execute() {
+        return httpClient.execute(httpRequest).toCompletableFuture().join();
+    }
+
+    private HttpClient createHttpClient() {
+        final ResponseExecutionStrategy responseExecutionStrategy = "io-thread".equals(strategy)
+                ? ResponseExecutionStrategy.ofIoThread()
+                : ResponseExecutionStrategy.ofDefault();
+        switch (adapter) {
+            case "ahc-2.0":
+                return AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient(), responseExecutionStrategy);
+            case "apache-async":
+                final CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+                client.start();
+                return ApacheHttpClientAdapter.of(client, responseExecutionStrategy);
+            default:
+                throw new IllegalArgumentException("unknown adapter " + adapter);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.queries.ProductQuery;
+import io.sphere.sdk.queries.PagedQueryResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of products and query result pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+    private byte[] productJson;
+    private byte[] categoryPageJson;
+    private Product product;
+
+    @Setup
+    public void setup() {
+        productJson = Fixtures.bytes(Fixtures.PRODUCT);
+        categoryPageJson = Fixtures.bytes(Fixtures.CATEGORY_QUERY_RESULT);
+        product = SphereJsonUtils.readObject(productJson, Product.typeReference());
+    }
+
+    @Benchmark
+    public Product deserializeProduct() {
+        return SphereJsonUtils.readObject(productJson, Product.typeReference());
+    }
+
+    @Benchmark
+    public PagedQueryResult<Product> deserializeProductPage(final ProductPage productPage) {
+        return SphereJsonUtils.readObject(productPage.json, ProductQuery.resultTypeReference());
+    }
+
+    @Benchmark
+    public long deserializeProductPageIncrementally(final ProductPage productPage, final Blackhole blackhole) {
+        return SphereJsonUtils.<Product>readArrayElements(productPage.json, "results", SphereJsonUtils.convertToJavaType(Product.typeReference()), blackhole::consume);
+    }
+
+    @Benchmark
+    public PagedQueryResult<Category> deserializeCategoryPage() {
+        return SphereJsonUtils.readObject(categoryPageJson, CategoryQuery.resultTypeReference());
+    }
+
+    @Benchmark
+    public String serializeProduct() {
+        return SphereJsonUtils.toJsonString(product);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ProductPage {
+        @Param({"20", "500"})
+        public int pageSize;
+
+        private byte[] json;
+
+        @Setup
+        public void setup() {
+            json = Fixtures.queryResultPage(Fixtures.PRODUCT, pageSize);
+        }
+    }
+}
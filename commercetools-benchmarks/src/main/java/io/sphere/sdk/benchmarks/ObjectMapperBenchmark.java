@@ -0,0 +1,89 @@
+package io.sphere.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.sphere.sdk.carts.CartDraft;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.orders.OrderImportDraft;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.queries.ProductQuery;
+import io.sphere.sdk.queries.PagedQueryResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the object mappers of {@link SphereJsonUtils#newObjectMapper()} and {@link SphereJsonUtils#newAcceleratedObjectMapper()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMapperBenchmark {
+    @Param({"default", "accelerated"})
+    public String profile;
+
+    private byte[] productJson;
+    private byte[] productPageJson;
+    private byte[] cartDraftJson;
+    private byte[] orderImportDraftJson;
+    private ObjectReader productReader;
+    private ObjectReader productPageReader;
+    private ObjectReader cartDraftReader;
+    private ObjectReader orderImportDraftReader;
+    private ObjectWriter writer;
+    private Product product;
+    private CartDraft cartDraft;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectMapper objectMapper = "accelerated".equals(profile)
+                ? SphereJsonUtils.newAcceleratedObjectMapper()
+                : SphereJsonUtils.newObjectMapper();
+        productJson = Fixtures.bytes(Fixtures.PRODUCT);
+        productPageJson = Fixtures.queryResultPage(Fixtures.PRODUCT, 20);
+        cartDraftJson = Fixtures.bytes(Fixtures.CART_DRAFT);
+        orderImportDraftJson = Fixtures.bytes(Fixtures.ORDER_IMPORT_DRAFT);
+        productReader = objectMapper.readerFor(SphereJsonUtils.convertToJavaType(Product.typeReference()));
+        productPageReader = objectMapper.readerFor(SphereJsonUtils.convertToJavaType(ProductQuery.resultTypeReference()));
+        cartDraftReader = objectMapper.readerFor(CartDraft.class);
+        orderImportDraftReader = objectMapper.readerFor(OrderImportDraft.class);
+        writer = objectMapper.writer();
+        product = productReader.readValue(productJson);
+        cartDraft = cartDraftReader.readValue(cartDraftJson);
+    }
+
+    @Benchmark
+    public Product readProduct() throws IOException {
+        return productReader.readValue(productJson);
+    }
+
+    @Benchmark
+    public PagedQueryResult<Product> readProductPage() throws IOException {
+        return productPageReader.readValue(productPageJson);
+    }
+
+    @Benchmark
+    public CartDraft readCartDraft() throws IOException {
+        return cartDraftReader.readValue(cartDraftJson);
+    }
+
+    @Benchmark
+    public OrderImportDraft readOrderImportDraft() throws IOException {
+        return orderImportDraftReader.readValue(orderImportDraftJson);
+    }
+
+    @Benchmark
+    public byte[] writeProduct() throws IOException {
+        return writer.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] writeCartDraft() throws IOException {
+        return writer.writeValueAsBytes(cartDraft);
+    }
+}
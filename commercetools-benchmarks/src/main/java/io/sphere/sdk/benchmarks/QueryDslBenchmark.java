@@ -0,0 +1,60 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.http.HttpRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building queries and their URLs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryDslBenchmark {
+    private CategoryQuery query;
+    private HttpRequestIntent httpRequestIntent;
+
+    @Setup
+    public void setup() {
+        query = buildQuery();
+        httpRequestIntent = query.httpRequestIntent();
+    }
+
+    @Benchmark
+    public CategoryQuery buildQuery() {
+        return CategoryQuery.of()
+                .withPredicates(m -> m.name().locale(Locale.ENGLISH).is("dog food"))
+                .plusPredicates(m -> m.parent().isPresent())
+                .withSort(m -> m.slug().locale(Locale.ENGLISH).sort().desc())
+                .withLimit(50L)
+                .withOffset(100L)
+                .plusExpansionPaths(m -> m.parent());
+    }
+
+    @Benchmark
+    public HttpRequestIntent httpRequestIntent() {
+        return query.httpRequestIntent();
+    }
+
+    @Benchmark
+    public HttpRequestIntent buildAndRenderQuery() {
+        return buildQuery().httpRequestIntent();
+    }
+
+    @Benchmark
+    public HttpRequest toHttpRequest() {
+        return httpRequestIntent.toHttpRequest("https://api.sphere.io");
+    }
+
+    @Benchmark
+    public int queryHashCode() {
+        return query.hashCode();
+    }
+}
@@ -0,0 +1,80 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.client.*;
+import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.SphereInternalLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a request without JSON mapping to measure the allocations of {@link SphereClient} itself, including the logging with disabled log levels.
+ * Run it with {@link BenchmarkMain} and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLoggingBenchmark {
+    private static final Object RESULT = new Object();
+    private SphereClient sphereClient;
+    private SphereRequest<Object> request;
+    private HttpRequest httpRequest;
+    private HttpResponse httpResponse;
+
+    @Setup
+    public void setup() {
+        final HttpRequestIntent httpRequestIntent = HttpRequestIntent.of(HttpMethod.GET, "/categories?limit=20");
+        request = new SphereRequest<Object>() {
+            @Override
+            public Object deserialize(final HttpResponse httpResponse) {
+                return RESULT;
+            }
+
+            @Override
+            public HttpRequestIntent httpRequestIntent() {
+                return httpRequestIntent;
+            }
+        };
+        httpRequest = httpRequestIntent.toHttpRequest("https://api.sphere.io/benchmark-project");
+        httpResponse = HttpResponse.of(200, new byte[0], httpRequest, null);
+        final CompletableFuture<HttpResponse> response = CompletableFuture.completedFuture(httpResponse);
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+                return response;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final SphereApiConfig config = SphereApiConfig.of("benchmark-project", "https://api.sphere.io");
+        sphereClient = SphereClient.of(config, httpClient, SphereAccessTokenSupplier.ofConstantToken("benchmark-token"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sphereClient.close();
+    }
+
+    @Benchmark
+    public Object execute() {
+        return sphereClient.execute(request).toCompletableFuture().join();
+    }
+
+    /**
+     * The lookup of the loggers by the URL of the request and of the response, as the client did it before the loggers were cached per endpoint.
+     */
+    @Benchmark
+    public boolean loggerLookupByUrl() {
+        return SphereInternalLogger.getLogger(httpRequest).isTraceEnabled() | SphereInternalLogger.getLogger(httpResponse).isTraceEnabled();
+    }
+}
@@ -0,0 +1,89 @@
+package io.sphere.sdk.benchmarks;
+
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.categories.queries.CategoryQuery;
+import io.sphere.sdk.client.*;
+import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.queries.PagedQueryResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a query with an in-memory HTTP client to measure the overhead of the client and its decorators without network I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SphereClientBenchmark {
+    @Param({"impl", "http-test-double", "queue-decorator", "limiting-decorator", "adaptive-limiting-decorator", "rate-limiting-decorator", "timeout-decorator", "caching-decorator", "coalescing-decorator"})
+    public String client;
+
+    private SphereClient sphereClient;
+    private CategoryQuery query;
+
+    @Setup
+    public void setup() {
+        final byte[] body = Fixtures.bytes(Fixtures.CATEGORY_QUERY_RESULT);
+        query = CategoryQuery.of().withLimit(20L);
+        sphereClient = createClient(body);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sphereClient.close();
+    }
+
+    @Benchmark
+    public PagedQueryResult<Category> executeQuery() {
+        return sphereClient.execute(query).toCompletableFuture().join();
+    }
+
+    private SphereClient createClient(final byte[] body) {
+        switch (client) {
+            case "impl":
+                return createSphereClientImpl(body);
+            case "http-test-double":
+                return TestDoubleSphereClientFactory.createHttpTestDouble(intent -> HttpResponse.of(200, body, null, null));
+            case "queue-decorator":
+                return QueueSphereClientDecorator.of(createSphereClientImpl(body), 10);
+            case "limiting-decorator":
+                return LimitingSphereClientDecoratorBuilder.of(createSphereClientImpl(body), 10).build();
+            case "adaptive-limiting-decorator":
+                return AdaptiveLimitingSphereClientDecoratorBuilder.of(createSphereClientImpl(body)).build();
+            case "rate-limiting-decorator":
+                return RateLimitingSphereClientDecoratorBuilder.of(createSphereClientImpl(body), Double.MAX_VALUE).build();
+            case "timeout-decorator":
+                return TimeoutSphereClientDecorator.of(createSphereClientImpl(body), Duration.ofSeconds(30));
+            case "caching-decorator":
+                return CachingSphereClientDecoratorBuilder.of(createSphereClientImpl(body)).build();
+            case "coalescing-decorator":
+                return CoalescingSphereClientDecoratorBuilder.of(createSphereClientImpl(body)).build();
+            default:
+                throw new IllegalArgumentException("unknown client " + client);
+        }
+    }
+
+    private static SphereClient createSphereClientImpl(final byte[] body) {
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+                return CompletableFuture.completedFuture(HttpResponse.of(200, body, httpRequest, null));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final SphereApiConfig config = SphereApiConfig.of("benchmark-project", "https://api.sphere.io");
+        return SphereClient.of(config, httpClient, SphereAccessTokenSupplier.ofConstantToken("benchmark-token"));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the request/response hot path of the SDK, the recorded JSON fixtures are located in {@code src/main/resources/fixtures}.
+ */
+package io.sphere.sdk.benchmarks;
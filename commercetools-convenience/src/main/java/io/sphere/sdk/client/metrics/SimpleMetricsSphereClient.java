@@ -12,6 +12,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * A decorator for {@link SphereClient}s which collects the time of serialization from and to JSON
  * as well as the time waiting for the response of the commercetools platform.
  *
+ * <p>The durations have a resolution of milliseconds and the observers are notified synchronized.
+ * For latency histograms per endpoint with nanosecond resolution and without locking use {@code io.sphere.sdk.metrics.MetricsRequestTracer} of the module commercetools-metrics.</p>
+ *
  * {@include.example io.sphere.sdk.client.metrics.SimpleMetricsSphereClientDemo}
  */
 public final class SimpleMetricsSphereClient extends SphereClientDecorator implements SphereClient {
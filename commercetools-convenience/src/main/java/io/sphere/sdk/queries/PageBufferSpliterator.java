@@ -0,0 +1,144 @@
+package io.sphere.sdk.queries;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} which is fed asynchronously with pages and blocks in {@link #tryAdvance(Consumer)} until the next page is available.
+ *
+ * <p>The buffer holds at most {@code maxBufferedPages} pages, producers get a {@link CompletionStage} from {@link #offer(List)}
+ * which completes as soon as there is space for the next page. After {@link #close()} the buffered pages are dropped and
+ * the stages of the producers fail with a {@link CancellationException}, so they stop fetching.</p>
+ *
+ * @param <T> the type of the elements
+ */
+final class PageBufferSpliterator<T> implements Spliterator<T> {
+    private static final Object END = new Object();
+    private final int maxBufferedPages;
+    private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+    private final Queue<CompletableFuture<Void>> waitingProducers = new ConcurrentLinkedQueue<>();
+    private Iterator<T> currentPage = Collections.emptyIterator();
+    private boolean finished = false;
+    private volatile boolean closed = false;
+
+    PageBufferSpliterator(final int maxBufferedPages) {
+        if (maxBufferedPages < 1) {
+            throw new IllegalArgumentException("maxBufferedPages must be at least 1 but was " + maxBufferedPages);
+        }
+        this.maxBufferedPages = maxBufferedPages;
+    }
+
+    CompletionStage<Void> offer(final List<T> page) {
+        if (closed) {
+            return cancelled();
+        }
+        buffer.add(page);
+        if (buffer.size() <= maxBufferedPages) {
+            return CompletableFuture.completedFuture(null);
+        } else {
+            final CompletableFuture<Void> spaceAvailable = new CompletableFuture<>();
+            waitingProducers.add(spaceAvailable);
+            //the consumer could have taken a page or closed the buffer between the size check and registering the producer
+            if (closed) {
+                cancelWaitingProducers();
+            } else {
+                releaseWaitingProducers();
+            }
+            return spaceAvailable;
+        }
+    }
+
+    void complete(final CompletionStage<Void> producersDone) {
+        producersDone.whenComplete((ignored, throwable) -> buffer.add(throwable != null ? throwable : END));
+    }
+
+    /**
+     * Drops the buffered pages and cancels the producers which wait for space.
+     */
+    void close() {
+        closed = true;
+        buffer.clear();
+        cancelWaitingProducers();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        while (!currentPage.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            final Object next = take();
+            releaseWaitingProducers();
+            if (next == END) {
+                finished = true;
+            } else if (next instanceof Throwable) {
+                finished = true;
+                final Throwable throwable = (Throwable) next;
+                throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+            } else {
+                currentPage = ((List<T>) next).iterator();
+            }
+        }
+        action.accept(currentPage.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    private Object take() {
+        try {
+            return buffer.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private void cancelWaitingProducers() {
+        CompletableFuture<Void> producer;
+        while ((producer = waitingProducers.poll()) != null) {
+            producer.completeExceptionally(new CancellationException("The stream has been closed."));
+        }
+    }
+
+    private static CompletionStage<Void> cancelled() {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new CancellationException("The stream has been closed."));
+        return result;
+    }
+
+    private void releaseWaitingProducers() {
+        while (buffer.size() <= maxBufferedPages) {
+            final CompletableFuture<Void> producer = waitingProducers.poll();
+            if (producer == null) {
+                break;
+            }
+            producer.complete(null);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Fetches all elements of a query with a key based pagination: the results are sorted by id and the next page
+ * is fetched with the predicate {@code id > "lastIdOfThePreviousPage"}. In contrast to the offset based pagination
+ * of {@link QueryAllImpl} it is not restricted by {@link Query#MAX_OFFSET} and it holds only a few pages in memory.
+ *
+ * <p>For parallelism the id space is split into ranges by the first hexadecimal character of the ids,
+ * every range is paginated on its own.</p>
+ *
+ * @param <T> type of one query result element
+ * @param <C> type of the query
+ */
+final class QueryAllByIdImpl<T extends Identifiable<?>, C extends QueryDsl<T, C>> {
+    private static final String HEX_CHARS = "0123456789abcdef";
+    private final C baseQuery;
+    private final long pageSize;
+    private final int parallelism;
+
+    private QueryAllByIdImpl(final QueryDsl<T, C> baseQuery, final int pageSize, final int parallelism) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1 but was " + pageSize);
+        }
+        if (parallelism < 1 || HEX_CHARS.length() % parallelism != 0) {
+            throw new IllegalArgumentException("parallelism must be one of 1, 2, 4, 8 or 16 but was " + parallelism);
+        }
+        this.baseQuery = baseQuery
+                .withSort(QuerySort.of("id asc"))
+                .withOffset(0L)
+                .withLimit(pageSize)
+                .withFetchTotal(false);
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Fetches all pages and passes them to {@code pageConsumer}. The next page of an id range is already requested
+     * while {@code pageConsumer} works on the current one but it will only be passed to {@code pageConsumer} after
+     * the {@link CompletionStage} returned by {@code pageConsumer} for the current page completed.
+     *
+     * @param client the client to perform the requests
+     * @param pageConsumer consumer which signals with the returned stage that the page has been processed
+     * @return stage which completes after all pages have been processed, cancelling it stops fetching further pages
+     */
+    CompletionStage<Void> run(final SphereClient client, final Function<List<T>, CompletionStage<?>> pageConsumer) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        final AtomicInteger runningPartitions = new AtomicInteger(parallelism);
+        final int step = HEX_CHARS.length() / parallelism;
+        for (int i = 0; i < parallelism; i++) {
+            final String lowerBound = i == 0 ? null : HEX_CHARS.substring(i * step, i * step + 1);
+            final String upperBound = i == parallelism - 1 ? null : HEX_CHARS.substring((i + 1) * step, (i + 1) * step + 1);
+            final Partition partition = new Partition(client, upperBound, pageConsumer, result, runningPartitions);
+            partition.fetch(lowerBound == null ? null : format("id >= \"%s\"", lowerBound));
+        }
+        return result;
+    }
+
+    static <T extends Identifiable<?>, C extends QueryDsl<T, C>> QueryAllByIdImpl<T, C> of(final QueryDsl<T, C> baseQuery, final int pageSize, final int parallelism) {
+        return new QueryAllByIdImpl<>(baseQuery, pageSize, parallelism);
+    }
+
+    private final class Partition {
+        private final SphereClient client;
+        @Nullable
+        private final String upperBoundPredicate;
+        private final Function<List<T>, CompletionStage<?>> pageConsumer;
+        private final CompletableFuture<Void> result;
+        private final AtomicInteger runningPartitions;
+
+        private Partition(final SphereClient client, @Nullable final String upperBound, final Function<List<T>, CompletionStage<?>> pageConsumer,
+                          final CompletableFuture<Void> result, final AtomicInteger runningPartitions) {
+            this.client = client;
+            this.upperBoundPredicate = upperBound == null ? null : format("id < \"%s\"", upperBound);
+            this.pageConsumer = pageConsumer;
+            this.result = result;
+            this.runningPartitions = runningPartitions;
+        }
+
+        private void fetch(@Nullable final String lowerBoundPredicate) {
+            fetchPage(lowerBoundPredicate).whenComplete((page, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    process(page);
+                }
+            });
+        }
+
+        /**
+         * Processes {@code firstPage} and all following pages which are already available on the current thread,
+         * a callback is only registered if the consumer or the next page are still pending. This keeps the stack
+         * flat for clients which complete synchronously.
+         */
+        private void process(@Nullable final List<T> firstPage) {
+            List<T> page = firstPage;
+            while (page != null) {
+                page = processAndPollNext(page);
+            }
+        }
+
+        @Nullable
+        private List<T> processAndPollNext(final List<T> page) {
+            if (result.isDone()) {
+                return null;
+            }
+            final boolean isLastPage = page.size() < pageSize;
+            final CompletionStage<List<T>> nextPage = isLastPage
+                    ? null
+                    : fetchPage(format("id > \"%s\"", page.get(page.size() - 1).getId()));
+            final CompletionStage<?> consumed;
+            try {
+                consumed = pageConsumer.apply(page);
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+                return null;
+            }
+            if (!isDone(consumed)) {
+                consumed.whenComplete((ignored, consumerThrowable) -> {
+                    if (consumerThrowable != null) {
+                        result.completeExceptionally(consumerThrowable);
+                    } else {
+                        process(pollNext(nextPage));
+                    }
+                });
+                return null;
+            }
+            return failed((CompletableFuture<?>) consumed) ? null : pollNext(nextPage);
+        }
+
+        /**
+         * Returns the next page if it is already available, otherwise {@code null} after the remaining work
+         * has been registered as callback or the partition has been finished.
+         */
+        @Nullable
+        private List<T> pollNext(@Nullable final CompletionStage<List<T>> nextPage) {
+            if (nextPage == null) {
+                if (runningPartitions.decrementAndGet() == 0) {
+                    result.complete(null);
+                }
+                return null;
+            }
+            if (!isDone(nextPage)) {
+                nextPage.whenComplete((next, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        process(next);
+                    }
+                });
+                return null;
+            }
+            final CompletableFuture<List<T>> done = (CompletableFuture<List<T>>) nextPage;
+            return failed(done) ? null : done.join();
+        }
+
+        private boolean failed(final CompletableFuture<?> done) {
+            try {
+                done.join();
+                return false;
+            } catch (final CompletionException e) {
+                result.completeExceptionally(e.getCause());
+                return true;
+            } catch (final CancellationException e) {
+                result.completeExceptionally(e);
+                return true;
+            }
+        }
+
+        private CompletionStage<List<T>> fetchPage(@Nullable final String lowerBoundPredicate) {
+            final List<QueryPredicate<T>> predicates = new ArrayList<>(2);
+            if (lowerBoundPredicate != null) {
+                predicates.add(QueryPredicate.of(lowerBoundPredicate));
+            }
+            if (upperBoundPredicate != null) {
+                predicates.add(QueryPredicate.of(upperBoundPredicate));
+            }
+            final C query = predicates.isEmpty() ? baseQuery : baseQuery.plusPredicates(predicates);
+            return client.execute(query).thenApply(PagedQueryResult::getResults);
+        }
+    }
+
+    private static boolean isDone(final CompletionStage<?> stage) {
+        return stage instanceof CompletableFuture && ((CompletableFuture<?>) stage).isDone();
+    }
+}
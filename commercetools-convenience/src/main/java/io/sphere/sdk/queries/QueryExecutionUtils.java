@@ -1,9 +1,14 @@
 package io.sphere.sdk.queries;
 
 import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Identifiable;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides facilities to fetch all elements matching a query predicate.
@@ -11,6 +16,8 @@ import java.util.concurrent.CompletionStage;
  */
 public final class QueryExecutionUtils {
     public static final int DEFAULT_PAGE_SIZE = 500;
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final int DEFAULT_PREFETCH_PAGES = 2;
 
     private QueryExecutionUtils() {
     }
@@ -39,4 +46,97 @@ public final class QueryExecutionUtils {
     public static <T, C extends QueryDsl<T, C>> CompletionStage<List<T>> queryAll(final SphereClient client, final QueryDsl<T, C> query, final int pageSize) {
         return QueryAllImpl.of(query, pageSize).run(client);
     }
+
+    /**
+     * Queries all elements matching a query and passes them one by one to {@code consumer}.
+     * It uses a key based pagination with page size {@value DEFAULT_PAGE_SIZE} so the memory usage depends on the page size
+     * and not on the amount of all elements.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths, the sort and offset will be overwritten
+     * @param consumer the consumer for the elements
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all elements have been passed to {@code consumer}
+     * @see #queryAll(SphereClient, QueryDsl, Consumer, int, int)
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> queryAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super T> consumer) {
+        return queryAll(client, query, consumer, DEFAULT_PAGE_SIZE, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Queries all elements matching a query and passes them one by one to {@code consumer}.
+     *
+     * <p>The elements are sorted by id and the pages are fetched with the predicate {@code id > "lastIdOfThePreviousPage"},
+     * so in contrast to the offset based pagination it works also for more than {@value Query#MAX_OFFSET} elements.
+     * While {@code consumer} processes one page the next page is already requested.</p>
+     *
+     * <p>With a {@code parallelism} greater than 1 the ids are split into ranges which are fetched concurrently,
+     * then {@code consumer} needs to be thread-safe and the elements are not ordered anymore.</p>
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths, the sort and offset will be overwritten
+     * @param consumer the consumer for the elements
+     * @param pageSize size of one batch to fetch
+     * @param parallelism the amount of id ranges which are fetched in parallel, one of 1, 2, 4, 8 or 16
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stage which completes after all elements have been passed to {@code consumer}
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> CompletionStage<Void> queryAll(final SphereClient client, final QueryDsl<T, C> query, final Consumer<? super T> consumer, final int pageSize, final int parallelism) {
+        return QueryAllByIdImpl.of(query, pageSize, parallelism).run(client, page -> {
+            page.forEach(consumer);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Provides all elements matching a query as lazy {@link Stream} which is fetched with a key based pagination,
+     * with page size {@value DEFAULT_PAGE_SIZE} and which buffers at most {@value DEFAULT_PREFETCH_PAGES} pages.
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths, the sort and offset will be overwritten
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stream of the elements
+     * @see #stream(SphereClient, QueryDsl, int, int, int)
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Stream<T> stream(final SphereClient client, final QueryDsl<T, C> query) {
+        return stream(client, query, DEFAULT_PAGE_SIZE, DEFAULT_PARALLELISM, DEFAULT_PREFETCH_PAGES);
+    }
+
+    /**
+     * Provides all elements matching a query as lazy {@link Stream}.
+     *
+     * <p>The pages are fetched in the background with the same key based pagination as {@link #queryAll(SphereClient, QueryDsl, Consumer, int, int)}.
+     * Fetching pauses if {@code prefetchPages} pages are waiting to be consumed, so a slow consumer does not cause a growing memory usage.
+     * Consuming the stream blocks the current thread until the next page is available, errors of the requests are thrown as {@link java.util.concurrent.CompletionException}.</p>
+     *
+     * <p>Closing the stream stops fetching further pages. Close it with try-with-resources if it is not consumed to the end,
+     * for example after {@link Stream#findFirst()} or {@link Stream#limit(long)}, otherwise the producers wait for space in the buffer forever:</p>
+     *
+     * <pre>{@code
+     * try (final Stream<Category> categories = QueryExecutionUtils.stream(client, CategoryQuery.of())) {
+     *     return categories.filter(category -> category.getExternalId() != null).findFirst();
+     * }
+     * }</pre>
+     *
+     * @param client commercetools client
+     * @param query query containing predicates and expansion paths, the sort and offset will be overwritten
+     * @param pageSize size of one batch to fetch
+     * @param parallelism the amount of id ranges which are fetched in parallel, one of 1, 2, 4, 8 or 16
+     * @param prefetchPages the maximal amount of fetched pages which are not yet consumed
+     * @param <T> type of one query result element
+     * @param <C> type of the query
+     * @return stream of the elements
+     */
+    public static <T extends Identifiable<?>, C extends QueryDsl<T, C>> Stream<T> stream(final SphereClient client, final QueryDsl<T, C> query, final int pageSize, final int parallelism, final int prefetchPages) {
+        final PageBufferSpliterator<T> spliterator = new PageBufferSpliterator<>(prefetchPages);
+        final CompletionStage<Void> producersDone = QueryAllByIdImpl.of(query, pageSize, parallelism).run(client, spliterator::offer);
+        spliterator.complete(producersDone);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            producersDone.toCompletableFuture().cancel(false);
+            spliterator.close();
+        });
+    }
 }
@@ -13,11 +13,19 @@ import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,12 +58,135 @@ public class QueryExecutionUtilsTest {
         withClient(clientWithDelays(16), list -> assertThat(list).isSortedAccordingTo(categoryComparator).hasSize(16));
     }
 
+    @Test
+    public void keyBasedPaginationPassesAllElementsInIdOrder() throws Exception {
+        final List<Category> elements = new CopyOnWriteArrayList<>();
+        QueryExecutionUtils.queryAll(clientWithIds(16), CategoryQuery.of(), elements::add, PAGE_SIZE, 1)
+                .toCompletableFuture().join();
+        assertThat(elements).hasSize(16).isSortedAccordingTo(Comparator.comparing(Category::getId));
+    }
+
+    @Test
+    public void keyBasedPaginationOnEmptyResult() throws Exception {
+        final List<Category> elements = new CopyOnWriteArrayList<>();
+        QueryExecutionUtils.queryAll(clientWithIds(0), CategoryQuery.of(), elements::add, PAGE_SIZE, 1)
+                .toCompletableFuture().join();
+        assertThat(elements).isEmpty();
+    }
+
+    @Test
+    public void keyBasedPaginationWithParallelIdRanges() throws Exception {
+        final List<Category> elements = new CopyOnWriteArrayList<>();
+        QueryExecutionUtils.queryAll(clientWithIds(100), CategoryQuery.of(), elements::add, PAGE_SIZE, 4)
+                .toCompletableFuture().join();
+        assertThat(elements).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void keyBasedPaginationWithSynchronousClientDoesNotGrowTheStack() throws Exception {
+        final SphereClient delegate = clientWithIds(5000);
+        final SphereClient client = new SphereClient() {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                return CompletableFuture.completedFuture(delegate.execute(request).toCompletableFuture().join());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final List<Category> elements = new CopyOnWriteArrayList<>();
+        QueryExecutionUtils.queryAll(client, CategoryQuery.of(), elements::add, 1, 1)
+                .toCompletableFuture().get(30, TimeUnit.SECONDS);
+        assertThat(elements).hasSize(5000).isSortedAccordingTo(Comparator.comparing(Category::getId));
+    }
+
+    @Test
+    public void streamWithKeyBasedPagination() throws Exception {
+        final List<Category> elements = QueryExecutionUtils.stream(clientWithIds(23), CategoryQuery.of(), PAGE_SIZE, 1, 1)
+                .collect(toList());
+        assertThat(elements).hasSize(23).isSortedAccordingTo(Comparator.comparing(Category::getId));
+    }
+
+    @Test
+    public void closingTheStreamStopsFetching() throws Exception {
+        final SphereClient delegate = clientWithIds(100);
+        final AtomicInteger requests = new AtomicInteger();
+        final SphereClient client = new SphereClient() {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                requests.incrementAndGet();
+                return CompletableFuture.completedFuture(delegate.execute(request).toCompletableFuture().join());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try (final Stream<Category> stream = QueryExecutionUtils.stream(client, CategoryQuery.of(), PAGE_SIZE, 1, 1)) {
+            assertThat(stream.findFirst()).isPresent();
+        }
+        assertThat(requests.get()).isLessThan(100 / PAGE_SIZE);
+    }
+
+    @Test
+    public void closingTheBufferCancelsWaitingProducers() throws Exception {
+        final PageBufferSpliterator<Category> spliterator = new PageBufferSpliterator<>(1);
+        assertThat(spliterator.offer(emptyList()).toCompletableFuture().isDone()).isTrue();
+        final CompletableFuture<Void> waitingProducer = spliterator.offer(emptyList()).toCompletableFuture();
+        assertThat(waitingProducer.isDone()).isFalse();
+        spliterator.close();
+        assertThat(waitingProducer.isCancelled()).isTrue();
+        assertThat(spliterator.offer(emptyList()).toCompletableFuture().isCancelled()).isTrue();
+    }
+
     private void withClient(final SphereClient client, final Consumer<List<Category>> test) {
         final List<Category> elements = QueryExecutionUtils.queryAll(client, CategoryQuery.of(), PAGE_SIZE)
                 .toCompletableFuture().join();
         test.accept(elements);
     }
 
+    private SphereClient clientWithIds(final int totalResults) {
+        final long step = 0xffffffffL / max(totalResults, 1);
+        final List<Category> categories = LongStream.range(0, totalResults)
+                .mapToObj(i -> SphereJsonUtils.readObject(String.format("{ \"id\" : \"%08x-0000-0000-0000-000000000000\" }", i * step), Category.class))
+                .collect(toList());
+        return new SphereClient() {
+            private final Pattern idComparison = Pattern.compile("id (>=|>|<) \"([^\"]+)\"");
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> request) {
+                final CategoryQuery query = (CategoryQuery) request;
+                assertThat(query.sort()).containsExactly(QuerySort.of("id asc"));
+                final Predicate<Category> matchesAll = query.predicates().stream()
+                        .map(predicate -> toJavaPredicate(predicate.toSphereQuery()))
+                        .reduce(c -> true, Predicate::and);
+                final List<Category> page = categories.stream()
+                        .filter(matchesAll)
+                        .limit(query.limit())
+                        .collect(toList());
+                return CompletableFuture.supplyAsync(() -> (T) PagedQueryResult.of(0L, (long) page.size(), page));
+            }
+
+            private Predicate<Category> toJavaPredicate(final String sphereQuery) {
+                final Matcher matcher = idComparison.matcher(sphereQuery);
+                assertThat(matcher.matches()).isTrue();
+                final String operator = matcher.group(1);
+                final String value = matcher.group(2);
+                return category -> {
+                    final int comparison = category.getId().compareTo(value);
+                    return operator.equals(">=") ? comparison >= 0 : operator.equals(">") ? comparison > 0 : comparison < 0;
+                };
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+    }
+
     private SphereClient clientWithResults(final int totalResults) {
         return client(totalResults, 0, false);
     }
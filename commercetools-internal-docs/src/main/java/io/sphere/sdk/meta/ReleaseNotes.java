@@ -85,6 +85,42 @@ import java.util.function.Function;
  </ul>
  -->
 
+ <h3 class=released-version id="v1_0_0_RC4">1.0.0-RC4 (unreleased)</h3>
+
+ <ul>
+ <li class=new-in-release>{@link io.sphere.sdk.client.LimitingSphereClientDecorator} limits the amount of parallel requests with a bounded queue, priority lanes and without a dedicated thread</li>
+ <li class=new-in-release>{@link io.sphere.sdk.queries.QueryExecutionUtils#queryAll(SphereClient, QueryDsl, java.util.function.Consumer, int, int)} and {@link io.sphere.sdk.queries.QueryExecutionUtils#stream(SphereClient, QueryDsl, int, int, int)} fetch all elements of a query with a key based pagination and constant memory usage</li>
+ <li class=new-in-release>{@link io.sphere.sdk.queries.Query#toStreamingRequest(java.util.function.Consumer)} and {@link io.sphere.sdk.json.SphereJsonUtils#readArrayElements(byte[], String, com.fasterxml.jackson.databind.JavaType, java.util.function.Consumer)} deserialize query results one by one without materializing the whole page</li>
+ <li class=new-in-release>{@link io.sphere.sdk.http.HttpClient#executeStreaming(io.sphere.sdk.http.HttpRequest)} provides the response body as {@link java.io.InputStream} while it is received, implemented by the AsyncHttpClient 2.0 and the Apache async adapters, {@link SphereRequest#acceptsStreamingResponse()} lets requests opt in</li>
+ <li class=new-in-release>{@link io.sphere.sdk.http.ResponseExecutionStrategy} configures if the HTTP client adapters complete the responses in the I/O thread, in an executor of the application or in a dedicated pool and measures the queueing time</li>
+ <li class=new-in-release>the module {@code commercetools-benchmarks} contains JMH benchmarks for the JSON mapping, the query DSL, the client decorators and the HTTP client adapters, run them with {@code java -jar commercetools-benchmarks/target/benchmarks.jar}</li>
+ <li class=new-in-release>{@link io.sphere.sdk.json.SphereJsonUtils} caches the Java types, readers and writers per type, {@link io.sphere.sdk.json.SphereJsonUtils#warmUp(com.fasterxml.jackson.databind.JavaType...)} prepares them in advance and {@link io.sphere.sdk.json.SphereJsonUtils#convertToJavaType(Class, com.fasterxml.jackson.databind.JavaType)} creates cached parametrized types</li>
+ <li class=new-in-release>{@link io.sphere.sdk.json.SphereJsonUtils#newAcceleratedObjectMapper()} creates an object mapper with the optional Afterburner module, the system property {@code sphere.json.acceleratedObjectMapper} lets the SDK use it, see {@link SphereClientTuningDocumentation}</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.CachingSphereClientDecorator} caches the results of read-only requests with a size bounded {@link io.sphere.sdk.client.SphereResponseCache}, a time to live per endpoint and only one request for concurrent misses, writes through the decorator invalidate the results of their endpoint</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.CoalescingSphereClientDecorator} shares one request among identical read requests which run at the same time, commands are not coalesced by default and the key can be normalized</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.BatchingSphereClientDecorator} combines gets by ID like {@link io.sphere.sdk.products.queries.ProductByIdGet} of a short time window into one query with an {@code id in (...)} predicate</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.RetrySphereClientDecorator} retries requests which failed with transient server errors with a {@link io.sphere.sdk.client.RetryPolicy} per exception class, exponential backoff with jitter and a retry budget</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.ConcurrentModificationRetrySphereClientDecorator} applies the update actions of commands which failed with a version conflict again to the current version</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.CircuitBreakerSphereClientDecorator} limits the parallel requests per endpoint and opens a circuit breaker per endpoint based on the failure rate and a latency percentile</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.AdaptiveLimitingSphereClientDecorator} limits the parallel requests with a limit which follows the round-trip times and shrinks on 503 responses and timeouts</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.RateLimitingSphereClientDecorator} limits the requests per second with token buckets per client and per endpoint group and pauses on {@code Retry-After} headers, see {@link io.sphere.sdk.meta.SphereClientTuningDocumentation}</li>
+ <li class=new-in-release>the new module commercetools-metrics contains {@link io.sphere.sdk.metrics.MetricsRequestTracer} which records latency histograms per endpoint, status code and request phase without locks and {@link io.sphere.sdk.metrics.MetricsSphereClientDecorator} which counts the running requests, both export the metrics through a pluggable {@link io.sphere.sdk.metrics.MetricsRegistry}, see {@link io.sphere.sdk.meta.SphereClientTuningDocumentation}</li>
+ <li class=new-in-release>{@link io.sphere.sdk.client.RequestTracer} receives a {@link io.sphere.sdk.http.RequestTrace} with the timestamps of the phases of each request like the token wait, the time to the first byte and the parsing, the requests carry the header {@value io.sphere.sdk.client.SphereHttpHeaders#X_CORRELATION_ID}, see {@link io.sphere.sdk.meta.SphereClientTuningDocumentation}</li>
+ <li class=new-in-release>the HTTP client adapters can send large request bodies gzip compressed with a {@link io.sphere.sdk.http.RequestCompression}, the body is compressed while it is written, see {@link io.sphere.sdk.meta.SphereClientTuningDocumentation}</li>
+ <li class=change-in-release>{@link io.sphere.sdk.client.QueueSphereClientDecorator} does not use an own thread anymore, queued requests are executed by the threads completing the responses</li>
+ <li class=change-in-release>the AsyncHttpClient 1.8 and 1.9 adapters do not hop between two thread pools anymore for every response and the Apache adapter does not create an unused thread pool</li>
+ <li class=change-in-release>{@link io.sphere.sdk.models.Base} looks up the fields for {@code equals}, {@code hashCode} and {@code toString} only once per class, the results stay the same. The hash code is computed only once for classes which have only final fields of primitive types, enums or immutable value types like {@link String}</li>
+ <li class=change-in-release>{@link io.sphere.sdk.products.ProductVariant} and nested attributes look up attributes by name with an index and an {@link io.sphere.sdk.products.attributes.Attribute} reuses its last decoded value for the same type unless the value is a collection or a {@link com.fasterxml.jackson.databind.JsonNode}</li>
+ <li class=change-in-release>{@link io.sphere.sdk.client.TimeoutSphereClientDecorator} uses a timer wheel shared by all clients instead of a thread per decorator, cancels the timer when the response arrives and cancels the underlying request on a timeout</li>
+ <li class=change-in-release>cancelling the stage of a {@link io.sphere.sdk.client.SphereClient} response aborts the HTTP request in all HTTP client adapters</li>
+ <li class=change-in-release>queries and searches render their {@link io.sphere.sdk.client.HttpRequestIntent} only once, so {@code equals} and {@code hashCode} are cheap and they can be used as cache keys, {@link io.sphere.sdk.http.UrlQueryBuilder} encodes the parameters in one pass</li>
+ <li class=change-in-release>searches are only equal if they have the same form body, before all searches of an endpoint were equal</li>
+ <li class=change-in-release>the client resolves the loggers of the {@link io.sphere.sdk.utils.SphereInternalLogger logger hierarchy} once per endpoint instead of parsing the URL of every request and response and creates no log messages for disabled log levels</li>
+ <li class=change-in-release>{@link io.sphere.sdk.http.HttpHeaders} looks up names case-insensitively, stores the headers in one array and creates {@link io.sphere.sdk.http.HttpHeaders#getHeadersAsMap()} only once, the adapters iterate the headers with {@link io.sphere.sdk.http.HttpHeaders#forEach(java.util.function.BiConsumer)} and the client reuses the headers for the same access token</li>
+ <li class=change-in-release>{@link io.sphere.sdk.http.HttpClientAdapterBase#threadPool()} is deprecated, adapters should complete the responses with {@link io.sphere.sdk.http.HttpClientAdapterBase#executor()} of the {@link io.sphere.sdk.http.ResponseExecutionStrategy}, the pool is only created if it is still used</li>
+ <li class=fixed-in-release>{@link io.sphere.sdk.client.ConcurrentModificationException#getCurrentVersion()} returns null instead of throwing a {@link NullPointerException} if the error response contains no version</li>
+ </ul>
+
  <h3 class=released-version id="v1_0_0_RC3">1.0.0-RC3 (11.03.2016)</h3>
 
  <ul>
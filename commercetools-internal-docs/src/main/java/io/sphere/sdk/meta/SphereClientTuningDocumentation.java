@@ -31,9 +31,59 @@ import org.asynchttpclient.AsyncHttpClient;
 
  <h3 id=timeout-client>Timeout Client</h3>
  See {@link io.sphere.sdk.client.TimeoutSphereClientDecorator}.
+ The timeouts of all clients share one timer thread and a timed out request is cancelled, so the HTTP client can free the connection.
+
+ <h3 id=retry-client>Retry transient errors</h3>
+ {@link io.sphere.sdk.client.RetrySphereClientDecorator} retries requests which failed with exceptions like {@link io.sphere.sdk.client.ServiceUnavailableException}
+ with exponential backoff and jitter. A retry budget limits the retries to a fraction of the requests, so an outage is not amplified by retries.
+ Create it with {@link io.sphere.sdk.client.RetrySphereClientDecoratorBuilder}, the policies are configured per exception class with {@link io.sphere.sdk.client.RetryPolicy}.
+
+ <h3 id=concurrent-modification-retry-client>Resolve version conflicts</h3>
+ {@link io.sphere.sdk.client.ConcurrentModificationRetrySphereClientDecorator} executes update commands which failed with a {@link io.sphere.sdk.client.ConcurrentModificationException}
+ again with the current version, for example for carts or inventory entries which are updated by many workers.
+ Create it with {@link io.sphere.sdk.client.ConcurrentModificationRetrySphereClientDecoratorBuilder}.
+
+ <h3 id=caching-client>Cache results</h3>
+ {@link io.sphere.sdk.client.CachingSphereClientDecorator} caches the results of GET requests and searches with a time to live per endpoint,
+ for example for categories and product types which are read for every page but rarely change. Create it with {@link io.sphere.sdk.client.CachingSphereClientDecoratorBuilder}.
+
+ <h3 id=coalescing-client>Coalesce identical requests</h3>
+ {@link io.sphere.sdk.client.CoalescingSphereClientDecorator} executes identical read requests which run at the same time only once without keeping the results,
+ for example if many page renderings need the same product at once. Create it with {@link io.sphere.sdk.client.CoalescingSphereClientDecoratorBuilder}.
+
+ <h3 id=batching-client>Batch gets by ID</h3>
+ {@link io.sphere.sdk.client.BatchingSphereClientDecorator} collects gets by ID of the same endpoint for a short time window and fetches them with one query,
+ for example to resolve the products of line items or the ancestors of categories with one request. Create it with {@link io.sphere.sdk.client.BatchingSphereClientDecoratorBuilder}.
 
  <h3 id=queue-client>Limit the amount of parallel requests</h3>
- See {@link io.sphere.sdk.client.QueueSphereClientDecorator}.
+ See {@link io.sphere.sdk.client.QueueSphereClientDecorator} and for a bounded queue with priorities {@link io.sphere.sdk.client.LimitingSphereClientDecorator}.
+ The right limit depends on the latency of the backend which changes during the day, {@link io.sphere.sdk.client.AdaptiveLimitingSphereClientDecorator}
+ adapts the limit to the measured round-trip times and to 503 responses and timeouts.
+
+ <h3 id=circuit-breaker-client>Isolate endpoints</h3>
+ {@link io.sphere.sdk.client.CircuitBreakerSphereClientDecorator} gives each endpoint an own limit of parallel requests and a circuit breaker,
+ so a degraded endpoint like the product search fails fast instead of slowing down the carts and orders.
+ Create it with {@link io.sphere.sdk.client.CircuitBreakerSphereClientDecoratorBuilder}.
+
+ <h3 id=rate-limiting-client>Limit the rate of requests</h3>
+ {@link io.sphere.sdk.client.RateLimitingSphereClientDecorator} limits the requests per second with token buckets for the client and optionally for endpoint groups,
+ so for example an import cannot use up the API quota which the shop needs too. Requests exceeding the rate wait or fail immediately,
+ and responses with a {@code Retry-After} header pause the dispatch.
+ Create it with {@link io.sphere.sdk.client.RateLimitingSphereClientDecoratorBuilder}.
+
+ <h3 id=metrics-client>Measure latencies</h3>
+ {@link io.sphere.sdk.metrics.MetricsRequestTracer} from the module commercetools-metrics records latency histograms per endpoint and status code
+ and for the phases token wait, serialization, HTTP wait and deserialization from the traces of the client, see <a href="#trace-requests">Trace single requests</a>.
+ {@link io.sphere.sdk.metrics.MetricsSphereClientDecorator} counts the running requests, it passes the requests unchanged so it can be placed anywhere between other decorators.
+ The metrics are exported through a {@link io.sphere.sdk.metrics.MetricsRegistry} which can be implemented for the monitoring library of the application.
+
+ <h3 id=trace-requests>Trace single requests</h3>
+ To find out where the time of a slow request went, create the client with
+ {@link io.sphere.sdk.client.SphereClient#of(io.sphere.sdk.client.SphereApiConfig, io.sphere.sdk.http.HttpClient, io.sphere.sdk.client.SphereAccessTokenSupplier, io.sphere.sdk.client.RequestTracer)}.
+ The client sends a correlation id with each traced request and passes a {@link io.sphere.sdk.http.RequestTrace} with the timestamps of the
+ {@link io.sphere.sdk.http.RequestPhase}s to the {@link io.sphere.sdk.client.RequestTracer} when the request is complete.
+ The phases between sending the request and receiving the body are recorded by the HTTP client adapters.
+ The tracer can export the traces as spans to a tracing system like OpenTelemetry and sample the requests with {@link io.sphere.sdk.client.RequestTracer#isTraced(io.sphere.sdk.client.SphereRequest)}.
 
  <h3 id=add-functionality-to-the-client>Using design patterns to add functionality to the clients</h3>
  <p>The clients are interfaces which have a default implementation (add "Impl" to the interface name).<br>
@@ -63,6 +113,26 @@ import org.asynchttpclient.AsyncHttpClient;
 
  <p>For configuration parameters refer to <a href="https://github.com/AsyncHttpClient/async-http-client">github.com/AsyncHttpClient/async-http-client</a>.</p>
 
+ <p>By default the AsyncHttpClient adapters complete the responses in an own {@link java.util.concurrent.ForkJoinPool} for each client.
+ With {@code io.sphere.sdk.http.AsyncHttpClientAdapter#of(AsyncHttpClient, ResponseExecutionStrategy)} a {@link io.sphere.sdk.http.ResponseExecutionStrategy} can be used instead:
+ {@link io.sphere.sdk.http.ResponseExecutionStrategy#ofIoThread()} saves a thread hop for every response which reduces the latency of small responses
+ as long as no code blocks in the following stages, {@link io.sphere.sdk.http.ResponseExecutionStrategy#ofExecutor(java.util.concurrent.Executor)} uses an executor of the application
+ and {@link io.sphere.sdk.http.ResponseExecutionStrategy#ofDedicatedPool(int)} a pool with a fixed size.
+ {@link io.sphere.sdk.http.ResponseExecutionStrategy#getMaxQueueingTime()} shows how long responses waited for a thread.</p>
+
+ <p id=request-compression>Large commands and imports upload faster if their bodies are compressed. All adapters accept a {@link io.sphere.sdk.http.RequestCompression}
+ as third parameter, for example {@code io.sphere.sdk.http.AsyncHttpClientAdapter#of(AsyncHttpClient, ResponseExecutionStrategy, RequestCompression)}.
+ {@link io.sphere.sdk.http.RequestCompression#ofGzip()} sends JSON bodies with at least 1024 characters gzip compressed with the fastest level,
+ {@link io.sphere.sdk.http.RequestCompression#ofGzip(int, int)} sets the threshold and the level. The body is compressed while it is written to the connection,
+ so the CPU time is spent in the I/O threads and small bodies, for which the compression saves less than it costs, should stay below the threshold.</p>
+
+ <h3 id=accelerated-json-mapping>Accelerated JSON mapping</h3>
+
+ <p>The JSON mapping of the SDK uses reflection by default. With the dependency {@code com.fasterxml.jackson.module:jackson-module-afterburner}
+ (same version as jackson-databind) and the system property {@code -Dsphere.json.acceleratedObjectMapper=true} the SDK uses generated bytecode
+ for the properties which allow it, see {@link io.sphere.sdk.json.SphereJsonUtils#newAcceleratedObjectMapper()}.
+ Measure the effect with your payloads, for example with the {@code ObjectMapperBenchmark} of the module {@code commercetools-benchmarks}.</p>
+
   */
 public final class SphereClientTuningDocumentation {
     private SphereClientTuningDocumentation() {
@@ -14,4 +14,9 @@ public class AsyncHttpClientAdapter20IntegrationTest extends HttpClientAdapterTe
     protected int port() {
         return 5015;
     }
+
+    @Override
+    protected boolean streamsResponseBody() {
+        return true;
+    }
 }
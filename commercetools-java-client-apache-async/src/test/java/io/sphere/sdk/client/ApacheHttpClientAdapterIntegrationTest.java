@@ -14,4 +14,9 @@ public class ApacheHttpClientAdapterIntegrationTest extends HttpClientAdapterTes
     protected int port() {
         return 5014;
     }
+
+    @Override
+    protected boolean streamsResponseBody() {
+        return true;
+    }
 }
@@ -0,0 +1,105 @@
+package io.sphere.sdk.client;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorates a {@link SphereClient} to limit the amount of parallel requests with a limit which adapts to the backend.
+ *
+ * <p>In contrast to {@link LimitingSphereClientDecorator} the limit is not fixed. The decorator measures the round-trip times,
+ * the limit grows while the requests are as fast as usual and shrinks if they become slower, since then the requests queue up in the backend.
+ * Requests which failed with {@link ServiceUnavailableException}, {@link GatewayTimeoutException} or {@link SphereTimeoutException}
+ * decrease the limit multiplicatively. Requests exceeding the limit wait in a queue.</p>
+ *
+ * <p>Use {@link AdaptiveLimitingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see AdaptiveLimitingSphereClientDecoratorBuilder
+ */
+public final class AdaptiveLimitingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final RequestLimiter limiter;
+    private final GradientConcurrencyLimit limit;
+    private final boolean closeUnderlyingClient;
+    private final LongSupplier nanoClock;
+
+    AdaptiveLimitingSphereClientDecorator(final SphereClient delegate, final RequestLimiter limiter, final GradientConcurrencyLimit limit,
+                                          final boolean closeUnderlyingClient, final LongSupplier nanoClock) {
+        super(delegate);
+        this.limiter = limiter;
+        this.limit = limit;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        return limiter.submit(0, () -> {
+            final long startTime = nanoClock.getAsLong();
+            //sampled before the limiter completes the result and releases the permit, so the in-flight count contains this request exactly once
+            return super.execute(sphereRequest).whenComplete((value, throwable) -> onSample(nanoClock.getAsLong() - startTime, throwable));
+        });
+    }
+
+    private void onSample(final long rttNanos, final Throwable throwable) {
+        final Throwable cause = throwable != null ? ThrowableUtils.unwrap(throwable) : null;
+        if (!(cause instanceof CancellationException)) {
+            final int newLimit = limit.onSample(rttNanos, limiter.getInFlightCount(), isDropped(cause));
+            if (newLimit != limiter.getMaxParallelRequests()) {
+                limiter.setMaxParallelRequests(newLimit);
+            }
+        }
+    }
+
+    private static boolean isDropped(final Throwable cause) {
+        return cause instanceof ServiceUnavailableException || cause instanceof GatewayTimeoutException || cause instanceof SphereTimeoutException;
+    }
+
+    /**
+     * Gets the current limit of parallel requests.
+     * @return the limit
+     */
+    public int getLimit() {
+        return limiter.getMaxParallelRequests();
+    }
+
+    /**
+     * Gets the amount of requests which have been sent but not yet completed.
+     * @return the amount of in-flight requests
+     */
+    public int getInFlightRequestCount() {
+        return limiter.getInFlightCount();
+    }
+
+    /**
+     * Gets the amount of requests which wait in the queue to be executed.
+     * @return the queue size
+     */
+    public int getQueuedRequestCount() {
+        return limiter.getQueueSize();
+    }
+
+    /**
+     * Gets the long-term average of the round-trip times which is the reference for the latest round-trip times.
+     * @return the average round-trip time, zero if no request completed yet
+     */
+    public Duration getAverageRoundTripTime() {
+        return Duration.ofNanos(limit.getLongRttNanos());
+    }
+
+    /**
+     * Gets the round-trip time of the request which completed last.
+     * @return the latest round-trip time, zero if no request completed yet
+     */
+    public Duration getLastRoundTripTime() {
+        return Duration.ofNanos(limit.getLastRttNanos());
+    }
+
+    @Override
+    public void close() {
+        limiter.close();
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
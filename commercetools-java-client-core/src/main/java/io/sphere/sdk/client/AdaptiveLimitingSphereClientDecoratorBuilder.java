@@ -0,0 +1,113 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link AdaptiveLimitingSphereClientDecorator}.
+ *
+ * <p>By default the limit starts at 20 parallel requests and adapts between 1 and 200, round-trip times up to 1.5 times the average do not shrink the limit
+ * and a dropped request decreases the limit by 10 percent. The queue is unbounded and closing the decorator closes also the underlying client.</p>
+ *
+ * <pre>{@code
+ * final AdaptiveLimitingSphereClientDecorator client = AdaptiveLimitingSphereClientDecoratorBuilder.of(delegate)
+ *         .limits(10, 5, 100)
+ *         .maxQueueSize(1000)
+ *         .build();
+ * }</pre>
+ */
+public final class AdaptiveLimitingSphereClientDecoratorBuilder extends Base implements Builder<AdaptiveLimitingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private double rttTolerance = 1.5;
+    private double backoffRatio = 0.9;
+    private int maxQueueSize = Integer.MAX_VALUE;
+    private QueueOverflowStrategy queueOverflowStrategy = QueueOverflowStrategy.REJECT;
+    private boolean closeUnderlyingClient = true;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private AdaptiveLimitingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static AdaptiveLimitingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new AdaptiveLimitingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the bounds of the limit.
+     * @param initialLimit the limit before the first measurement
+     * @param minLimit the lowest limit
+     * @param maxLimit the highest limit
+     * @return this builder
+     */
+    public AdaptiveLimitingSphereClientDecoratorBuilder limits(final int initialLimit, final int minLimit, final int maxLimit) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets the factor a round-trip time may exceed the average round-trip time before the limit shrinks.
+     * @param rttTolerance factor of at least 1
+     * @return this builder
+     */
+    public AdaptiveLimitingSphereClientDecoratorBuilder rttTolerance(final double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+        return this;
+    }
+
+    /**
+     * Sets the factor the limit is multiplied with if a request has been dropped because of overload.
+     * @param backoffRatio factor between 0 and 1 exclusive
+     * @return this builder
+     */
+    public AdaptiveLimitingSphereClientDecoratorBuilder backoffRatio(final double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Sets the maximal amount of requests which wait for execution.
+     * @param maxQueueSize the capacity of the queue, 0 means that no request will be queued
+     * @return this builder
+     */
+    public AdaptiveLimitingSphereClientDecoratorBuilder maxQueueSize(final int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    public AdaptiveLimitingSphereClientDecoratorBuilder queueOverflowStrategy(final QueueOverflowStrategy queueOverflowStrategy) {
+        this.queueOverflowStrategy = queueOverflowStrategy;
+        return this;
+    }
+
+    public AdaptiveLimitingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    /**
+     * Replaces {@link System#nanoTime()} as source of the time of the round-trip times, for tests.
+     * @param nanoClock the clock in nanoseconds
+     * @return this builder
+     */
+    AdaptiveLimitingSphereClientDecoratorBuilder nanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = requireNonNull(nanoClock);
+        return this;
+    }
+
+    @Override
+    public AdaptiveLimitingSphereClientDecorator build() {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, rttTolerance, backoffRatio);
+        final RequestLimiter limiter = new RequestLimiter(initialLimit, maxQueueSize, queueOverflowStrategy, 1);
+        return new AdaptiveLimitingSphereClientDecorator(delegate, limiter, limit, closeUnderlyingClient, nanoClock);
+    }
+}
@@ -0,0 +1,232 @@
+package io.sphere.sdk.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.UrlQueryBuilder;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.queries.Get;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Decorates a {@link SphereClient} to combine gets by ID like {@code ProductByIdGet} into one query.
+ *
+ * <p>Gets for the same endpoint with the same parameters, for example the same reference expansions, which are executed within a short time window
+ * are collected and fetched with one query with the predicate {@code id in (...)}.
+ * The batch is sent after the time window or as soon as it contains the maximal amount of gets.
+ * Each get receives the element of its ID, so resolving N references costs one HTTP request instead of N.</p>
+ *
+ * <p>A get whose ID is not in the query result behaves like the get has been executed alone and the API responded with 404,
+ * gets which accept this response like the ones of the SDK result in null, others fail with a {@link NotFoundException}.
+ * If the query fails all gets of the batch fail with its exception.</p>
+ *
+ * <p>Only gets of the form {@code /endpoint/id} with an UUID as ID are batched, all other requests are directly executed.</p>
+ *
+ * <p>Use {@link BatchingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see BatchingSphereClientDecoratorBuilder
+ */
+public final class BatchingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final Pattern GET_BY_ID_PATH = Pattern.compile("(/[^/?]+)/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?:\\?(.*))?");
+    private final Duration window;
+    private final int maxBatchSize;
+    private final boolean closeUnderlyingClient;
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final Map<String, Batch> openBatches = new HashMap<>();
+    private final LongAdder batchedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    BatchingSphereClientDecorator(final SphereClient delegate, final Duration window, final int maxBatchSize, final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final Matcher matcher = GET_BY_ID_PATH.matcher(httpRequestIntent.getPath());
+        if (!(sphereRequest instanceof Get) || httpRequestIntent.getHttpMethod() != HttpMethod.GET
+                || sphereRequest.acceptsStreamingResponse() || !matcher.matches()) {
+            return super.execute(sphereRequest);
+        }
+        final PendingGet<T> pendingGet = new PendingGet<>(sphereRequest, matcher.group(2));
+        final String batchKey = matcher.group(1) + httpRequestIntent.getPath().substring(matcher.end(2));
+        final Batch fullBatch;
+        synchronized (openBatches) {
+            Batch batch = openBatches.get(batchKey);
+            if (batch == null) {
+                batch = new Batch(batchKey, matcher.group(1), matcher.group(3));
+                openBatches.put(batchKey, batch);
+                final Batch scheduledBatch = batch;
+                batch.timeout = timer.newTimeout(() -> sendIfOpen(scheduledBatch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            batch.pendingGets.add(pendingGet);
+            if (batch.pendingGets.size() >= maxBatchSize) {
+                openBatches.remove(batchKey);
+                fullBatch = batch;
+            } else {
+                fullBatch = null;
+            }
+        }
+        if (fullBatch != null) {
+            fullBatch.timeout.cancel();
+            send(fullBatch);
+        }
+        return pendingGet.result;
+    }
+
+    private void sendIfOpen(final Batch batch) {
+        final boolean open;
+        synchronized (openBatches) {
+            open = openBatches.remove(batch.key, batch);
+        }
+        if (open) {
+            send(batch);
+        }
+    }
+
+    private void send(final Batch batch) {
+        batchedCount.add(batch.pendingGets.size());
+        if (batch.pendingGets.size() == 1) {
+            batch.pendingGets.get(0).executeAlone();
+        } else {
+            batchCount.increment();
+            final Set<String> ids = new LinkedHashSet<>();
+            batch.pendingGets.forEach(pendingGet -> ids.add(pendingGet.id));
+            super.execute(new BatchQuery(batch, ids)).whenComplete((elementsById, throwable) -> {
+                for (final PendingGet<?> pendingGet : batch.pendingGets) {
+                    if (throwable != null) {
+                        pendingGet.result.completeExceptionally(throwable);
+                    } else {
+                        pendingGet.complete(elementsById.get(pendingGet.id));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the amount of gets which have been collected in batches, including batches with only one get.
+     * @return the count of batched gets
+     */
+    public long getBatchedCount() {
+        return batchedCount.sum();
+    }
+
+    /**
+     * Gets the amount of queries which have been executed for batches of at least two gets.
+     * @return the count of batch queries
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+
+    private static final class Batch {
+        private final String key;
+        private final String endpoint;
+        private final String queryParameters;
+        private final List<PendingGet<?>> pendingGets = new ArrayList<>();
+        private HashedWheelTimer.Timeout timeout;
+
+        private Batch(final String key, final String endpoint, final String queryParameters) {
+            this.key = key;
+            this.endpoint = endpoint;
+            this.queryParameters = queryParameters;
+        }
+    }
+
+    private final class PendingGet<T> {
+        private final SphereRequest<T> sphereRequest;
+        private final String id;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private PendingGet(final SphereRequest<T> sphereRequest, final String id) {
+            this.sphereRequest = sphereRequest;
+            this.id = id;
+        }
+
+        private void executeAlone() {
+            BatchingSphereClientDecorator.super.execute(sphereRequest).whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+        private void complete(final String element) {
+            final HttpResponse httpResponse = element != null ? HttpResponse.of(200, element) : HttpResponse.of(404);
+            try {
+                if (sphereRequest.canDeserialize(httpResponse)) {
+                    result.complete(sphereRequest.deserialize(httpResponse));
+                } else {
+                    final NotFoundException exception = new NotFoundException();
+                    exception.setSphereRequest(sphereRequest);
+                    exception.setUnderlyingHttpResponse(httpResponse);
+                    result.completeExceptionally(exception);
+                }
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Queries the elements of the IDs of a batch and provides them as JSON by ID.
+     */
+    private static final class BatchQuery extends Base implements SphereRequest<Map<String, String>> {
+        private final HttpRequestIntent httpRequestIntent;
+
+        private BatchQuery(final Batch batch, final Set<String> ids) {
+            final String predicate = ids.stream().collect(joining("\", \"", "id in (\"", "\")"));
+            final String queryParameters = UrlQueryBuilder.of()
+                    .addEncoded("where", predicate)
+                    .add("limit", String.valueOf(ids.size()))
+                    .add("withTotal", "false")
+                    .build();
+            final String path = batch.endpoint + "?" + queryParameters + (batch.queryParameters != null ? "&" + batch.queryParameters : "");
+            this.httpRequestIntent = HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+
+        @Override
+        public Map<String, String> deserialize(final HttpResponse httpResponse) {
+            final JsonNode results = SphereJsonUtils.parse(httpResponse.getResponseBody()).get("results");
+            final Map<String, String> elementsById = new HashMap<>();
+            for (final JsonNode element : results) {
+                elementsById.put(element.get("id").asText(), SphereJsonUtils.toJsonString(element));
+            }
+            return elementsById;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return httpRequestIntent;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link BatchingSphereClientDecorator}.
+ *
+ * <p>By default gets are collected for 10 milliseconds or up to 100 gets per batch
+ * and closing the decorator closes also the underlying client.</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = BatchingSphereClientDecoratorBuilder.of(delegate)
+ *         .window(Duration.ofMillis(20))
+ *         .maxBatchSize(200)
+ *         .build();
+ * }</pre>
+ */
+public final class BatchingSphereClientDecoratorBuilder extends Base implements Builder<BatchingSphereClientDecorator> {
+    private static final int MAX_QUERY_LIMIT = 500;
+    private final SphereClient delegate;
+    private Duration window = Duration.ofMillis(10);
+    private int maxBatchSize = 100;
+    private boolean closeUnderlyingClient = true;
+
+    private BatchingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static BatchingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new BatchingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the time after the first get of a batch until the batch is sent, it delays the gets at most this duration.
+     * @param window the duration to collect gets
+     * @return this builder
+     */
+    public BatchingSphereClientDecoratorBuilder window(final Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative but was " + window);
+        }
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Sets the amount of gets which causes a batch to be sent before the time window ended.
+     * @param maxBatchSize the maximal amount of gets per query, at most 500 which is the query limit of the API
+     * @return this builder
+     */
+    public BatchingSphereClientDecoratorBuilder maxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize < 1 || maxBatchSize > MAX_QUERY_LIMIT) {
+            throw new IllegalArgumentException("maxBatchSize must be between 1 and " + MAX_QUERY_LIMIT + " but was " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public BatchingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public BatchingSphereClientDecorator build() {
+        return new BatchingSphereClientDecorator(requireNonNull(delegate), window, maxBatchSize, closeUnderlyingClient);
+    }
+}
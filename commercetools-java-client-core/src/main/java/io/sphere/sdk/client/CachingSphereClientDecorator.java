@@ -0,0 +1,190 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorates a {@link SphereClient} to cache the results of read-only requests, these are requests with the HTTP method GET and searches.
+ *
+ * <p>The results are cached per request class and {@link HttpRequestIntent}, so the same query of another instance is a cache hit.
+ * Each endpoint like {@code categories} can have an own time to live. Concurrent requests for an uncached result cause only one HTTP request.</p>
+ *
+ * <p>Requests which change data like update commands remove the cached results of their endpoint when they are complete,
+ * commands for products remove the product projections too. Changes which are not executed by this client, for example from other
+ * processes or from expanded references, are only visible after the time to live or after calling {@link #invalidate(String)}.
+ * SPHERE.IO does not provide ETags for revalidation.</p>
+ *
+ * <p>The cached results are shared between the callers, so they must not be modified.
+ * Results of streaming requests, failed requests, requests without a result and results which cannot be serialized to JSON are not cached.
+ * The size of a result in the cache is the length of its JSON representation.</p>
+ *
+ * <p>Use {@link CachingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see CachingSphereClientDecoratorBuilder
+ */
+public final class CachingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final SphereResponseCache<Object, Object> cache;
+    private final Duration defaultTimeToLive;
+    private final Map<String, Duration> timeToLiveByEndpoint;
+    private final boolean closeUnderlyingClient;
+    private final SingleFlight<RequestKey> singleFlight = new SingleFlight<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    CachingSphereClientDecorator(final SphereClient delegate, final SphereResponseCache<Object, Object> cache, final Duration defaultTimeToLive,
+                                 final Map<String, Duration> timeToLiveByEndpoint, final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.cache = cache;
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.timeToLiveByEndpoint = timeToLiveByEndpoint;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        if (!RequestKey.isReadOnly(sphereRequest, httpRequestIntent)) {
+            final String endpoint = RequestKey.endpointOf(httpRequestIntent);
+            final CompletionStage<T> result = super.execute(sphereRequest);
+            //also failed requests may have changed data, for example on a timeout
+            result.whenComplete((value, throwable) -> invalidateAfterWrite(endpoint));
+            return result;
+        } else if (sphereRequest.acceptsStreamingResponse()) {
+            return super.execute(sphereRequest);
+        }
+        final RequestKey key = RequestKey.of(sphereRequest, httpRequestIntent);
+        final CacheEntry entry = (CacheEntry) cache.get(key);
+        if (entry != null && !entry.isExpired()) {
+            hitCount.increment();
+            @SuppressWarnings("unchecked")
+            final T value = (T) entry.value;
+            return CompletableFuture.completedFuture(value);
+        }
+        missCount.increment();
+        return singleFlight.execute(key, () -> load(key, sphereRequest));
+    }
+
+    private <T> CompletionStage<T> load(final RequestKey key, final SphereRequest<T> sphereRequest) {
+        final long generationAtStart = generation.get();
+        //the request is passed unchanged so that decorators below can still recognize its class, for example gets and searches
+        return super.execute(sphereRequest).thenApply(value -> {
+            if (value != null && generation.get() == generationAtStart) {
+                final long weight = weightOf(value);
+                if (weight < 0) {
+                    return value;
+                }
+                final long expirationTime = System.nanoTime() + timeToLiveOf(key.getEndpoint()).toNanos();
+                cache.put(key, new CacheEntry(value, expirationTime), Math.max(1, weight));
+                if (generation.get() != generationAtStart) {
+                    //a write completed in the meantime, the value may be outdated
+                    cache.invalidate(key::equals);
+                }
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Weighs a result with the length of its JSON representation which approximates the size of the response body.
+     * @return the weight or -1 if the result cannot be serialized and should not be cached
+     */
+    private static long weightOf(final Object value) {
+        try {
+            return SphereJsonUtils.toJsonString(value).length();
+        } catch (final RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private void invalidateAfterWrite(final String endpoint) {
+        generation.incrementAndGet();
+        if (endpoint.equals("products")) {
+            cache.invalidate(key -> isOfEndpoint(key, "products") || isOfEndpoint(key, "product-projections"));
+        } else {
+            invalidate(endpoint);
+        }
+    }
+
+    /**
+     * Removes the cached results of an endpoint, for example if another process changed the data.
+     * @param endpoint the first path segment of the requests like {@code categories} or {@code product-projections}
+     */
+    public void invalidate(final String endpoint) {
+        cache.invalidate(key -> isOfEndpoint(key, endpoint));
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        cache.invalidate(key -> true);
+    }
+
+    /**
+     * Gets the amount of requests which have been answered from the cache.
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the amount of read-only requests which have not been found in the cache, including the ones which joined an already running request for the same result.
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the amount of misses which did not cause an own HTTP request since the same request was already running.
+     * @return the count of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return singleFlight.getJoinedCount();
+    }
+
+    /**
+     * Gets the amount of results which have been removed to stay under the size limit of the cache.
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+
+    private Duration timeToLiveOf(final String endpoint) {
+        return timeToLiveByEndpoint.getOrDefault(endpoint, defaultTimeToLive);
+    }
+
+    private static boolean isOfEndpoint(final Object key, final String endpoint) {
+        return key instanceof RequestKey && ((RequestKey) key).getEndpoint().equals(endpoint);
+    }
+
+    private static final class CacheEntry {
+        private final Object value;
+        private final long expirationTime;
+
+        private CacheEntry(final Object value, final long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expirationTime >= 0;
+        }
+    }
+}
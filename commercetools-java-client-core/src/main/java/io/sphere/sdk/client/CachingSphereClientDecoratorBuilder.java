@@ -0,0 +1,86 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link CachingSphereClientDecorator}.
+ *
+ * <p>By default the results are cached for one minute in a cache which keeps results with up to 32 Mi characters of JSON
+ * and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to cache categories and product types longer than other results:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = CachingSphereClientDecoratorBuilder.of(delegate)
+ *         .cache(SphereResponseCache.ofMaxWeight(100 * 1024 * 1024))
+ *         .defaultTimeToLive(Duration.ofSeconds(30))
+ *         .timeToLive("categories", Duration.ofMinutes(10))
+ *         .timeToLive("product-types", Duration.ofMinutes(10))
+ *         .build();
+ * }</pre>
+ */
+public final class CachingSphereClientDecoratorBuilder extends Base implements Builder<CachingSphereClientDecorator> {
+    private static final long DEFAULT_MAX_WEIGHT = 32 * 1024 * 1024;
+    private final SphereClient delegate;
+    private SphereResponseCache<Object, Object> cache;
+    private Duration defaultTimeToLive = Duration.ofMinutes(1);
+    private final Map<String, Duration> timeToLiveByEndpoint = new HashMap<>();
+    private boolean closeUnderlyingClient = true;
+
+    private CachingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CachingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new CachingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the cache which stores the results and decides which results are evicted.
+     * @param cache the cache
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder cache(final SphereResponseCache<Object, Object> cache) {
+        this.cache = requireNonNull(cache);
+        return this;
+    }
+
+    /**
+     * Sets the time to live of the results of endpoints without an own time to live.
+     * @param timeToLive the duration a result is used after it has been fetched
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder defaultTimeToLive(final Duration timeToLive) {
+        this.defaultTimeToLive = requireNonNull(timeToLive);
+        return this;
+    }
+
+    /**
+     * Sets the time to live of the results of one endpoint.
+     * @param endpoint the first path segment of the requests like {@code categories} or {@code product-projections}
+     * @param timeToLive the duration a result is used after it has been fetched
+     * @return this builder
+     */
+    public CachingSphereClientDecoratorBuilder timeToLive(final String endpoint, final Duration timeToLive) {
+        timeToLiveByEndpoint.put(requireNonNull(endpoint), requireNonNull(timeToLive));
+        return this;
+    }
+
+    public CachingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public CachingSphereClientDecorator build() {
+        final SphereResponseCache<Object, Object> cache = this.cache != null ? this.cache : SphereResponseCache.ofMaxWeight(DEFAULT_MAX_WEIGHT);
+        return new CachingSphereClientDecorator(delegate, cache, defaultTimeToLive, new HashMap<>(timeToLiveByEndpoint), closeUnderlyingClient);
+    }
+}
@@ -0,0 +1,126 @@
+package io.sphere.sdk.client;
+
+/**
+ * Circuit breaker which opens if too many of the last calls failed or were slow.
+ *
+ * <p>The outcomes of the last {@code windowSize} calls are kept in a ring buffer with running counts, so recording is constant time.
+ * A latency percentile exceeds the threshold exactly if more than {@code 1 - percentile} of the calls are slower than the threshold,
+ * so no sorting of latencies is necessary.</p>
+ *
+ * <p>Each state change starts a new generation. {@link #tryAcquire(long)} returns the generation as permit and outcomes of permits
+ * of an older generation are ignored, so calls which started before the circuit opened cannot count as trial calls
+ * and cannot give back trial permits.</p>
+ */
+final class CircuitBreaker {
+    static final long REJECTED = -1;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int index = 0;
+    private int count = 0;
+    private int failureCount = 0;
+    private int slowCount = 0;
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long generation = 0;
+
+    CircuitBreaker(final int windowSize, final int minimumCalls, final double failureRateThreshold,
+                   final double latencyPercentile, final long slowCallNanos, final long openNanos, final int halfOpenCalls) {
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = 1 - latencyPercentile;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * Checks if a call may be executed, in the half-open state this uses up one of the trial calls.
+     * @param now the current time of the nano clock
+     * @return the permit for {@link #release(long)} or {@link #record(long, boolean, long, long)}, {@link #REJECTED} if the call may not be executed
+     */
+    synchronized long tryAcquire(final long now) {
+        if (state == CircuitBreakerState.OPEN && now - openedAt >= openNanos) {
+            state = CircuitBreakerState.HALF_OPEN;
+            generation++;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (halfOpenPermits > 0) {
+                halfOpenPermits--;
+                return generation;
+            }
+            return REJECTED;
+        }
+        return state == CircuitBreakerState.CLOSED ? generation : REJECTED;
+    }
+
+    /**
+     * Gives back a permit of a call which has not been executed or whose outcome says nothing about the endpoint.
+     * @param permit the permit of {@link #tryAcquire(long)}
+     */
+    synchronized void release(final long permit) {
+        if (permit == generation && state == CircuitBreakerState.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void record(final long permit, final boolean failure, final long durationNanos, final long now) {
+        if (permit != generation) {
+            //the call started before the last state change
+            return;
+        }
+        final boolean slowCall = durationNanos > slowCallNanos;
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (failure || slowCall) {
+                open(now);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == CircuitBreakerState.CLOSED) {
+            if (count == failed.length) {
+                failureCount -= failed[index] ? 1 : 0;
+                slowCount -= slow[index] ? 1 : 0;
+            } else {
+                count++;
+            }
+            failed[index] = failure;
+            slow[index] = slowCall;
+            failureCount += failure ? 1 : 0;
+            slowCount += slowCall ? 1 : 0;
+            index = (index + 1) % failed.length;
+            if (count >= minimumCalls && (failureCount >= failureRateThreshold * count || slowCount > slowCallRateThreshold * count)) {
+                open(now);
+            }
+        }
+    }
+
+    synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    private void open(final long now) {
+        state = CircuitBreakerState.OPEN;
+        generation++;
+        openedAt = now;
+    }
+
+    private void close() {
+        state = CircuitBreakerState.CLOSED;
+        generation++;
+        index = 0;
+        count = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+}
@@ -0,0 +1,13 @@
+package io.sphere.sdk.client;
+
+/**
+ * Exception which is thrown if {@link CircuitBreakerSphereClientDecorator} refuses a request since the endpoint failed or responded too slowly recently.
+ * The request has not been sent to the commercetools platform.
+ */
+public class CircuitBreakerOpenException extends RequestRejectedException {
+    static final long serialVersionUID = 0L;
+
+    public CircuitBreakerOpenException(final String message) {
+        super(message);
+    }
+}
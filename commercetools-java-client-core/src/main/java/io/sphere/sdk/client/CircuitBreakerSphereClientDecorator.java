@@ -0,0 +1,146 @@
+package io.sphere.sdk.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Decorates a {@link SphereClient} to isolate the endpoints like {@code product-projections} or {@code carts} from each other.
+ *
+ * <p>Each endpoint has an own bulkhead which limits its parallel requests and queued requests, so a slow endpoint cannot occupy all connections.
+ * Requests exceeding the limits fail with a {@link RequestRejectedException}.</p>
+ *
+ * <p>Each endpoint has also an own circuit breaker. It opens if too many of the recent requests failed or if a latency percentile exceeds a threshold.
+ * While it is open the requests of the endpoint fail immediately with a {@link CircuitBreakerOpenException}. After a while a few trial requests are executed,
+ * if they succeed the circuit closes again, otherwise it stays open for another period.
+ * By default server errors, timeouts and errors without HTTP response count as failures, client errors like {@link NotFoundException} do not.</p>
+ *
+ * <p>Use {@link CircuitBreakerSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see CircuitBreakerSphereClientDecoratorBuilder
+ */
+public final class CircuitBreakerSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    private final int maxParallelRequests;
+    private final Map<String, Integer> maxParallelRequestsByEndpoint;
+    private final int maxQueueSize;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double latencyPercentile;
+    private final long latencyThresholdNanos;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final Predicate<? super Throwable> failurePredicate;
+    private final boolean closeUnderlyingClient;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+    private final LongAdder circuitOpenRejectionCount = new LongAdder();
+
+    CircuitBreakerSphereClientDecorator(final SphereClient delegate, final CircuitBreakerSphereClientDecoratorBuilder builder) {
+        super(delegate);
+        this.maxParallelRequests = builder.maxParallelRequests;
+        this.maxParallelRequestsByEndpoint = new HashMap<>(builder.maxParallelRequestsByEndpoint);
+        this.maxQueueSize = builder.maxQueueSize;
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.latencyPercentile = builder.latencyPercentile;
+        this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+        this.openDurationNanos = builder.openDuration.toNanos();
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.failurePredicate = builder.failurePredicate;
+        this.closeUnderlyingClient = builder.closeUnderlyingClient;
+        this.nanoClock = builder.nanoClock;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final String endpoint = RequestKey.endpointOf(sphereRequest.httpRequestIntent());
+        final EndpointGuard guard = guards.computeIfAbsent(endpoint, this::createGuard);
+        final long permit = guard.circuitBreaker.tryAcquire(nanoClock.getAsLong());
+        if (permit == CircuitBreaker.REJECTED) {
+            circuitOpenRejectionCount.increment();
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(new CircuitBreakerOpenException("The circuit breaker of the endpoint " + endpoint + " is open."));
+            return result;
+        }
+        final AtomicLong startTime = new AtomicLong(NOT_STARTED);
+        final CompletionStage<T> result = guard.bulkhead.submit(0, () -> {
+            startTime.set(nanoClock.getAsLong());
+            return super.execute(sphereRequest);
+        });
+        result.whenComplete((value, throwable) -> {
+            final long now = nanoClock.getAsLong();
+            final Throwable cause = throwable != null ? ThrowableUtils.unwrap(throwable) : null;
+            if (startTime.get() == NOT_STARTED || cause instanceof RequestRejectedException || cause instanceof CancellationException) {
+                //not executed or no information about the endpoint
+                guard.circuitBreaker.release(permit);
+            } else {
+                guard.circuitBreaker.record(permit, cause != null && failurePredicate.test(cause), now - startTime.get(), now);
+            }
+        });
+        return result;
+    }
+
+    private EndpointGuard createGuard(final String endpoint) {
+        final RequestLimiter bulkhead = new RequestLimiter(maxParallelRequestsByEndpoint.getOrDefault(endpoint, maxParallelRequests),
+                maxQueueSize, QueueOverflowStrategy.REJECT, 1);
+        final CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                latencyPercentile, latencyThresholdNanos, openDurationNanos, halfOpenCalls);
+        return new EndpointGuard(bulkhead, circuitBreaker);
+    }
+
+    /**
+     * Gets the state of the circuit breaker of an endpoint.
+     * @param endpoint the first path segment of the requests like {@code carts} or {@code product-projections}
+     * @return the state, {@link CircuitBreakerState#CLOSED} for endpoints which have not been used yet
+     */
+    public CircuitBreakerState getState(final String endpoint) {
+        final EndpointGuard guard = guards.get(endpoint);
+        return guard != null ? guard.circuitBreaker.getState() : CircuitBreakerState.CLOSED;
+    }
+
+    /**
+     * Gets the amount of requests of an endpoint which have been sent but not yet completed.
+     * @param endpoint the first path segment of the requests like {@code carts} or {@code product-projections}
+     * @return the amount of in-flight requests
+     */
+    public int getInFlightRequestCount(final String endpoint) {
+        final EndpointGuard guard = guards.get(endpoint);
+        return guard != null ? guard.bulkhead.getInFlightCount() : 0;
+    }
+
+    /**
+     * Gets the amount of requests which failed immediately since the circuit breaker of their endpoint was open.
+     * @return the count of rejected requests
+     */
+    public long getCircuitOpenRejectionCount() {
+        return circuitOpenRejectionCount.sum();
+    }
+
+    @Override
+    public void close() {
+        guards.values().forEach(guard -> guard.bulkhead.close());
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+
+    private static final class EndpointGuard {
+        private final RequestLimiter bulkhead;
+        private final CircuitBreaker circuitBreaker;
+
+        private EndpointGuard(final RequestLimiter bulkhead, final CircuitBreaker circuitBreaker) {
+            this.bulkhead = bulkhead;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+import io.sphere.sdk.models.SphereException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link CircuitBreakerSphereClientDecorator}.
+ *
+ * <p>By default each endpoint executes up to 50 parallel requests and queues up to 100 further requests.
+ * Its circuit breaker evaluates the last 100 requests once there are at least 20 and opens if half of them failed
+ * or if the 95th percentile of the latencies exceeds five seconds. It stays open for ten seconds and closes again after five successful trial requests.
+ * Closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to give the search a small bulkhead which cannot slow down the checkout:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+ *         .maxParallelRequests("product-projections", 20)
+ *         .latencyThreshold(0.99, Duration.ofSeconds(2))
+ *         .build();
+ * }</pre>
+ */
+public final class CircuitBreakerSphereClientDecoratorBuilder extends Base implements Builder<CircuitBreakerSphereClientDecorator> {
+    private final SphereClient delegate;
+    int maxParallelRequests = 50;
+    final Map<String, Integer> maxParallelRequestsByEndpoint = new HashMap<>();
+    int maxQueueSize = 100;
+    int windowSize = 100;
+    int minimumCalls = 20;
+    double failureRateThreshold = 0.5;
+    double latencyPercentile = 0.95;
+    Duration latencyThreshold = Duration.ofSeconds(5);
+    Duration openDuration = Duration.ofSeconds(10);
+    int halfOpenCalls = 5;
+    Predicate<? super Throwable> failurePredicate = CircuitBreakerSphereClientDecoratorBuilder::isServerFailure;
+    boolean closeUnderlyingClient = true;
+    LongSupplier nanoClock = System::nanoTime;
+
+    private CircuitBreakerSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CircuitBreakerSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new CircuitBreakerSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the amount of parallel requests per endpoint.
+     * @param maxParallelRequests the maximal amount of requests of one endpoint which await a response
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder maxParallelRequests(final int maxParallelRequests) {
+        this.maxParallelRequests = requirePositive(maxParallelRequests, "maxParallelRequests");
+        return this;
+    }
+
+    /**
+     * Sets the amount of parallel requests of one endpoint.
+     * @param endpoint the first path segment of the requests like {@code carts} or {@code product-projections}
+     * @param maxParallelRequests the maximal amount of requests of the endpoint which await a response
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder maxParallelRequests(final String endpoint, final int maxParallelRequests) {
+        maxParallelRequestsByEndpoint.put(requireNonNull(endpoint), requirePositive(maxParallelRequests, "maxParallelRequests"));
+        return this;
+    }
+
+    /**
+     * Sets the amount of requests per endpoint which wait for a free slot, further requests are rejected.
+     * @param maxQueueSize the maximal amount of waiting requests of one endpoint, 0 to reject requests as soon as the parallel requests are exhausted
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder maxQueueSize(final int maxQueueSize) {
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative but was " + maxQueueSize);
+        }
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Sets the amount of recent requests which are evaluated by the circuit breaker.
+     * @param windowSize the amount of requests whose outcomes are kept
+     * @param minimumCalls the amount of requests which are necessary before the circuit breaker can open
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder slidingWindow(final int windowSize, final int minimumCalls) {
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("the sizes must satisfy 1 <= minimumCalls <= windowSize but were " + minimumCalls + " and " + windowSize);
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of failed requests which opens the circuit.
+     * @param failureRateThreshold the fraction between 0 exclusive and 1 inclusive
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder failureRateThreshold(final double failureRateThreshold) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1] but was " + failureRateThreshold);
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the latency which opens the circuit if the given percentile of the recent requests exceeds it.
+     * @param percentile the percentile like 0.95 for the 95th percentile
+     * @param latencyThreshold the latency
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder latencyThreshold(final double percentile, final Duration latencyThreshold) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1] but was " + percentile);
+        }
+        this.latencyPercentile = percentile;
+        this.latencyThreshold = requireNonNull(latencyThreshold);
+        return this;
+    }
+
+    /**
+     * Sets how long the circuit stays open before trial requests are executed.
+     * @param openDuration the duration
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder openDuration(final Duration openDuration) {
+        this.openDuration = requireNonNull(openDuration);
+        return this;
+    }
+
+    /**
+     * Sets the amount of successful trial requests which close the circuit again.
+     * @param halfOpenCalls the amount of trial requests
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder halfOpenCalls(final int halfOpenCalls) {
+        this.halfOpenCalls = requirePositive(halfOpenCalls, "halfOpenCalls");
+        return this;
+    }
+
+    /**
+     * Sets which exceptions count as failures of the endpoint, other exceptions count as successful requests.
+     * @param failurePredicate predicate for the exceptions, the default accepts server errors, timeouts and exceptions without a response
+     * @return this builder
+     */
+    public CircuitBreakerSphereClientDecoratorBuilder failurePredicate(final Predicate<? super Throwable> failurePredicate) {
+        this.failurePredicate = requireNonNull(failurePredicate);
+        return this;
+    }
+
+    public CircuitBreakerSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    /**
+     * Replaces {@link System#nanoTime()} as source of the open duration and the latencies, for tests.
+     * @param nanoClock the clock in nanoseconds
+     * @return this builder
+     */
+    CircuitBreakerSphereClientDecoratorBuilder nanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = requireNonNull(nanoClock);
+        return this;
+    }
+
+    @Override
+    public CircuitBreakerSphereClientDecorator build() {
+        return new CircuitBreakerSphereClientDecorator(delegate, this);
+    }
+
+    private static boolean isServerFailure(final Throwable throwable) {
+        return throwable instanceof ServerErrorException || throwable instanceof SphereTimeoutException || !(throwable instanceof SphereException);
+    }
+
+    private static int requirePositive(final int value, final String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1 but was " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package io.sphere.sdk.client;
+
+/**
+ * State of the circuit breaker of an endpoint in {@link CircuitBreakerSphereClientDecorator}.
+ */
+public enum CircuitBreakerState {
+    /**
+     * Requests are executed and their outcomes are recorded.
+     */
+    CLOSED,
+    /**
+     * Requests fail immediately with a {@link CircuitBreakerOpenException}.
+     */
+    OPEN,
+    /**
+     * A limited amount of trial requests is executed to check if the endpoint recovered.
+     */
+    HALF_OPEN
+}
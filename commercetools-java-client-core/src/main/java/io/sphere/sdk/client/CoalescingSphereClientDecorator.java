@@ -0,0 +1,67 @@
+package io.sphere.sdk.client;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Decorates a {@link SphereClient} to execute identical requests which run at the same time only once.
+ *
+ * <p>Requests are identical if they are of the same class and have the same HTTP method, path and body.
+ * A request which arrives while an identical request is running does not cause an own HTTP request
+ * but gets the result of the running request. In contrast to {@link CachingSphereClientDecorator} no result is kept after the request completed.</p>
+ *
+ * <p>By default only read-only requests are coalesced, these are requests with the HTTP method GET and searches.
+ * Results of streaming requests are never shared. The shared results must not be modified by the callers.</p>
+ *
+ * <p>Use {@link CoalescingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see CoalescingSphereClientDecoratorBuilder
+ */
+public final class CoalescingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final Predicate<? super SphereRequest<?>> coalescingPredicate;
+    private final Function<? super HttpRequestIntent, ? extends HttpRequestIntent> keyNormalizer;
+    private final boolean closeUnderlyingClient;
+    private final SingleFlight<RequestKey> singleFlight = new SingleFlight<>();
+
+    CoalescingSphereClientDecorator(final SphereClient delegate, final Predicate<? super SphereRequest<?>> coalescingPredicate,
+                                    final Function<? super HttpRequestIntent, ? extends HttpRequestIntent> keyNormalizer,
+                                    final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.coalescingPredicate = coalescingPredicate;
+        this.keyNormalizer = keyNormalizer;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        if (sphereRequest.acceptsStreamingResponse() || !coalescingPredicate.test(sphereRequest)) {
+            return super.execute(sphereRequest);
+        }
+        final RequestKey key = RequestKey.of(sphereRequest, keyNormalizer.apply(sphereRequest.httpRequestIntent()));
+        return singleFlight.execute(key, () -> super.execute(sphereRequest));
+    }
+
+    /**
+     * Gets the amount of requests which did not cause an own HTTP request since an identical request was already running.
+     * @return the count of coalesced requests
+     */
+    public long getCoalescedCount() {
+        return singleFlight.getJoinedCount();
+    }
+
+    /**
+     * Gets the amount of distinct requests which are currently running and can be joined.
+     * @return the count of running requests
+     */
+    public int getInFlightCount() {
+        return singleFlight.getInFlightCount();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link CoalescingSphereClientDecorator}.
+ *
+ * <p>By default read-only requests are coalesced if their HTTP request intents are equal
+ * and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to coalesce queries whose paths differ only in the order of the parameters:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = CoalescingSphereClientDecoratorBuilder.of(delegate)
+ *         .keyNormalizer(intent -> HttpRequestIntent.of(intent.getHttpMethod(), sortParameters(intent.getPath()), intent.getBody()))
+ *         .build();
+ * }</pre>
+ */
+public final class CoalescingSphereClientDecoratorBuilder extends Base implements Builder<CoalescingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private Predicate<? super SphereRequest<?>> coalescingPredicate = RequestKey::isReadOnly;
+    private Function<? super HttpRequestIntent, ? extends HttpRequestIntent> keyNormalizer = Function.identity();
+    private boolean closeUnderlyingClient = true;
+
+    private CoalescingSphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static CoalescingSphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new CoalescingSphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets which requests may be coalesced, the default accepts requests with the HTTP method GET and searches.
+     * Commands should not be coalesced since each of them is meant to change data.
+     * @param coalescingPredicate predicate which returns true for requests which may share the result of an identical running request
+     * @return this builder
+     */
+    public CoalescingSphereClientDecoratorBuilder coalescingPredicate(final Predicate<? super SphereRequest<?>> coalescingPredicate) {
+        this.coalescingPredicate = requireNonNull(coalescingPredicate);
+        return this;
+    }
+
+    /**
+     * Sets a function which maps the HTTP request intent of a request to the intent used to detect identical requests,
+     * for example to ignore the order of query parameters. The request itself is executed unchanged.
+     * @param keyNormalizer the function to normalize the intents
+     * @return this builder
+     */
+    public CoalescingSphereClientDecoratorBuilder keyNormalizer(final Function<? super HttpRequestIntent, ? extends HttpRequestIntent> keyNormalizer) {
+        this.keyNormalizer = requireNonNull(keyNormalizer);
+        return this;
+    }
+
+    public CoalescingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public CoalescingSphereClientDecorator build() {
+        return new CoalescingSphereClientDecorator(delegate, coalescingPredicate, keyNormalizer, closeUnderlyingClient);
+    }
+}
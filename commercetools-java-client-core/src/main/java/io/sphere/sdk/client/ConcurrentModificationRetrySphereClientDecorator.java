@@ -0,0 +1,190 @@
+package io.sphere.sdk.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.commands.UpdateCommandDsl;
+import io.sphere.sdk.http.HttpMethod;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Decorates a {@link SphereClient} to execute update commands which failed with a {@link ConcurrentModificationException} again with the current version.
+ *
+ * <p>The command is copied with {@link UpdateCommandDsl#withVersion(Long)}, so the same update actions are applied to the current state of the resource.
+ * The current version is taken from the error response, if it does not contain the version the resource is fetched.
+ * The amount of attempts and optional delays between them are defined by a {@link RetryPolicy}.</p>
+ *
+ * <p>This is only correct for update actions which do not depend on the state the user has seen, like adding a line item to a cart
+ * or changing the quantity of an inventory entry. Commands which must not overwrite concurrent changes can be excluded with
+ * {@link ConcurrentModificationRetrySphereClientDecoratorBuilder#commandPredicate(Predicate)}.</p>
+ *
+ * <p>Cancelling the result of a command cancels its running attempt or the running fetch of the current version.</p>
+ *
+ * <p>Use {@link ConcurrentModificationRetrySphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see ConcurrentModificationRetrySphereClientDecoratorBuilder
+ */
+public final class ConcurrentModificationRetrySphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final RetryPolicy retryPolicy;
+    private final Predicate<? super UpdateCommandDsl<?, ?>> commandPredicate;
+    private final boolean closeUnderlyingClient;
+    private final LongAdder conflictCount = new LongAdder();
+    private final LongAdder fetchCount = new LongAdder();
+    private final LongAdder giveUpCount = new LongAdder();
+
+    ConcurrentModificationRetrySphereClientDecorator(final SphereClient delegate, final RetryPolicy retryPolicy,
+                                                     final Predicate<? super UpdateCommandDsl<?, ?>> commandPredicate,
+                                                     final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.retryPolicy = retryPolicy;
+        this.commandPredicate = commandPredicate;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        if (!(sphereRequest instanceof UpdateCommandDsl) || !commandPredicate.test((UpdateCommandDsl<?, ?>) sphereRequest)) {
+            return super.execute(sphereRequest);
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicReference<CompletionStage<?>> runningStage = new AtomicReference<>();
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                cancel(runningStage.get());
+            }
+        });
+        attempt(sphereRequest, 1, result, runningStage);
+        return result;
+    }
+
+    private <T> void attempt(final SphereRequest<T> command, final int attempt, final CompletableFuture<T> result,
+                             final AtomicReference<CompletionStage<?>> runningStage) {
+        if (result.isDone()) {
+            //cancelled by the caller
+            return;
+        }
+        final CompletionStage<T> stage;
+        try {
+            stage = super.execute(command);
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        if (!track(stage, result, runningStage)) {
+            return;
+        }
+        stage.whenComplete((value, throwable) -> {
+            try {
+                onAttemptCompleted(command, attempt, result, runningStage, value, throwable);
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private <T> void onAttemptCompleted(final SphereRequest<T> command, final int attempt, final CompletableFuture<T> result,
+                                        final AtomicReference<CompletionStage<?>> runningStage, final T value, final Throwable throwable) {
+        final Throwable cause = throwable != null ? ThrowableUtils.unwrap(throwable) : null;
+        if (throwable == null) {
+            result.complete(value);
+        } else if (!(cause instanceof ConcurrentModificationException) || result.isDone()) {
+            result.completeExceptionally(throwable);
+        } else if (attempt >= retryPolicy.getMaxAttempts()) {
+            giveUpCount.increment();
+            ((ConcurrentModificationException) cause).addNote("The command failed " + attempt + " times with a version conflict.");
+            result.completeExceptionally(throwable);
+        } else {
+            conflictCount.increment();
+            final CompletionStage<Long> currentVersion = currentVersion(command, (ConcurrentModificationException) cause);
+            if (!track(currentVersion, result, runningStage)) {
+                return;
+            }
+            currentVersion.thenAccept(version -> {
+                final SphereRequest<T> nextCommand = withVersion(command, version);
+                final long delayNanos = retryPolicy.nextDelayNanos(attempt);
+                if (delayNanos > 0) {
+                    timer.newTimeout(() -> attempt(nextCommand, attempt + 1, result, runningStage), delayNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    attempt(nextCommand, attempt + 1, result, runningStage);
+                }
+            }).exceptionally(e -> {
+                result.completeExceptionally(e);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Remembers the stage of a running request, so it can be cancelled together with the result.
+     * @return false if the result has already been cancelled and the stage has been cancelled too
+     */
+    private static boolean track(final CompletionStage<?> stage, final CompletableFuture<?> result, final AtomicReference<CompletionStage<?>> runningStage) {
+        runningStage.set(stage);
+        if (result.isCancelled()) {
+            cancel(stage);
+            return false;
+        }
+        return true;
+    }
+
+    private static void cancel(@Nullable final CompletionStage<?> stage) {
+        if (stage instanceof Future) {
+            ((Future<?>) stage).cancel(true);
+        }
+    }
+
+    private CompletionStage<Long> currentVersion(final SphereRequest<?> command, final ConcurrentModificationException exception) {
+        final Long currentVersion = exception.getCurrentVersion();
+        if (currentVersion != null) {
+            return CompletableFuture.completedFuture(currentVersion);
+        }
+        fetchCount.increment();
+        final String path = command.httpRequestIntent().getPath();
+        final int queryStart = path.indexOf('?');
+        final JsonNodeSphereRequest get = JsonNodeSphereRequest.of(HttpMethod.GET, queryStart >= 0 ? path.substring(0, queryStart) : path);
+        return super.execute(get).thenApply(resource -> resource.get("version").asLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SphereRequest<T> withVersion(final SphereRequest<T> command, final Long version) {
+        return (SphereRequest<T>) ((UpdateCommandDsl<?, ?>) command).withVersion(version);
+    }
+
+    /**
+     * Gets the amount of version conflicts which caused a new attempt.
+     * @return the conflict count
+     */
+    public long getConflictCount() {
+        return conflictCount.sum();
+    }
+
+    /**
+     * Gets the amount of resources which have been fetched since the error response did not contain the current version.
+     * @return the fetch count
+     */
+    public long getFetchCount() {
+        return fetchCount.sum();
+    }
+
+    /**
+     * Gets the amount of commands which failed since all attempts resulted in a version conflict.
+     * @return the count of commands given up
+     */
+    public long getGiveUpCount() {
+        return giveUpCount.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.commands.UpdateCommandDsl;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link ConcurrentModificationRetrySphereClientDecorator}.
+ *
+ * <p>By default all update commands are executed up to five times without delays and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to retry only commands for carts and inventory entries with short random delays:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate)
+ *         .commandPredicate(command -> command instanceof CartUpdateCommand || command instanceof InventoryEntryUpdateCommand)
+ *         .retryPolicy(RetryPolicy.of(10, Duration.ofMillis(10), Duration.ofMillis(200)))
+ *         .build();
+ * }</pre>
+ */
+public final class ConcurrentModificationRetrySphereClientDecoratorBuilder extends Base implements Builder<ConcurrentModificationRetrySphereClientDecorator> {
+    private final SphereClient delegate;
+    private RetryPolicy retryPolicy = RetryPolicy.of(5, Duration.ZERO, Duration.ZERO);
+    private Predicate<? super UpdateCommandDsl<?, ?>> commandPredicate = command -> true;
+    private boolean closeUnderlyingClient = true;
+
+    private ConcurrentModificationRetrySphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public static ConcurrentModificationRetrySphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new ConcurrentModificationRetrySphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the maximal amount of attempts per command and the delays between them.
+     * @param retryPolicy the policy
+     * @return this builder
+     */
+    public ConcurrentModificationRetrySphereClientDecoratorBuilder retryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = requireNonNull(retryPolicy);
+        return this;
+    }
+
+    /**
+     * Sets which update commands are executed again with the current version, the default accepts all of them.
+     * @param commandPredicate predicate which returns true for commands whose update actions can be applied to the current version
+     * @return this builder
+     */
+    public ConcurrentModificationRetrySphereClientDecoratorBuilder commandPredicate(final Predicate<? super UpdateCommandDsl<?, ?>> commandPredicate) {
+        this.commandPredicate = requireNonNull(commandPredicate);
+        return this;
+    }
+
+    public ConcurrentModificationRetrySphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public ConcurrentModificationRetrySphereClientDecorator build() {
+        return new ConcurrentModificationRetrySphereClientDecorator(delegate, retryPolicy, commandPredicate, closeUnderlyingClient);
+    }
+}
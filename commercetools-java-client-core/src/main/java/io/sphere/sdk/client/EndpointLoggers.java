@@ -0,0 +1,70 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.utils.SphereInternalLogger;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loggers of an endpoint in the logger hierarchy of {@link SphereInternalLogger}, like {@code sphere.categories.requests.queries}.
+ *
+ * <p>The loggers are resolved once per endpoint. Additionally each request class remembers the loggers of its last request,
+ * so finding the loggers of a request usually compares only the beginning of the path and does not allocate objects.</p>
+ */
+final class EndpointLoggers {
+    private static final ConcurrentHashMap<String, EndpointLoggers> LOGGERS_BY_ENDPOINT = new ConcurrentHashMap<>();
+    private static final ClassValue<LastLoggers> LAST_LOGGERS_BY_REQUEST_CLASS = new ClassValue<LastLoggers>() {
+        @Override
+        protected LastLoggers computeValue(final Class<?> type) {
+            return new LastLoggers();
+        }
+    };
+    private final String endpoint;
+    private final SphereInternalLogger queryRequestLogger;
+    private final SphereInternalLogger commandRequestLogger;
+    private final SphereInternalLogger queryResponseLogger;
+    private final SphereInternalLogger commandResponseLogger;
+
+    private EndpointLoggers(final String endpoint) {
+        this.endpoint = endpoint;
+        final String prefix = endpoint.isEmpty() ? "project" : endpoint;
+        this.queryRequestLogger = SphereInternalLogger.getLogger(prefix + ".requests.queries");
+        this.commandRequestLogger = SphereInternalLogger.getLogger(prefix + ".requests.commands");
+        this.queryResponseLogger = SphereInternalLogger.getLogger(prefix + ".responses.queries");
+        this.commandResponseLogger = SphereInternalLogger.getLogger(prefix + ".responses.commands");
+    }
+
+    static EndpointLoggers of(final SphereRequest<?> sphereRequest, final HttpRequestIntent httpRequestIntent) {
+        final LastLoggers lastLoggers = LAST_LOGGERS_BY_REQUEST_CLASS.get(sphereRequest.getClass());
+        final EndpointLoggers candidate = lastLoggers.loggers;
+        if (candidate != null && candidate.isEndpointOf(httpRequestIntent.getPath())) {
+            return candidate;
+        }
+        final EndpointLoggers loggers = LOGGERS_BY_ENDPOINT.computeIfAbsent(RequestKey.endpointOf(httpRequestIntent), EndpointLoggers::new);
+        lastLoggers.loggers = loggers;
+        return loggers;
+    }
+
+    SphereInternalLogger requestLogger(final HttpRequestIntent httpRequestIntent) {
+        return isQuery(httpRequestIntent) ? queryRequestLogger : commandRequestLogger;
+    }
+
+    SphereInternalLogger responseLogger(final HttpRequestIntent httpRequestIntent) {
+        return isQuery(httpRequestIntent) ? queryResponseLogger : commandResponseLogger;
+    }
+
+    private boolean isEndpointOf(final String path) {
+        final int start = path.startsWith("/") ? 1 : 0;
+        final int end = start + endpoint.length();
+        return path.startsWith(endpoint, start) && (end == path.length() || path.charAt(end) == '/' || path.charAt(end) == '?');
+    }
+
+    private static boolean isQuery(final HttpRequestIntent httpRequestIntent) {
+        final HttpMethod httpMethod = httpRequestIntent.getHttpMethod();
+        return httpMethod == HttpMethod.GET || (httpMethod == HttpMethod.POST && httpRequestIntent.getPath().contains("/product-projections/search"));
+    }
+
+    private static final class LastLoggers {
+        private volatile EndpointLoggers loggers;
+    }
+}
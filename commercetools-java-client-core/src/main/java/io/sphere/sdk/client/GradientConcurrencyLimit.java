@@ -0,0 +1,75 @@
+package io.sphere.sdk.client;
+
+/**
+ * Estimates the amount of parallel requests the backend can handle without queueing.
+ *
+ * <p>The limit follows the gradient between a long-term average of the round-trip time and the latest round-trip time:
+ * if the requests become slower than usual, requests queue up in the backend and the limit shrinks, otherwise it grows by a small amount.
+ * Requests which have been dropped because of overload, like 503 responses and timeouts, decrease the limit multiplicatively.</p>
+ */
+final class GradientConcurrencyLimit {
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    private static final double MIN_GRADIENT = 0.5;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private double estimatedLimit;
+    private double longRttNanos = 0;
+    private long lastRttNanos = 0;
+
+    GradientConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit, final double rttTolerance, final double backoffRatio) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(String.format("the limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit but were %s, %s and %s", minLimit, initialLimit, maxLimit));
+        }
+        if (rttTolerance < 1 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(String.format("rttTolerance must be at least 1 and backoffRatio in (0, 1) but were %s and %s", rttTolerance, backoffRatio));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Updates the limit with the outcome of a request.
+     * @param rttNanos the round-trip time of the request
+     * @param inFlight the amount of requests which were running when the request completed, including the request itself
+     * @param dropped true if the backend was overloaded
+     * @return the new limit
+     */
+    synchronized int onSample(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (dropped) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+            return getLimit();
+        }
+        lastRttNanos = rttNanos;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        if (longRttNanos > 2 * rttNanos) {
+            //recover faster from a phase of high latency
+            longRttNanos *= 0.95;
+        }
+        if (inFlight < estimatedLimit / 2) {
+            //the application does not use the limit, so the samples say nothing about a higher limit
+            return getLimit();
+        }
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / Math.max(1, rttNanos)));
+        final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+        return getLimit();
+    }
+
+    synchronized int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    synchronized long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    synchronized long getLastRttNanos() {
+        return lastRttNanos;
+    }
+}
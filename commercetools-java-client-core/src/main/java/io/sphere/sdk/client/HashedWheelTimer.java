@@ -0,0 +1,239 @@
+package io.sphere.sdk.client;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Timer for many short-lived timeouts which are usually cancelled before they expire, like request timeouts.
+ *
+ * <p>The timeouts are put into the buckets of a wheel which a single daemon thread advances every tick, so scheduling and cancelling
+ * take constant time and don't contend on a lock. Cancelled timeouts are removed from their bucket at the next tick.
+ * The precision is one tick and expired tasks run in the executor of the timer, not in the timer thread.</p>
+ */
+final class HashedWheelTimer {
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final Thread workerThread;
+    private final long startTime = System.nanoTime();
+
+    HashedWheelTimer(final long tickDuration, final TimeUnit unit, final int ticksPerWheel, final Executor executor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive but was " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a power of two but was " + ticksPerWheel);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.executor = executor;
+        this.workerThread = new Thread(this::work, "sphere-timer");
+        workerThread.setDaemon(true);
+    }
+
+    /**
+     * The timer which is shared by all clients, its thread is started with the first timeout and is a daemon thread,
+     * so it does not need to be stopped.
+     *
+     * @return the shared timer
+     */
+    static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedules a task which runs in the executor of the timer after the delay if it is not cancelled before.
+     *
+     * @param task the task to run after the delay
+     * @param delay the delay
+     * @param unit the unit of the delay
+     * @return handle to cancel the task
+     */
+    Timeout newTimeout(final Runnable task, final long delay, final TimeUnit unit) {
+        start();
+        final long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        final Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void start() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            workerThread.start();
+        }
+    }
+
+    private void work() {
+        long tick = (System.nanoTime() - startTime) / tickNanos;
+        while (true) {
+            waitForNextTick(tick);
+            removeCancelledTimeouts();
+            transferPendingTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts(executor);
+            tick++;
+        }
+    }
+
+    private void waitForNextTick(final long tick) {
+        final long deadline = tickNanos * (tick + 1);
+        long sleepNanos;
+        while ((sleepNanos = deadline - (System.nanoTime() - startTime)) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (final InterruptedException e) {
+                //the daemon thread keeps running, there is nobody to stop it
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPendingTimeouts(final long tick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state == Timeout.PENDING) {
+                final long expirationTick = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+                final long bucketTick = Math.max(expirationTick, tick);
+                wheel[(int) (bucketTick & mask)].add(timeout);
+            }
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = PENDING;
+        //only accessed by the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not expired yet.
+         *
+         * @return true if the task will not run because of this call
+         */
+        boolean cancel() {
+            if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                timer.cancelledTimeouts.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void expire(final Executor executor) {
+            if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                executor.execute(task);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one slot of the wheel, only accessed by the timer thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts(final Executor executor) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire(executor);
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(final Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+                new HashedWheelTimer(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL, ForkJoinPool.commonPool());
+    }
+}
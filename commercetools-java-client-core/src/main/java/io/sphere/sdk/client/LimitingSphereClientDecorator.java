@@ -0,0 +1,66 @@
+package io.sphere.sdk.client;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Decorates a {@link SphereClient} to limit the amount of parallel requests which await an answer.
+ *
+ * <p>If {@code maxParallelRequests} are waiting for a response every further request will be added to a bounded queue.
+ * Each request gets a {@link RequestPriority} so for example interactive reads can be executed before bulk writes.
+ * If the queue is full the {@link QueueOverflowStrategy} decides if the request is rejected with a {@link RequestRejectedException}
+ * or if the calling thread waits.</p>
+ *
+ * <p>The decorator uses no dedicated thread, the bookkeeping is done lock-free by the threads which submit requests
+ * and which complete responses.</p>
+ *
+ * <p>Use {@link LimitingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see LimitingSphereClientDecoratorBuilder
+ */
+public final class LimitingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final RequestLimiter limiter;
+    private final Function<SphereRequest<?>, RequestPriority> priorityFunction;
+    private final boolean closeUnderlyingClient;
+
+    LimitingSphereClientDecorator(final SphereClient delegate, final RequestLimiter limiter, final Function<SphereRequest<?>, RequestPriority> priorityFunction, final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.limiter = limiter;
+        this.priorityFunction = priorityFunction;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final RequestPriority priority = priorityFunction.apply(sphereRequest);
+        return limiter.submit(priority.ordinal(), () -> super.execute(sphereRequest));
+    }
+
+    /**
+     * Gets the amount of requests which have been sent but not yet completed.
+     * @return the amount of in-flight requests
+     */
+    public int getInFlightRequestCount() {
+        return limiter.getInFlightCount();
+    }
+
+    /**
+     * Gets the amount of requests which wait in the queue to be executed.
+     * @return the queue size
+     */
+    public int getQueuedRequestCount() {
+        return limiter.getQueueSize();
+    }
+
+    @Override
+    public void close() {
+        limiter.close();
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+
+    public static SphereClient of(final SphereClient delegate, final int maxParallelRequests) {
+        return LimitingSphereClientDecoratorBuilder.of(delegate, maxParallelRequests).build();
+    }
+}
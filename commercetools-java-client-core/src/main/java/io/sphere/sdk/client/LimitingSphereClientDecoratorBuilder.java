@@ -0,0 +1,75 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.util.function.Function;
+
+/**
+ * Builder for {@link LimitingSphereClientDecorator}.
+ *
+ * <p>By default the queue is unbounded, all requests have {@link RequestPriority#NORMAL} and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to prefer reads over writes and to reject requests if more than 10000 requests are waiting:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = LimitingSphereClientDecoratorBuilder.of(delegate, 20)
+ *         .maxQueueSize(10000)
+ *         .queueOverflowStrategy(QueueOverflowStrategy.REJECT)
+ *         .priorityFunction(request -> request.httpRequestIntent().getHttpMethod() == HttpMethod.GET ? RequestPriority.HIGH : RequestPriority.LOW)
+ *         .build();
+ * }</pre>
+ */
+public final class LimitingSphereClientDecoratorBuilder extends Base implements Builder<LimitingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private final int maxParallelRequests;
+    private int maxQueueSize = Integer.MAX_VALUE;
+    private QueueOverflowStrategy queueOverflowStrategy = QueueOverflowStrategy.REJECT;
+    private Function<SphereRequest<?>, RequestPriority> priorityFunction = request -> RequestPriority.NORMAL;
+    private boolean closeUnderlyingClient = true;
+
+    private LimitingSphereClientDecoratorBuilder(final SphereClient delegate, final int maxParallelRequests) {
+        this.delegate = delegate;
+        this.maxParallelRequests = maxParallelRequests;
+    }
+
+    public static LimitingSphereClientDecoratorBuilder of(final SphereClient delegate, final int maxParallelRequests) {
+        return new LimitingSphereClientDecoratorBuilder(delegate, maxParallelRequests);
+    }
+
+    /**
+     * Sets the maximal amount of requests which wait for execution.
+     * @param maxQueueSize the capacity of the queue, 0 means that no request will be queued
+     * @return this builder
+     */
+    public LimitingSphereClientDecoratorBuilder maxQueueSize(final int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    public LimitingSphereClientDecoratorBuilder queueOverflowStrategy(final QueueOverflowStrategy queueOverflowStrategy) {
+        this.queueOverflowStrategy = queueOverflowStrategy;
+        return this;
+    }
+
+    /**
+     * Sets the function to decide in which priority lane a request is queued.
+     * @param priorityFunction function which maps a request to its priority
+     * @return this builder
+     */
+    public LimitingSphereClientDecoratorBuilder priorityFunction(final Function<SphereRequest<?>, RequestPriority> priorityFunction) {
+        this.priorityFunction = priorityFunction;
+        return this;
+    }
+
+    public LimitingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public LimitingSphereClientDecorator build() {
+        final RequestLimiter limiter = new RequestLimiter(maxParallelRequests, maxQueueSize, queueOverflowStrategy, RequestPriority.values().length);
+        return new LimitingSphereClientDecorator(delegate, limiter, priorityFunction, closeUnderlyingClient);
+    }
+}
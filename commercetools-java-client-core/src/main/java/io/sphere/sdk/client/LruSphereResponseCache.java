@@ -0,0 +1,84 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Cache which evicts the least recently used entries if the sum of the weights exceeds the maximal weight.
+ */
+final class LruSphereResponseCache<K, V> extends Base implements SphereResponseCache<K, V> {
+    private final long maxWeight;
+    private final LinkedHashMap<K, WeightedValue<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+    private long evictionCount = 0;
+
+    LruSphereResponseCache(final long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight must be positive but was " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Nullable
+    @Override
+    public synchronized V get(final K key) {
+        final WeightedValue<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    public synchronized void put(final K key, final V value, final long weight) {
+        if (weight > maxWeight) {
+            return;
+        }
+        final WeightedValue<V> previous = entries.put(key, new WeightedValue<>(value, weight));
+        this.weight += weight - (previous != null ? previous.weight : 0);
+        final Iterator<WeightedValue<V>> leastRecentlyUsedFirst = entries.values().iterator();
+        while (this.weight > maxWeight && leastRecentlyUsedFirst.hasNext()) {
+            this.weight -= leastRecentlyUsedFirst.next().weight;
+            leastRecentlyUsedFirst.remove();
+            evictionCount++;
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(final Predicate<? super K> predicate) {
+        final Iterator<Map.Entry<K, WeightedValue<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<K, WeightedValue<V>> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LruSphereResponseCache{maxWeight=" + maxWeight + ", weight=" + weight + ", size=" + entries.size() + ", evictionCount=" + evictionCount + "}";
+    }
+
+    private static final class WeightedValue<V> {
+        private final V value;
+        private final long weight;
+
+        private WeightedValue(final V value, final long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.sphere.sdk.client;
+
+/**
+ * Defines what happens if a request should be added to the queue of a {@link LimitingSphereClientDecorator} but the queue is full.
+ */
+public enum QueueOverflowStrategy {
+    /**
+     * The returned {@link java.util.concurrent.CompletionStage} completes immediately exceptionally with a {@link RequestRejectedException}.
+     */
+    REJECT,
+
+    /**
+     * The thread calling {@link SphereClient#execute(SphereRequest)} blocks until there is space in the queue.
+     * This creates backpressure for producers like imports but should not be used from threads of the HTTP client.
+     */
+    WAIT
+}
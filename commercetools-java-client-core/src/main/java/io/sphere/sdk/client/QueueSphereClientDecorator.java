@@ -1,9 +1,5 @@
 package io.sphere.sdk.client;
 
-import io.sphere.sdk.client.QueueSphereClientDecoratorActor.AsyncTask;
-import io.sphere.sdk.utils.CompletableFutureUtils;
-
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -11,35 +7,27 @@ import java.util.concurrent.CompletionStage;
  * If {@code maxParallelRequests} are waiting for a response every further request will be added to an unbound queue.
  * Then the next answer will cause that the first request in the queue will be executed.
  *
+ * <p>For a bounded queue and priorities use {@link LimitingSphereClientDecorator}.</p>
  */
 public final class QueueSphereClientDecorator extends SphereClientDecorator implements SphereClient {
-    private final Actor actor;
+    private final RequestLimiter limiter;
     private final boolean closeUnderlyingClient;
 
     private QueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests, final boolean closeUnderlyingClient) {
         super(delegate);
         this.closeUnderlyingClient = closeUnderlyingClient;
-        this.actor = new QueueSphereClientDecoratorActor(maxParallelRequests);
+        this.limiter = RequestLimiter.ofUnboundedQueue(maxParallelRequests);
     }
 
 
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
-        final CompletableFuture<T> promiseForTheClient = new CompletableFuture<>();
-        final AsyncTask asyncTask = new AsyncTask(() -> {
-            final CompletionStage<T> realFuture = super.execute(sphereRequest);
-            CompletableFutureUtils.transferResult(realFuture, promiseForTheClient);
-            CompletableFuture<String> forHandlerFuture = new CompletableFuture<>();
-            realFuture.whenComplete((v, e) -> forHandlerFuture.complete("done"));
-            return forHandlerFuture;
-        });
-        actor.tell(asyncTask);
-        return promiseForTheClient;
+        return limiter.submit(0, () -> super.execute(sphereRequest));
     }
 
     @Override
     public void close() {
-        AutoCloseableService.closeQuietly(actor);
+        limiter.close();
         if (closeUnderlyingClient) {
             super.close();
         }
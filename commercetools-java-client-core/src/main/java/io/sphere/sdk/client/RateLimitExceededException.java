@@ -0,0 +1,25 @@
+package io.sphere.sdk.client;
+
+import java.time.Duration;
+
+/**
+ * Exception which is thrown if {@link RateLimitingSphereClientDecorator} refuses a request since it exceeds the rate limit.
+ * The request has not been sent to the commercetools platform.
+ */
+public class RateLimitExceededException extends RequestRejectedException {
+    static final long serialVersionUID = 0L;
+    private final Duration waitTime;
+
+    public RateLimitExceededException(final String message, final Duration waitTime) {
+        super(message);
+        this.waitTime = waitTime;
+    }
+
+    /**
+     * Gets the time until the rate limit would have allowed the request.
+     * @return the wait time
+     */
+    public Duration getWaitTime() {
+        return waitTime;
+    }
+}
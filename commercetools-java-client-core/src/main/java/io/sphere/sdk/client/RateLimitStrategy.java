@@ -0,0 +1,16 @@
+package io.sphere.sdk.client;
+
+/**
+ * Defines what happens if a request of a {@link RateLimitingSphereClientDecorator} exceeds the rate limit.
+ */
+public enum RateLimitStrategy {
+    /**
+     * The request is sent as soon as the rate limit allows it. No thread is blocked while waiting.
+     */
+    WAIT,
+
+    /**
+     * The returned {@link java.util.concurrent.CompletionStage} completes immediately exceptionally with a {@link RateLimitExceededException}.
+     */
+    REJECT
+}
@@ -0,0 +1,196 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.SphereException;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorates a {@link SphereClient} to limit the rate of requests with token buckets, for example to keep a batch job from using up the API quota of the project.
+ *
+ * <p>All requests share the bucket of the client, additionally endpoint groups can have an own bucket, so a request needs a permit of both.
+ * Requests exceeding the rate either wait without blocking a thread or fail with a {@link RateLimitExceededException}, see {@link RateLimitStrategy}.</p>
+ *
+ * <p>If a request fails with a response containing a {@code Retry-After} or {@code RateLimit-Reset} header, the decorator sends no further requests
+ * until the given time. Responses with the status code 429 without such a header pause the dispatch for a configurable duration.
+ * The pause applies to all requests of the decorator since the quota belongs to the project.</p>
+ *
+ * <p>Use {@link RateLimitingSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see RateLimitingSphereClientDecoratorBuilder
+ */
+public final class RateLimitingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    static final String RETRY_AFTER = "Retry-After";
+    static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+    private static final int TOO_MANY_REQUESTS = 429;
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final Object lock = new Object();
+    private final TokenBucket clientBucket;
+    private final Map<String, TokenBucket> bucketByEndpoint;
+    private final RateLimitStrategy strategy;
+    private final long maxWaitNanos;
+    private final Duration defaultPause;
+    private final boolean closeUnderlyingClient;
+    private final LongSupplier nanoClock;
+    private final LongAdder delayedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder pauseCount = new LongAdder();
+
+    RateLimitingSphereClientDecorator(final SphereClient delegate, final TokenBucket clientBucket, final Map<String, TokenBucket> bucketByEndpoint,
+                                      final RateLimitStrategy strategy, @Nullable final Duration maxWait, final Duration defaultPause,
+                                      final boolean closeUnderlyingClient, final LongSupplier nanoClock) {
+        super(delegate);
+        this.clientBucket = clientBucket;
+        this.bucketByEndpoint = bucketByEndpoint;
+        this.strategy = strategy;
+        this.maxWaitNanos = strategy == RateLimitStrategy.REJECT ? 0 : maxWait != null ? maxWait.toNanos() : Long.MAX_VALUE;
+        this.defaultPause = defaultPause;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final TokenBucket endpointBucket = bucketByEndpoint.get(RequestKey.endpointOf(sphereRequest.httpRequestIntent()));
+        final long delay;
+        synchronized (lock) {
+            final long now = nanoClock.getAsLong();
+            delay = Math.max(clientBucket.delayNanos(now), endpointBucket != null ? endpointBucket.delayNanos(now) : 0);
+            if (delay <= maxWaitNanos) {
+                clientBucket.reserve(now + delay);
+                if (endpointBucket != null) {
+                    endpointBucket.reserve(now + delay);
+                }
+            }
+        }
+        if (delay > maxWaitNanos) {
+            rejectedCount.increment();
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(new RateLimitExceededException(
+                    String.format("The request exceeds the rate limit, it could be sent in %s ms with the strategy %s.", TimeUnit.NANOSECONDS.toMillis(delay), strategy),
+                    Duration.ofNanos(delay)));
+            return result;
+        } else if (delay == 0) {
+            return observe(super.execute(sphereRequest));
+        }
+        delayedCount.increment();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        timer.newTimeout(() -> {
+            if (!result.isDone()) {
+                try {
+                    observe(super.execute(sphereRequest)).whenComplete((value, throwable) -> {
+                        if (throwable == null) {
+                            result.complete(value);
+                        } else {
+                            result.completeExceptionally(throwable);
+                        }
+                    });
+                } catch (final RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }, delay, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private <T> CompletionStage<T> observe(final CompletionStage<T> stage) {
+        stage.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                final Throwable cause = ThrowableUtils.unwrap(throwable);
+                if (cause instanceof SphereException && ((SphereException) cause).getHttpResponse() != null) {
+                    pauseOf(((SphereException) cause).getHttpResponse()).ifPresent(this::pause);
+                }
+            }
+        });
+        return stage;
+    }
+
+    private Optional<Duration> pauseOf(final HttpResponse httpResponse) {
+        final Optional<Duration> pause = parsePause(httpResponse.getHeaders());
+        return pause.isPresent() || !Integer.valueOf(TOO_MANY_REQUESTS).equals(httpResponse.getStatusCode()) ? pause : Optional.of(defaultPause);
+    }
+
+    /**
+     * Sends no requests until the duration passed, for example if the quota of the project is exhausted for a known time.
+     * Requests which are already sent are not affected.
+     * @param duration the time to pause the dispatch
+     */
+    public void pause(final Duration duration) {
+        if (!duration.isNegative() && !duration.isZero()) {
+            pauseCount.increment();
+            final long until = nanoClock.getAsLong() + duration.toNanos();
+            synchronized (lock) {
+                clientBucket.pauseUntil(until);
+            }
+        }
+    }
+
+    static Optional<Duration> parsePause(final HttpHeaders headers) {
+        final Optional<Duration> retryAfter = headers.findFlatHeader(RETRY_AFTER).flatMap(RateLimitingSphereClientDecorator::parseRetryAfter);
+        return retryAfter.isPresent() ? retryAfter : headers.findFlatHeader(RATE_LIMIT_RESET).flatMap(RateLimitingSphereClientDecorator::parseSeconds);
+    }
+
+    private static Optional<Duration> parseRetryAfter(final String value) {
+        final Optional<Duration> seconds = parseSeconds(value);
+        if (seconds.isPresent()) {
+            return seconds;
+        }
+        try {
+            final ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Optional.of(Duration.between(ZonedDateTime.now(date.getZone()), date));
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> parseSeconds(final String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets the amount of requests which waited for a permit.
+     * @return the count of delayed requests
+     */
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    /**
+     * Gets the amount of requests which failed with a {@link RateLimitExceededException}.
+     * @return the count of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Gets the amount of pauses, caused by responses of the commercetools platform or by calling {@link #pause(Duration)}.
+     * @return the count of pauses
+     */
+    public long getPauseCount() {
+        return pauseCount.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
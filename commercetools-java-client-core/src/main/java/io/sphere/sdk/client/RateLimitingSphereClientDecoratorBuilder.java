@@ -0,0 +1,144 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link RateLimitingSphereClientDecorator}.
+ *
+ * <p>By default the client allows bursts of as many requests as are permitted per second, requests exceeding the rate wait as long as necessary,
+ * responses with the status code 429 without a {@code Retry-After} header pause the dispatch for one second
+ * and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to limit an import to 50 requests per second with at most 10 requests for orders and carts per second and to fail if a request would wait longer than a minute:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 50)
+ *         .endpointGroup(10, 10, "orders", "carts")
+ *         .maxWait(Duration.ofMinutes(1))
+ *         .build();
+ * }</pre>
+ */
+public final class RateLimitingSphereClientDecoratorBuilder extends Base implements Builder<RateLimitingSphereClientDecorator> {
+    private final SphereClient delegate;
+    private final double permitsPerSecond;
+    private int burst;
+    private final Map<String, EndpointGroup> groupByEndpoint = new HashMap<>();
+    private RateLimitStrategy strategy = RateLimitStrategy.WAIT;
+    @Nullable
+    private Duration maxWait;
+    private Duration defaultPause = Duration.ofSeconds(1);
+    private boolean closeUnderlyingClient = true;
+    private LongSupplier nanoClock = System::nanoTime;
+
+    private RateLimitingSphereClientDecoratorBuilder(final SphereClient delegate, final double permitsPerSecond) {
+        this.delegate = delegate;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.ceil(permitsPerSecond)));
+    }
+
+    /**
+     * Creates a builder for a client which sends at most {@code permitsPerSecond} requests per second on average.
+     * @param delegate the underlying client
+     * @param permitsPerSecond the rate of requests of the client, fractions like 0.5 are possible
+     * @return builder
+     */
+    public static RateLimitingSphereClientDecoratorBuilder of(final SphereClient delegate, final double permitsPerSecond) {
+        return new RateLimitingSphereClientDecoratorBuilder(delegate, permitsPerSecond);
+    }
+
+    /**
+     * Sets the amount of requests which can be sent at once after a phase without requests.
+     * @param burst the capacity of the token bucket of the client
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder burst(final int burst) {
+        this.burst = burst;
+        return this;
+    }
+
+    /**
+     * Adds an own rate limit for a group of endpoints which applies additionally to the rate limit of the client.
+     * @param permitsPerSecond the rate of requests of the endpoints together
+     * @param burst the capacity of the token bucket of the group
+     * @param endpoints the first path segments of the requests like {@code orders} or {@code product-projections}
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder endpointGroup(final double permitsPerSecond, final int burst, final String... endpoints) {
+        final EndpointGroup group = new EndpointGroup(permitsPerSecond, burst);
+        for (final String endpoint : endpoints) {
+            groupByEndpoint.put(requireNonNull(endpoint), group);
+        }
+        return this;
+    }
+
+    public RateLimitingSphereClientDecoratorBuilder strategy(final RateLimitStrategy strategy) {
+        this.strategy = requireNonNull(strategy);
+        return this;
+    }
+
+    /**
+     * Sets the maximal time a request waits with {@link RateLimitStrategy#WAIT}, requests which would wait longer fail with a {@link RateLimitExceededException}.
+     * @param maxWait the maximal wait time
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder maxWait(final Duration maxWait) {
+        this.maxWait = requireNonNull(maxWait);
+        return this;
+    }
+
+    /**
+     * Sets the pause after a response with the status code 429 which does not tell when to retry.
+     * @param defaultPause the duration no requests are sent
+     * @return this builder
+     */
+    public RateLimitingSphereClientDecoratorBuilder defaultPause(final Duration defaultPause) {
+        this.defaultPause = requireNonNull(defaultPause);
+        return this;
+    }
+
+    public RateLimitingSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    /**
+     * Replaces {@link System#nanoTime()} as source of the time of the token buckets, for tests.
+     * @param nanoClock the clock in nanoseconds
+     * @return this builder
+     */
+    RateLimitingSphereClientDecoratorBuilder nanoClock(final LongSupplier nanoClock) {
+        this.nanoClock = requireNonNull(nanoClock);
+        return this;
+    }
+
+    @Override
+    public RateLimitingSphereClientDecorator build() {
+        final long now = nanoClock.getAsLong();
+        final Map<EndpointGroup, TokenBucket> bucketByGroup = new IdentityHashMap<>();
+        final Map<String, TokenBucket> bucketByEndpoint = new HashMap<>();
+        groupByEndpoint.forEach((endpoint, group) ->
+                bucketByEndpoint.put(endpoint, bucketByGroup.computeIfAbsent(group, g -> new TokenBucket(g.permitsPerSecond, g.burst, now))));
+        return new RateLimitingSphereClientDecorator(delegate, new TokenBucket(permitsPerSecond, burst, now), bucketByEndpoint,
+                strategy, maxWait, defaultPause, closeUnderlyingClient, nanoClock);
+    }
+
+    private static final class EndpointGroup {
+        private final double permitsPerSecond;
+        private final int burst;
+
+        private EndpointGroup(final double permitsPerSecond, final int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.StringHttpRequestBody;
+import io.sphere.sdk.search.Search;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Identifies requests which lead to the same result, these are requests of the same class with the same HTTP method, path and body.
+ */
+final class RequestKey {
+    private final Class<?> requestClass;
+    private final HttpMethod httpMethod;
+    private final String path;
+    @Nullable
+    private final Object body;
+    private final String endpoint;
+    private final int hashCode;
+
+    private RequestKey(final Class<?> requestClass, final HttpRequestIntent httpRequestIntent) {
+        this.requestClass = requestClass;
+        this.httpMethod = httpRequestIntent.getHttpMethod();
+        this.path = httpRequestIntent.getPath();
+        this.body = httpRequestIntent.getBody() instanceof StringHttpRequestBody
+                ? ((StringHttpRequestBody) httpRequestIntent.getBody()).getString()
+                : httpRequestIntent.getBody();
+        this.endpoint = endpointOf(httpRequestIntent);
+        this.hashCode = 31 * (31 * requestClass.hashCode() + path.hashCode()) + Objects.hashCode(body);
+    }
+
+    static RequestKey of(final SphereRequest<?> sphereRequest, final HttpRequestIntent httpRequestIntent) {
+        return new RequestKey(sphereRequest.getClass(), httpRequestIntent);
+    }
+
+    /**
+     * Gets the endpoint of the request which is the first segment of the path, for example {@code categories} of {@code /categories/id}.
+     * @return the endpoint
+     */
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    static String endpointOf(final HttpRequestIntent httpRequestIntent) {
+        final String path = httpRequestIntent.getPath();
+        final int start = path.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return path.substring(start, end);
+    }
+
+    /**
+     * Checks if a request does not change data, these are requests with the HTTP method GET and searches.
+     */
+    static boolean isReadOnly(final SphereRequest<?> sphereRequest, final HttpRequestIntent httpRequestIntent) {
+        return httpRequestIntent.getHttpMethod() == HttpMethod.GET || sphereRequest instanceof Search;
+    }
+
+    static boolean isReadOnly(final SphereRequest<?> sphereRequest) {
+        return isReadOnly(sphereRequest, sphereRequest.httpRequestIntent());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RequestKey)) {
+            return false;
+        }
+        final RequestKey other = (RequestKey) o;
+        return hashCode == other.hashCode && requestClass == other.requestClass && httpMethod == other.httpMethod
+                && path.equals(other.path) && Objects.equals(body, other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return requestClass.getSimpleName() + " " + httpMethod + " " + path;
+    }
+}
@@ -0,0 +1,214 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free limiter for asynchronous tasks. At most {@code maxParallelRequests} tasks are running at the same time,
+ * further tasks are kept in one queue per priority lane where lane 0 has the highest priority.
+ *
+ * <p>The queues are drained by the thread which completes a task or enqueues a new one, so no dedicated thread is necessary.
+ * Only one thread drains at a time, other threads just signal that there is more work which prevents deep recursion
+ * if the tasks complete synchronously.</p>
+ */
+final class RequestLimiter extends Base {
+    private volatile int maxParallelRequests;
+    private final int maxQueueSize;
+    private final QueueOverflowStrategy queueOverflowStrategy;
+    private final ConcurrentLinkedQueue<Task<?>>[] lanes;
+    private final Semaphore queueSlots;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    @SuppressWarnings("unchecked")
+    RequestLimiter(final int maxParallelRequests, final int maxQueueSize, final QueueOverflowStrategy queueOverflowStrategy, final int laneCount) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be at least 1 but was " + maxParallelRequests);
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative but was " + maxQueueSize);
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        this.maxQueueSize = maxQueueSize;
+        this.queueOverflowStrategy = queueOverflowStrategy;
+        this.queueSlots = new Semaphore(maxQueueSize);
+        this.lanes = new ConcurrentLinkedQueue[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    static RequestLimiter ofUnboundedQueue(final int maxParallelRequests) {
+        return new RequestLimiter(maxParallelRequests, Integer.MAX_VALUE, QueueOverflowStrategy.REJECT, 1);
+    }
+
+    <T> CompletionStage<T> submit(final int lane, final Supplier<CompletionStage<T>> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new RequestRejectedException("The client has already been closed."));
+        } else if (queued.get() == 0 && tryAcquirePermit()) {
+            new Task<>(task, result).run();
+        } else if (reserveQueueSlot(result)) {
+            lanes[lane].offer(new Task<>(task, result));
+            queued.incrementAndGet();
+            drain();
+        }
+        return result;
+    }
+
+    int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    int getQueueSize() {
+        return queued.get();
+    }
+
+    int getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    /**
+     * Changes the limit of running tasks, with a higher limit queued tasks are started immediately,
+     * with a lower limit running tasks are not affected but no new tasks are started until enough tasks completed.
+     * @param maxParallelRequests the new limit
+     */
+    void setMaxParallelRequests(final int maxParallelRequests) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be at least 1 but was " + maxParallelRequests);
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        drain();
+    }
+
+    /**
+     * Rejects all queued tasks, running tasks are not affected.
+     */
+    void close() {
+        closed = true;
+        for (final ConcurrentLinkedQueue<Task<?>> lane : lanes) {
+            Task<?> task;
+            while ((task = lane.poll()) != null) {
+                dequeued();
+                task.reject(new RequestRejectedException("The client has been closed before the request could be executed."));
+            }
+        }
+    }
+
+    private boolean reserveQueueSlot(final CompletableFuture<?> result) {
+        final boolean reserved;
+        if (queueOverflowStrategy == QueueOverflowStrategy.WAIT) {
+            try {
+                queueSlots.acquire();
+                reserved = true;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(new RequestRejectedException("Interrupted while waiting for a free slot in the queue.", e));
+                return false;
+            }
+        } else {
+            reserved = queueSlots.tryAcquire();
+            if (!reserved) {
+                result.completeExceptionally(new RequestRejectedException("The queue is full, it contains already " + maxQueueSize + " requests."));
+            }
+        }
+        return reserved;
+    }
+
+    private boolean tryAcquirePermit() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= maxParallelRequests) {
+                return false;
+            } else if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void onTaskCompleted() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (queued.get() > 0 && tryAcquirePermit()) {
+                final Task<?> task = poll();
+                if (task == null) {
+                    //the producer increments the counter after offering, it will drain again
+                    inFlight.decrementAndGet();
+                    break;
+                } else {
+                    dequeued();
+                    task.run();
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void dequeued() {
+        queued.decrementAndGet();
+        queueSlots.release();
+    }
+
+    private Task<?> poll() {
+        for (final ConcurrentLinkedQueue<Task<?>> lane : lanes) {
+            final Task<?> task = lane.poll();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private final class Task<T> {
+        private final Supplier<CompletionStage<T>> supplier;
+        private final CompletableFuture<T> result;
+
+        private Task(final Supplier<CompletionStage<T>> supplier, final CompletableFuture<T> result) {
+            this.supplier = supplier;
+            this.result = result;
+        }
+
+        private void run() {
+            final CompletionStage<T> stage;
+            try {
+                stage = supplier.get();
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+                onTaskCompleted();
+                return;
+            }
+            stage.whenComplete((value, throwable) -> {
+                //the caller gets the result before the draining thread continues with the queued tasks
+                try {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(value);
+                    }
+                } finally {
+                    onTaskCompleted();
+                }
+            });
+        }
+
+        private void reject(final Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+    }
+}
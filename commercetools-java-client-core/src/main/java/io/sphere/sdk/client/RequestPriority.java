@@ -0,0 +1,10 @@
+package io.sphere.sdk.client;
+
+/**
+ * Priority lanes for queued requests of a {@link LimitingSphereClientDecorator}.
+ * Queued requests with a higher priority are executed before requests with a lower priority,
+ * requests with the same priority are executed in the order of their submission.
+ */
+public enum RequestPriority {
+    HIGH, NORMAL, LOW
+}
@@ -0,0 +1,19 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+/**
+ * Exception which is thrown if a {@link SphereClient} decorator refuses to execute a request, for example because its queue is full.
+ * The request has not been sent to the commercetools platform.
+ */
+public class RequestRejectedException extends SphereException {
+    static final long serialVersionUID = 0L;
+
+    public RequestRejectedException(final String message) {
+        super(message);
+    }
+
+    public RequestRejectedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
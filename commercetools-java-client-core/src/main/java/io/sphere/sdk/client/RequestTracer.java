@@ -0,0 +1,42 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.RequestPhase;
+import io.sphere.sdk.http.RequestTrace;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the {@link RequestTrace}s of the requests of a {@link SphereClient} created with
+ * {@link SphereClient#of(SphereApiConfig, io.sphere.sdk.http.HttpClient, SphereAccessTokenSupplier, RequestTracer)}.
+ *
+ * <p>The client creates a trace for each request for which {@link #isTraced(SphereRequest)} is true, sends its correlation id
+ * in the header {@value SphereHttpHeaders#X_CORRELATION_ID} and records the {@link RequestPhase}s with the help of the {@link io.sphere.sdk.http.HttpClient}.
+ * A trace maps to a span of OpenTelemetry like tracing systems: the phases are the events of the span and
+ * {@link RequestTrace#toEpochNanos(long)} converts their timestamps, the attributes use the semantic conventions for HTTP clients.</p>
+ *
+ * <p>Implementations must be thread-safe and should not block since they are called in the threads which complete the requests.</p>
+ */
+public interface RequestTracer {
+    /**
+     * Name of the attribute of a {@link RequestTrace} with the endpoint of the request, the first path segment like {@code carts}.
+     * It is set for all requests which can be serialized, also if they fail before the HTTP request is sent, and it is empty for paths of the project itself.
+     */
+    String ENDPOINT = "sphere.endpoint";
+
+    /**
+     * Decides if a request is traced, for example to sample only a part of the requests.
+     * @param sphereRequest the request which is about to be executed
+     * @return true if the request should be traced
+     */
+    default boolean isTraced(final SphereRequest<?> sphereRequest) {
+        return true;
+    }
+
+    /**
+     * Called when the result of a traced request is complete.
+     * @param sphereRequest the executed request
+     * @param trace the trace of the request
+     * @param throwable the exception if the request failed or null
+     */
+    void onComplete(final SphereRequest<?> sphereRequest, final RequestTrace trace, @Nullable final Throwable throwable);
+}
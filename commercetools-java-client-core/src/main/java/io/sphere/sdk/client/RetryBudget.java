@@ -0,0 +1,42 @@
+package io.sphere.sdk.client;
+
+/**
+ * Token bucket which limits the retries in relation to the requests.
+ *
+ * <p>Every request deposits a fraction of a token and every retry withdraws one token,
+ * additionally the bucket is refilled with a minimal amount of retries per second, so retries are possible in phases with little traffic.
+ * During an outage the bucket is empty after a short time and further failures are not retried which avoids multiplying the load.</p>
+ */
+final class RetryBudget {
+    private final double retryRatio;
+    private final double minRetriesPerNano;
+    private final double maxTokens;
+    private double tokens;
+    private long lastRefill;
+
+    RetryBudget(final double retryRatio, final int minRetriesPerSecond, final int maxTokens) {
+        if (retryRatio < 0 || minRetriesPerSecond < 0 || maxTokens < 1) {
+            throw new IllegalArgumentException(String.format("invalid retry budget with ratio %s, %s retries per second and %s tokens", retryRatio, minRetriesPerSecond, maxTokens));
+        }
+        this.retryRatio = retryRatio;
+        this.minRetriesPerNano = minRetriesPerSecond / 1e9;
+        this.maxTokens = maxTokens;
+        this.tokens = Math.min(maxTokens, minRetriesPerSecond);
+        this.lastRefill = System.nanoTime();
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + retryRatio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        final long now = System.nanoTime();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefill) * minRetriesPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and with which delays {@link RetrySphereClientDecorator} retries a request which failed with a certain exception.
+ *
+ * <p>The delays grow exponentially from the initial delay up to the maximal delay, the actual delay is a random value between zero and this bound
+ * so that clients which failed at the same time do not retry at the same time.</p>
+ */
+public final class RetryPolicy extends Base {
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+
+    private RetryPolicy(final int maxAttempts, final Duration initialDelay, final Duration maxDelay) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive but was " + maxAttempts);
+        }
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("the delays must satisfy 0 <= initialDelay <= maxDelay but were " + initialDelay + " and " + maxDelay);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Creates a policy with exponential backoff and jitter.
+     * @param maxAttempts the maximal amount of executions including the first one
+     * @param initialDelay the upper bound of the delay before the first retry
+     * @param maxDelay the upper bound of the delays
+     * @return policy
+     */
+    public static RetryPolicy of(final int maxAttempts, final Duration initialDelay, final Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay);
+    }
+
+    /**
+     * Creates a policy which does not retry, for example to exclude a subclass of an exception which is retried.
+     * @return policy
+     */
+    public static RetryPolicy ofNoRetry() {
+        return new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Calculates a random delay before a retry.
+     * @param failedAttempts the amount of executions which failed so far, at least one
+     * @return the delay in nanoseconds
+     */
+    long nextDelayNanos(final int failedAttempts) {
+        final long maxDelayNanos = maxDelay.toNanos();
+        final int exponent = Math.min(failedAttempts - 1, 62);
+        final long initialDelayNanos = initialDelay.toNanos();
+        final long bound = initialDelayNanos > (maxDelayNanos >> exponent) ? maxDelayNanos : initialDelayNanos << exponent;
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+}
@@ -0,0 +1,168 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Decorates a {@link SphereClient} to retry requests which failed with transient errors like {@link ServiceUnavailableException}.
+ *
+ * <p>Each exception class has a {@link RetryPolicy} with the maximal amount of attempts and the delays, the policy of the most specific registered
+ * superclass of an exception applies. Exceptions without a policy are not retried. The retries are scheduled on a timer which is shared by all clients,
+ * so no thread is blocked while waiting.</p>
+ *
+ * <p>A retry budget shared by all requests of the decorator limits the retries to a fraction of the requests, so an outage does not cause a retry storm.
+ * If the budget is exhausted a request fails with its last exception.</p>
+ *
+ * <p>Cancelling the result of a request cancels its running attempt and skips the further retries.</p>
+ *
+ * <p>By default only read-only requests are retried, these are requests with the HTTP method GET and searches,
+ * since an update command which failed with a timeout may have been applied nevertheless.</p>
+ *
+ * <p>Use {@link RetrySphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see RetrySphereClientDecoratorBuilder
+ */
+public final class RetrySphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final Map<Class<? extends Throwable>, RetryPolicy> policies;
+    private final Predicate<? super SphereRequest<?>> retryPredicate;
+    private final RetryBudget retryBudget;
+    private final boolean closeUnderlyingClient;
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder giveUpCount = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+
+    RetrySphereClientDecorator(final SphereClient delegate, final Map<Class<? extends Throwable>, RetryPolicy> policies,
+                               final Predicate<? super SphereRequest<?>> retryPredicate, final RetryBudget retryBudget,
+                               final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.policies = policies;
+        this.retryPredicate = retryPredicate;
+        this.retryBudget = retryBudget;
+        this.closeUnderlyingClient = closeUnderlyingClient;
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        if (!retryPredicate.test(sphereRequest)) {
+            return super.execute(sphereRequest);
+        }
+        retryBudget.deposit();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicReference<CompletionStage<T>> runningAttempt = new AtomicReference<>();
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                cancel(runningAttempt.get());
+            }
+        });
+        attempt(sphereRequest, 1, result, runningAttempt);
+        return result;
+    }
+
+    private <T> void attempt(final SphereRequest<T> sphereRequest, final int attempt, final CompletableFuture<T> result,
+                             final AtomicReference<CompletionStage<T>> runningAttempt) {
+        if (result.isDone()) {
+            //cancelled by the caller
+            return;
+        }
+        final CompletionStage<T> stage;
+        try {
+            stage = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        runningAttempt.set(stage);
+        if (result.isCancelled()) {
+            //cancelled while the attempt has been started
+            cancel(stage);
+            return;
+        }
+        stage.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                final Throwable cause = ThrowableUtils.unwrap(throwable);
+                final RetryPolicy policy = policyOf(cause);
+                if (policy == null || result.isDone()) {
+                    result.completeExceptionally(throwable);
+                } else if (attempt >= policy.getMaxAttempts()) {
+                    giveUp(result, throwable, cause, attempt);
+                } else if (!retryBudget.tryWithdraw()) {
+                    budgetExhaustedCount.increment();
+                    giveUp(result, throwable, cause, attempt);
+                } else {
+                    retryCount.increment();
+                    timer.newTimeout(() -> attempt(sphereRequest, attempt + 1, result, runningAttempt), policy.nextDelayNanos(attempt), TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    private void giveUp(final CompletableFuture<?> result, final Throwable throwable, final Throwable cause, final int attempts) {
+        if (attempts > 1) {
+            giveUpCount.increment();
+            if (cause instanceof SphereException) {
+                ((SphereException) cause).addNote("The request failed " + attempts + " times.");
+            }
+        }
+        result.completeExceptionally(throwable);
+    }
+
+    private static void cancel(@Nullable final CompletionStage<?> stage) {
+        if (stage instanceof Future) {
+            ((Future<?>) stage).cancel(true);
+        }
+    }
+
+    @Nullable
+    private RetryPolicy policyOf(final Throwable throwable) {
+        for (Class<?> exceptionClass = throwable.getClass(); exceptionClass != null; exceptionClass = exceptionClass.getSuperclass()) {
+            final RetryPolicy policy = policies.get(exceptionClass);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the amount of retries which have been scheduled.
+     * @return the retry count
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Gets the amount of requests which have been retried but failed nevertheless since the attempts or the retry budget have been exhausted.
+     * @return the count of requests given up
+     */
+    public long getGiveUpCount() {
+        return giveUpCount.sum();
+    }
+
+    /**
+     * Gets the amount of failed requests which would have been retried if the retry budget had not been exhausted.
+     * @return the count of retries prevented by the budget
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
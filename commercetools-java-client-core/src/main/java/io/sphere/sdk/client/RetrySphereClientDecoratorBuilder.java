@@ -0,0 +1,104 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link RetrySphereClientDecorator}.
+ *
+ * <p>By default read-only requests which failed with {@link ServiceUnavailableException}, {@link BadGatewayException}, {@link GatewayTimeoutException}
+ * or {@link InternalServerErrorException} are executed up to three times with delays of at most 100 milliseconds and 200 milliseconds.
+ * The retry budget allows retries for 20 percent of the requests plus 10 retries per second and closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to retry also update commands if the API was not available:</p>
+ *
+ * <pre>{@code
+ * final SphereClient client = RetrySphereClientDecoratorBuilder.of(delegate)
+ *         .retryPredicate(request -> true)
+ *         .retry(ServerErrorException.class, RetryPolicy.ofNoRetry())
+ *         .retry(ServiceUnavailableException.class, RetryPolicy.of(5, Duration.ofMillis(200), Duration.ofSeconds(5)))
+ *         .build();
+ * }</pre>
+ */
+public final class RetrySphereClientDecoratorBuilder extends Base implements Builder<RetrySphereClientDecorator> {
+    private static final int MAX_BUDGET_TOKENS = 100;
+    private static final RetryPolicy DEFAULT_POLICY = RetryPolicy.of(3, Duration.ofMillis(100), Duration.ofSeconds(2));
+    private final SphereClient delegate;
+    private final Map<Class<? extends Throwable>, RetryPolicy> policies = new HashMap<>();
+    private Predicate<? super SphereRequest<?>> retryPredicate = RequestKey::isReadOnly;
+    private double retryRatio = 0.2;
+    private int minRetriesPerSecond = 10;
+    private boolean closeUnderlyingClient = true;
+
+    private RetrySphereClientDecoratorBuilder(final SphereClient delegate) {
+        this.delegate = delegate;
+        policies.put(ServiceUnavailableException.class, DEFAULT_POLICY);
+        policies.put(BadGatewayException.class, DEFAULT_POLICY);
+        policies.put(GatewayTimeoutException.class, DEFAULT_POLICY);
+        policies.put(InternalServerErrorException.class, DEFAULT_POLICY);
+    }
+
+    public static RetrySphereClientDecoratorBuilder of(final SphereClient delegate) {
+        return new RetrySphereClientDecoratorBuilder(delegate);
+    }
+
+    /**
+     * Sets the policy for an exception class and its subclasses which have no own policy.
+     * @param exceptionClass the class of the exception like {@link ServiceUnavailableException}
+     * @param policy the policy, {@link RetryPolicy#ofNoRetry()} to not retry the exception
+     * @return this builder
+     */
+    public RetrySphereClientDecoratorBuilder retry(final Class<? extends Throwable> exceptionClass, final RetryPolicy policy) {
+        policies.put(requireNonNull(exceptionClass), requireNonNull(policy));
+        return this;
+    }
+
+    /**
+     * Removes all policies including the default ones, so only exceptions registered afterwards are retried.
+     * @return this builder
+     */
+    public RetrySphereClientDecoratorBuilder clearPolicies() {
+        policies.clear();
+        return this;
+    }
+
+    /**
+     * Sets which requests may be retried, the default accepts requests with the HTTP method GET and searches.
+     * @param retryPredicate predicate which returns true for requests which may be executed more than once
+     * @return this builder
+     */
+    public RetrySphereClientDecoratorBuilder retryPredicate(final Predicate<? super SphereRequest<?>> retryPredicate) {
+        this.retryPredicate = requireNonNull(retryPredicate);
+        return this;
+    }
+
+    /**
+     * Sets the retry budget.
+     * @param retryRatio the retries allowed per request, for example 0.2 allows one retry per five requests
+     * @param minRetriesPerSecond the retries allowed per second independent of the amount of requests
+     * @return this builder
+     */
+    public RetrySphereClientDecoratorBuilder retryBudget(final double retryRatio, final int minRetriesPerSecond) {
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        return this;
+    }
+
+    public RetrySphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public RetrySphereClientDecorator build() {
+        final RetryBudget retryBudget = new RetryBudget(retryRatio, minRetriesPerSecond, Math.max(MAX_BUDGET_TOKENS, minRetriesPerSecond));
+        return new RetrySphereClientDecorator(delegate, new HashMap<>(policies), retryPredicate, retryBudget, closeUnderlyingClient);
+    }
+}
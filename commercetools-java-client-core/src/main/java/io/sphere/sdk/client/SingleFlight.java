@@ -0,0 +1,67 @@
+package io.sphere.sdk.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Executes only one task per key at a time, callers which arrive while the task of their key is running get its result too.
+ *
+ * <p>Every caller gets an own stage, so cancelling it does not affect the other callers.</p>
+ *
+ * @param <K> type of the keys
+ */
+final class SingleFlight<K> {
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder joinedCount = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    <V> CompletionStage<V> execute(final K key, final Supplier<? extends CompletionStage<V>> task) {
+        final CompletableFuture<Object> candidate = new CompletableFuture<>();
+        final CompletableFuture<Object> running = inFlight.putIfAbsent(key, candidate);
+        if (running != null) {
+            joinedCount.increment();
+            return copyOf((CompletableFuture<V>) running);
+        }
+        try {
+            task.get().whenComplete((value, throwable) -> {
+                inFlight.remove(key, candidate);
+                if (throwable == null) {
+                    candidate.complete(value);
+                } else {
+                    candidate.completeExceptionally(throwable);
+                }
+            });
+        } catch (final Throwable e) {
+            inFlight.remove(key, candidate);
+            candidate.completeExceptionally(e);
+        }
+        return copyOf((CompletableFuture<V>) (CompletableFuture<?>) candidate);
+    }
+
+    /**
+     * Gets the amount of calls which did not start a task since the task of the key was already running.
+     * @return the amount of joined calls
+     */
+    long getJoinedCount() {
+        return joinedCount.sum();
+    }
+
+    int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> CompletableFuture<V> copyOf(final CompletableFuture<V> future) {
+        final CompletableFuture<V> copy = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                copy.complete(value);
+            } else {
+                copy.completeExceptionally(throwable);
+            }
+        });
+        return copy;
+    }
+}
@@ -45,4 +45,17 @@ public interface SphereClient extends AutoCloseable {
     static SphereClient of(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier) {
         return SphereClientImpl.of(config, httpClient, tokenSupplier);
     }
+
+    /**
+     * Raw client creation with a tracer which receives the durations of the phases of the requests.
+     *
+     * @param config SPHERE.IO project and location
+     * @param httpClient client to execute requests
+     * @param tokenSupplier delivery of access tokens
+     * @param requestTracer receiver of the traces
+     * @return sphere client
+     */
+    static SphereClient of(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier, final RequestTracer requestTracer) {
+        return SphereClientImpl.of(config, httpClient, tokenSupplier, requestTracer);
+    }
 }
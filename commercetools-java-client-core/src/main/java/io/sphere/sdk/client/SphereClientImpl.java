@@ -5,45 +5,156 @@ import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.http.*;
 import io.sphere.sdk.meta.BuildInfo;
 import io.sphere.sdk.models.SphereException;
+import io.sphere.sdk.models.errors.ErrorResponse;
 import io.sphere.sdk.json.SphereJsonUtils;
 import io.sphere.sdk.utils.SphereInternalLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import static io.sphere.sdk.client.HttpResponseBodyUtils.bytesToString;
-import static io.sphere.sdk.utils.SphereInternalLogger.getLogger;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 final class SphereClientImpl extends AutoCloseableService implements SphereClient {
     private static final Logger classLogger = LoggerFactory.getLogger(SphereClient.class);
+    private static final HttpHeaders CONSTANT_HEADERS = HttpHeaders.of(HttpHeaders.USER_AGENT, BuildInfo.userAgent()).plus(HttpHeaders.ACCEPT_ENCODING, "gzip");
     private final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper();
     private final HttpClient httpClient;
     private final SphereApiConfig config;
     private final SphereAccessTokenSupplier tokenSupplier;
+    @Nullable
+    private final RequestTracer requestTracer;
+    private final String projectUrl;
+    @Nullable
+    private volatile TokenHeaders tokenHeaders;
 
 
-    private SphereClientImpl(final SphereApiConfig config, final SphereAccessTokenSupplier tokenSupplier, final HttpClient httpClient) {
+    private SphereClientImpl(final SphereApiConfig config, final SphereAccessTokenSupplier tokenSupplier, final HttpClient httpClient, @Nullable final RequestTracer requestTracer) {
         this.httpClient = httpClient;
         this.config = config;
         this.tokenSupplier = tokenSupplier;
+        this.requestTracer = requestTracer;
+        this.projectUrl = config.getApiUrl() + "/" + config.getProjectKey();
+        SphereJsonUtils.warmUp(SphereJsonUtils.convertToJavaType(ErrorResponse.typeReference()));
     }
 
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        if (requestTracer != null && requestTracer.isTraced(sphereRequest)) {
+            return executeTraced(sphereRequest, requestTracer);
+        }
+        return execute(sphereRequest, (RequestTrace) null);
+    }
+
+    private <T> CompletionStage<T> executeTraced(final SphereRequest<T> sphereRequest, final RequestTracer requestTracer) {
+        final RequestTrace trace = RequestTrace.of(config.getProjectKey() + "/" + UUID.randomUUID());
+        trace.record(RequestPhase.ENQUEUED);
+        final CompletionStage<T> result = execute(sphereRequest, trace);
+        result.whenComplete((ignoredResult, throwable) -> {
+            if (!trace.getAttributes().containsKey(RequestTracer.ENDPOINT)) {
+                //failed before the HTTP request has been created, for example since no access token could be fetched
+                setEndpoint(trace, sphereRequest);
+            }
+            requestTracer.onComplete(sphereRequest, trace, throwable == null ? null : ThrowableUtils.unwrap(throwable));
+        });
+        return result;
+    }
+
+    private static void setEndpoint(final RequestTrace trace, final SphereRequest<?> sphereRequest) {
+        try {
+            trace.setAttribute(RequestTracer.ENDPOINT, RequestKey.endpointOf(sphereRequest.httpRequestIntent()));
+        } catch (final RuntimeException e) {
+            //the request cannot be serialized, the result contains the exception
+        }
+    }
+
+    private <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest, @Nullable final RequestTrace trace) {
         final CompletionStage<String> tokenFuture = tokenSupplier.get();
-        return tokenFuture.thenCompose(token -> execute(sphereRequest, token));
+        if (isSuccessfullyCompleted(tokenFuture)) {
+            //usually the token is already present, then the result is directly the stage of the HTTP request and cancelling it aborts the request
+            try {
+                return execute(sphereRequest, tokenFuture.toCompletableFuture().join(), trace);
+            } catch (final Throwable e) {
+                final CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new CompletionException(e));
+                return failed;
+            }
+        }
+        return tokenFuture.thenCompose(token -> execute(sphereRequest, token, trace));
+    }
+
+    private static boolean isSuccessfullyCompleted(final CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            final CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
     }
 
-    private <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest, final String token) {
-        final HttpRequest httpRequest = createHttpRequest(sphereRequest, token);
+    private <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest, final String token, @Nullable final RequestTrace trace) {
+        if (trace != null) {
+            trace.record(RequestPhase.TOKEN_READY);
+        }
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final HttpRequest httpRequest = createHttpRequest(httpRequestIntent, token, trace);
+        if (trace != null) {
+            trace.setAttribute(RequestTrace.HTTP_METHOD, httpRequest.getHttpMethod().toString());
+            trace.setAttribute(RequestTrace.HTTP_URL, httpRequest.getUrl());
+            trace.setAttribute(RequestTracer.ENDPOINT, RequestKey.endpointOf(httpRequestIntent));
+            trace.record(RequestPhase.REQUEST_SERIALIZED);
+        }
+        final EndpointLoggers loggers = EndpointLoggers.of(sphereRequest, httpRequestIntent);
+
+        final SphereInternalLogger logger = loggers.requestLogger(httpRequestIntent);
+        if (logger.isDebugEnabled()) {
+            logger.debug(() -> sphereRequest);
+        }
+        if (logger.isTraceEnabled()) {
+            logTrace(logger, httpRequest);
+        }
+        final CompletionStage<? extends HttpResponse> httpResponseStage = sphereRequest.acceptsStreamingResponse()
+                ? httpClient.executeStreaming(httpRequest)
+                : httpClient.execute(httpRequest);
+        final SphereInternalLogger responseLogger = loggers.responseLogger(httpRequestIntent);
+        final CompletionStage<T> result = httpResponseStage.thenApply(httpResponse -> {
+            if (trace != null) {
+                trace.record(RequestPhase.PARSING_STARTED);
+                final Integer statusCode = httpResponse.getStatusCode();
+                if (statusCode != null) {
+                    trace.setAttribute(RequestTrace.HTTP_STATUS_CODE, statusCode.toString());
+                }
+            }
+            try {
+                return processHttpResponse(sphereRequest, objectMapper, config, httpResponse, responseLogger);
+            } catch (final SphereException e) {
+                fillExceptionWithData(sphereRequest, httpResponse, e, config);
+                throw e;
+            } finally {
+                if (trace != null) {
+                    trace.record(RequestPhase.PARSED);
+                }
+            }
+        });
+        if (result instanceof CompletableFuture && httpResponseStage instanceof CompletableFuture) {
+            result.whenComplete((ignoredResult, ignoredThrowable) -> {
+                if (((CompletableFuture<T>) result).isCancelled()) {
+                    ((CompletableFuture<?>) httpResponseStage).cancel(true);
+                }
+            });
+        }
+        return result;
+    }
 
-        final SphereInternalLogger logger = getLogger(httpRequest);
-        logger.debug(() -> sphereRequest);
+    private static void logTrace(final SphereInternalLogger logger, final HttpRequest httpRequest) {
         logger.trace(() -> {
             final String output;
             final String httpMethodAndUrl = httpRequest.getHttpMethod() + " " + httpRequest.getUrl();
@@ -68,33 +179,44 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
             }
             return output;
         });
-        return httpClient.execute(httpRequest).thenApply(httpResponse -> {
-            try {
-                return processHttpResponse(sphereRequest, objectMapper, config, httpResponse);
-            } catch (final SphereException e) {
-                fillExceptionWithData(sphereRequest, httpResponse, e, config);
-                throw e;
-            }
-        });
     }
 
-    private <T> HttpRequest createHttpRequest(final SphereRequest<T> sphereRequest, final String token) {
-        return sphereRequest
-                .httpRequestIntent()
-                .plusHeader(HttpHeaders.USER_AGENT, BuildInfo.userAgent())
-                .plusHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
-                .plusHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                .prefixPath("/" + config.getProjectKey())
-                .toHttpRequest(config.getApiUrl());
+    private HttpRequest createHttpRequest(final HttpRequestIntent httpRequestIntent, final String token, @Nullable final RequestTrace trace) {
+        final HttpHeaders headers = httpRequestIntent.getHeaders().plusAll(headersOf(token));
+        final String url = projectUrl + httpRequestIntent.getPath();
+        return trace == null
+                ? HttpRequest.of(httpRequestIntent.getHttpMethod(), url, headers, httpRequestIntent.getBody())
+                : HttpRequest.of(httpRequestIntent.getHttpMethod(), url, headers.plus(SphereHttpHeaders.X_CORRELATION_ID, trace.getCorrelationId()), httpRequestIntent.getBody()).withTrace(trace);
     }
 
-    private static <T> T processHttpResponse(final SphereRequest<T> sphereRequest, final ObjectMapper objectMapper, final SphereApiConfig config, final HttpResponse httpResponse) {
-        final SphereInternalLogger logger = getLogger(httpResponse);
-        logger.debug(() -> httpResponse);
-        logger.trace(() -> httpResponse.getStatusCode() + "\n" + Optional.ofNullable(httpResponse.getResponseBody()).map(body -> SphereJsonUtils.prettyPrint(bytesToString(body))).orElse("No body present."));
-        final List<String> notices = httpResponse.getHeaders().getHeadersAsMap().get(SphereHttpHeaders.X_DEPRECATION_NOTICE);
-        if (notices != null) {
-            notices.stream().forEach(message -> logger.warn(() -> "Deprecation notice : " + message));
+    /**
+     * Gets the headers which are added to each request, they are created once per access token.
+     * @param token the current access token
+     * @return the headers for the token
+     */
+    private HttpHeaders headersOf(final String token) {
+        final TokenHeaders current = tokenHeaders;
+        if (current != null && current.token.equals(token)) {
+            return current.headers;
+        }
+        final TokenHeaders created = new TokenHeaders(token, CONSTANT_HEADERS.plus(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        tokenHeaders = created;
+        return created.headers;
+    }
+
+    private static <T> T processHttpResponse(final SphereRequest<T> sphereRequest, final ObjectMapper objectMapper, final SphereApiConfig config,
+                                             final HttpResponse httpResponse, final SphereInternalLogger logger) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(() -> httpResponse);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(() -> httpResponse instanceof StreamingHttpResponse
+                    ? httpResponse.getStatusCode() + "\nStreaming body is not logged."
+                    : httpResponse.getStatusCode() + "\n" + Optional.ofNullable(httpResponse.getResponseBody()).map(body -> SphereJsonUtils.prettyPrint(bytesToString(body))).orElse("No body present."));
+        }
+        final List<String> notices = httpResponse.getHeaders().getHeader(SphereHttpHeaders.X_DEPRECATION_NOTICE);
+        if (!notices.isEmpty()) {
+            notices.forEach(message -> logger.warn(() -> "Deprecation notice : " + message));
         }
         return parse(sphereRequest, objectMapper, config, httpResponse);
     }
@@ -108,8 +230,7 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
             try {
                 result = sphereRequest.deserialize(httpResponse);
             } catch (final JsonException e) {
-                final byte[] bytes = httpResponse.getResponseBody();
-                e.addNote("Cannot parse " + bytesToString(bytes));
+                Optional.ofNullable(httpResponse.getResponseBody()).ifPresent(bytes -> e.addNote("Cannot parse " + bytesToString(bytes)));
                 throw e;
             }
         }
@@ -144,7 +265,21 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
         closeQuietly(httpClient);
     }
 
+    private static final class TokenHeaders {
+        private final String token;
+        private final HttpHeaders headers;
+
+        private TokenHeaders(final String token, final HttpHeaders headers) {
+            this.token = token;
+            this.headers = headers;
+        }
+    }
+
     public static SphereClient of(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier) {
-        return new SphereClientImpl(config, tokenSupplier, httpClient);
+        return new SphereClientImpl(config, tokenSupplier, httpClient, null);
+    }
+
+    public static SphereClient of(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier, final RequestTracer requestTracer) {
+        return new SphereClientImpl(config, tokenSupplier, httpClient, requireNonNull(requestTracer));
     }
 }
@@ -13,4 +13,9 @@ public final class SphereHttpHeaders extends Base {
      * Used for http requests which are deprecated on the commercetools platform.
      */
     public static final String X_DEPRECATION_NOTICE = "X-DEPRECATION-NOTICE";
+
+    /**
+     * Identifies a request in the logs of the commercetools platform.
+     */
+    public static final String X_CORRELATION_ID = "X-Correlation-ID";
 }
@@ -0,0 +1,55 @@
+package io.sphere.sdk.client;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+/**
+ * Storage of the results cached by {@link CachingSphereClientDecorator}.
+ *
+ * <p>The cache decides which entries are evicted, the default implementation {@link #ofMaxWeight(long)} evicts the least recently used entries.
+ * Other eviction policies like W-TinyLFU can be used by implementing this interface for example with the cache of a library.
+ * Implementations need to be thread-safe.</p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public interface SphereResponseCache<K, V> {
+    /**
+     * Gets a cached value.
+     * @param key the key of the value
+     * @return the value or null if it is not cached
+     */
+    @Nullable
+    V get(final K key);
+
+    /**
+     * Adds or replaces a value.
+     * @param key the key of the value
+     * @param value the value
+     * @param weight the weight of the value, the decorator uses the length of the JSON representation of the result
+     */
+    void put(final K key, final V value, final long weight);
+
+    /**
+     * Removes all entries whose key matches the predicate.
+     * @param predicate the predicate of the keys to remove
+     */
+    void invalidate(final Predicate<? super K> predicate);
+
+    /**
+     * Gets the amount of entries which have been removed to stay under the size limit of the cache.
+     * @return the eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Creates a cache which evicts the least recently used entries as soon as the sum of the weights exceeds {@code maxWeight}.
+     * @param maxWeight the maximal sum of the weights of the entries, for the decorator the lengths of the JSON representations of the results
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @return cache
+     */
+    static <K, V> SphereResponseCache<K, V> ofMaxWeight(final long maxWeight) {
+        return new LruSphereResponseCache<>(maxWeight);
+    }
+}
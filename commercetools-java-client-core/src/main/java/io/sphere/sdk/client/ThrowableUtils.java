@@ -0,0 +1,24 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+final class ThrowableUtils extends Base {
+    private ThrowableUtils() {
+    }
+
+    /**
+     * Gets the exception wrapped by {@link CompletionException}s and {@link ExecutionException}s of completion stages.
+     * @param throwable the exception a stage completed with
+     * @return the innermost cause which is not such a wrapper, or the exception itself
+     */
+    static Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
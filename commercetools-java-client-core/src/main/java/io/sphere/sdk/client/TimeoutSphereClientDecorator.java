@@ -1,19 +1,21 @@
 package io.sphere.sdk.client;
 
-import io.sphere.sdk.utils.CompletableFutureUtils;
-
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Wraps a {@link SphereClient} to add timeouts.
  * There are no guarantees that the timeout will be after the exact duration.
  * The underlying HTTP client most likely will have a timeout and you may consider to implement it there.
- * If the timeout occurs a {@link SphereTimeoutException} will be thrown.
+ * If the timeout occurs a {@link SphereTimeoutException} will be thrown and the underlying request is cancelled,
+ * so the HTTP client can abort it and free the connection.
+ *
+ * <p>The timeouts are scheduled on a timer wheel which is shared by all clients, the timer of a request is cancelled
+ * as soon as the response arrives.</p>
  */
 public final class TimeoutSphereClientDecorator extends SphereClientDecorator implements SphereClient {
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
     private final long delay;
     private final TimeUnit timeUnit;
 
@@ -33,16 +35,35 @@ public final class TimeoutSphereClientDecorator extends SphereClientDecorator im
 
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
-        final CompletableFuture<T> result = new CompletableFuture<>();
         final CompletionStage<T> prevResult = super.execute(sphereRequest);
-        CompletableFutureUtils.transferResult(prevResult, result);
-        scheduler.schedule(() -> result.completeExceptionally(new SphereTimeoutException(new TimeoutException())), delay, timeUnit);
+        if (prevResult instanceof CompletableFuture && ((CompletableFuture<T>) prevResult).isDone()) {
+            return prevResult;
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicBoolean timedOut = new AtomicBoolean(false);
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
+            if (!result.isDone()) {
+                //cancel before completing, so callers observing the timeout can rely on the cancelled request
+                timedOut.set(true);
+                try {
+                    if (prevResult instanceof Future) {
+                        ((Future<?>) prevResult).cancel(true);
+                    }
+                } finally {
+                    result.completeExceptionally(new SphereTimeoutException(new TimeoutException()));
+                }
+            }
+        }, delay, timeUnit);
+        prevResult.whenComplete((value, throwable) -> {
+            timeout.cancel();
+            if (throwable == null) {
+                result.complete(value);
+            } else if (timedOut.get() && throwable instanceof CancellationException) {
+                result.completeExceptionally(new SphereTimeoutException(new TimeoutException()));
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
         return result;
     }
-
-    @Override
-    public void close() {
-        scheduler.shutdown();
-        super.close();
-    }
 }
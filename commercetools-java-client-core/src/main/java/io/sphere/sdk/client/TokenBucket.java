@@ -0,0 +1,51 @@
+package io.sphere.sdk.client;
+
+/**
+ * Token bucket which allows a rate of permits with bursts, implemented as generic cell rate algorithm.
+ *
+ * <p>Instead of counting tokens the bucket remembers the theoretical arrival time of the next permit,
+ * so a permit can be reserved for a point in time in the future and waiting requests are spaced evenly.
+ * The bucket is not thread-safe, the callers need to synchronize.</p>
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private long theoreticalArrivalTime;
+
+    TokenBucket(final double permitsPerSecond, final int burst, final long now) {
+        if (!(permitsPerSecond > 0) || burst < 1) {
+            throw new IllegalArgumentException(String.format("invalid token bucket with %s permits per second and a burst of %s", permitsPerSecond, burst));
+        }
+        this.intervalNanos = Math.max(1, (long) (1e9 / permitsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.theoreticalArrivalTime = now;
+    }
+
+    /**
+     * Gets the time until a permit is available.
+     * @param now the current value of the nano clock
+     * @return the delay in nanoseconds, zero if a permit is available immediately
+     */
+    long delayNanos(final long now) {
+        return Math.max(0, theoreticalArrivalTime - toleranceNanos - now);
+    }
+
+    /**
+     * Takes a permit.
+     * @param start the time the permit is used, not before {@code now + delayNanos(now)}
+     */
+    void reserve(final long start) {
+        theoreticalArrivalTime = (theoreticalArrivalTime - start > 0 ? theoreticalArrivalTime : start) + intervalNanos;
+    }
+
+    /**
+     * Empties the bucket until a point in time, afterwards it refills with the usual rate.
+     * @param until the value of the nano clock at which the next permit is available
+     */
+    void pauseUntil(final long until) {
+        final long arrivalTime = until + toleranceNanos;
+        if (arrivalTime - theoreticalArrivalTime > 0) {
+            theoreticalArrivalTime = arrivalTime;
+        }
+    }
+}
@@ -32,6 +32,7 @@ final class TokensSupplierImpl extends AutoCloseableService implements TokensSup
         this.config = config;
         this.httpClient = httpClient;
         this.closeHttpClient = closeHttpClient;
+        SphereJsonUtils.warmUp(SphereJsonUtils.convertToJavaType(Tokens.typeReference()));
     }
 
     static TokensSupplier of(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient) {
@@ -0,0 +1,114 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveLimitingSphereClientDecoratorTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void queuesRequestsAboveTheLimit() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.completeManually();
+        final AdaptiveLimitingSphereClientDecorator client = AdaptiveLimitingSphereClientDecoratorBuilder.of(delegate)
+                .limits(2, 1, 10)
+                .build();
+        final List<CompletionStage<String>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(client.execute(TestSphereRequest.of("/categories")));
+        }
+        assertThat(client.getInFlightRequestCount()).isEqualTo(2);
+        assertThat(client.getQueuedRequestCount()).isEqualTo(1);
+        delegate.completeFirst();
+        assertThat(client.getQueuedRequestCount()).isEqualTo(0);
+        assertThat(results.get(0).toCompletableFuture().join()).isEqualTo("/categories#1");
+        assertThat(client.getLastRoundTripTime().isZero()).isFalse();
+    }
+
+    @Test
+    public void droppedRequestsDecreaseTheLimit() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.completeManually();
+        final AdaptiveLimitingSphereClientDecorator client = AdaptiveLimitingSphereClientDecoratorBuilder.of(delegate)
+                .limits(20, 1, 200)
+                .backoffRatio(0.5)
+                .build();
+        client.execute(TestSphereRequest.of("/categories"));
+        client.execute(TestSphereRequest.of("/categories"));
+        delegate.completeFirstExceptionally(new ServiceUnavailableException());
+        assertThat(client.getLimit()).isEqualTo(10);
+        delegate.completeFirstExceptionally(new SphereTimeoutException(new TimeoutException()));
+        assertThat(client.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    public void countsTheCompletedRequestOnceIfTheDelegateCompletesAsynchronously() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.completeManually();
+        //the clock advances 5 milliseconds per reading, so every request takes 5 milliseconds
+        final AtomicLong clock = new AtomicLong();
+        final AdaptiveLimitingSphereClientDecorator client = AdaptiveLimitingSphereClientDecoratorBuilder.of(delegate)
+                .limits(3, 1, 100)
+                .nanoClock(() -> clock.addAndGet(5 * MILLIS))
+                .build();
+        for (int i = 0; i < 20; i++) {
+            final CompletionStage<String> result = client.execute(TestSphereRequest.of("/categories"));
+            delegate.completeFirst();
+            result.toCompletableFuture().join();
+        }
+        //one request at a time uses less than half of the limit, so the samples do not change it
+        assertThat(client.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    public void limitGrowsWhileTheLatencyIsStable() throws Exception {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.9);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    public void limitShrinksIfTheLatencyIncreases() throws Exception {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 1, 100, 1.5, 0.9);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+        }
+        final int limitBefore = limit.getLimit();
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(100 * MILLIS, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isLessThan(limitBefore);
+    }
+
+    @Test
+    public void limitDoesNotGrowIfTheApplicationDoesNotUseIt() throws Exception {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.9);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MILLIS, 1, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void limitStaysWithinBounds() throws Exception {
+        final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(3, 2, 4, 1.5, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(10 * MILLIS, 0, true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(2);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+}
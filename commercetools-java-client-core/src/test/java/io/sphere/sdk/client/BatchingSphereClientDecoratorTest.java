@@ -0,0 +1,151 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.queries.Get;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class BatchingSphereClientDecoratorTest {
+    private static final String ID_1 = "00000000-0000-0000-0000-000000000001";
+    private static final String ID_2 = "00000000-0000-0000-0000-000000000002";
+    private static final String ID_3 = "00000000-0000-0000-0000-000000000003";
+    private static final String MISSING_ID = "00000000-0000-0000-0000-0000000000ff";
+    private final FakeSphereClient delegate = new FakeSphereClient(ID_1, ID_2, ID_3);
+
+    @Test
+    public void combinesGetsWithinTheWindowIntoOneQuery() throws Exception {
+        final BatchingSphereClientDecorator client = BatchingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> first = client.execute(TestGet.of("/categories/" + ID_1));
+        final CompletionStage<String> second = client.execute(TestGet.of("/categories/" + ID_2));
+        final CompletionStage<String> third = client.execute(TestGet.of("/categories/" + ID_1));
+        assertThat(first.toCompletableFuture().join()).contains(ID_1);
+        assertThat(second.toCompletableFuture().join()).contains(ID_2);
+        assertThat(third.toCompletableFuture().join()).contains(ID_1);
+        assertThat(delegate.paths).hasSize(1);
+        assertThat(delegate.paths.get(0)).startsWith("/categories?where=id+in+%28%22" + ID_1 + "%22%2C+%22" + ID_2 + "%22%29&limit=2&withTotal=false");
+        assertThat(client.getBatchCount()).isEqualTo(1);
+        assertThat(client.getBatchedCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void missingIds() throws Exception {
+        final BatchingSphereClientDecorator client = BatchingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> lenient = client.execute(TestGet.of("/categories/" + MISSING_ID));
+        final CompletionStage<String> strict = client.execute(TestGet.ofStrict("/categories/" + MISSING_ID));
+        final CompletionStage<String> found = client.execute(TestGet.of("/categories/" + ID_1));
+        assertThat(lenient.toCompletableFuture().join()).isNull();
+        assertThat(found.toCompletableFuture().join()).contains(ID_1);
+        try {
+            strict.toCompletableFuture().join();
+            fail("missing id should not be found");
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    public void sendsFullBatchesWithoutWaiting() throws Exception {
+        final BatchingSphereClientDecorator client = BatchingSphereClientDecoratorBuilder.of(delegate)
+                .window(Duration.ofHours(1))
+                .maxBatchSize(2)
+                .build();
+        final CompletionStage<String> first = client.execute(TestGet.of("/categories/" + ID_1));
+        final CompletionStage<String> second = client.execute(TestGet.of("/categories/" + ID_2));
+        assertThat(first.toCompletableFuture().isDone()).isTrue();
+        assertThat(second.toCompletableFuture().join()).contains(ID_2);
+    }
+
+    @Test
+    public void batchesPerEndpointAndParameters() throws Exception {
+        final BatchingSphereClientDecorator client = BatchingSphereClientDecoratorBuilder.of(delegate).build();
+        final List<CompletableFuture<String>> results = Arrays.asList(
+                client.execute(TestGet.of("/categories/" + ID_1 + "?expand=parent")).toCompletableFuture(),
+                client.execute(TestGet.of("/categories/" + ID_2 + "?expand=parent")).toCompletableFuture(),
+                client.execute(TestGet.of("/categories/" + ID_3)).toCompletableFuture(),
+                client.execute(TestGet.of("/product-types/" + ID_3)).toCompletableFuture());
+        results.forEach(CompletableFuture::join);
+        assertThat(delegate.paths).hasSize(3);
+        assertThat(delegate.paths).contains("/categories/" + ID_3, "/product-types/" + ID_3);
+        assertThat(delegate.paths.stream().filter(path -> path.startsWith("/categories?")).findFirst().get()).endsWith("&expand=parent");
+    }
+
+    @Test
+    public void otherRequestsAreNotBatched() throws Exception {
+        final BatchingSphereClientDecorator client = BatchingSphereClientDecoratorBuilder.of(delegate).window(Duration.ofHours(1)).build();
+        assertThat(client.execute(TestGet.of("/product-types/key=foo")).toCompletableFuture().join()).isNotNull();
+        assertThat(client.getBatchedCount()).isEqualTo(0);
+    }
+
+    private static final class TestGet extends Base implements Get<String> {
+        private final String path;
+        private final boolean acceptsNotFound;
+
+        private TestGet(final String path, final boolean acceptsNotFound) {
+            this.path = path;
+            this.acceptsNotFound = acceptsNotFound;
+        }
+
+        static TestGet of(final String path) {
+            return new TestGet(path, true);
+        }
+
+        static TestGet ofStrict(final String path) {
+            return new TestGet(path, false);
+        }
+
+        @Override
+        public String deserialize(final HttpResponse httpResponse) {
+            return httpResponse.getStatusCode() == 404 ? null : new String(httpResponse.getResponseBody(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean canDeserialize(final HttpResponse httpResponse) {
+            return httpResponse.hasSuccessResponseCode() || (acceptsNotFound && httpResponse.getStatusCode() == 404);
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+
+    private static final class FakeSphereClient extends Base implements SphereClient {
+        private final List<String> existingIds;
+        private final List<String> paths = new CopyOnWriteArrayList<>();
+
+        private FakeSphereClient(final String ... existingIds) {
+            this.existingIds = Arrays.asList(existingIds);
+        }
+
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final String path = sphereRequest.httpRequestIntent().getPath();
+            paths.add(path);
+            final String results = existingIds.stream()
+                    .filter(path::contains)
+                    .map(id -> SphereJsonUtils.newObjectNode().put("id", id).toString())
+                    .collect(joining(",", "[", "]"));
+            final String body = path.contains("?where=") ? "{\"results\":" + results + "}" : "{\"id\":\"x\"}";
+            return CompletableFuture.completedFuture(sphereRequest.deserialize(HttpResponse.of(200, body)));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
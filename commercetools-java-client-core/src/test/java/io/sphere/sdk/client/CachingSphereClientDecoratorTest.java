@@ -0,0 +1,143 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.Base;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingSphereClientDecoratorTest {
+    private final TestSphereClient delegate = new TestSphereClient();
+
+    @Test
+    public void cachesResultsOfReadRequests() throws Exception {
+        final CachingSphereClientDecorator client = CachingSphereClientDecoratorBuilder.of(delegate).build();
+        assertThat(join(client, read("/categories?limit=1"))).isEqualTo("/categories?limit=1#1");
+        assertThat(join(client, read("/categories?limit=1"))).isEqualTo("/categories?limit=1#1");
+        assertThat(join(client, read("/categories?limit=2"))).isEqualTo("/categories?limit=2#2");
+        assertThat(delegate.getCount()).isEqualTo(2);
+        assertThat(client.getHitCount()).isEqualTo(1);
+        assertThat(client.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void coalescesConcurrentMisses() throws Exception {
+        delegate.completeManually();
+        final CachingSphereClientDecorator client = CachingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> first = client.execute(read("/categories"));
+        final CompletionStage<String> second = client.execute(read("/categories"));
+        delegate.completeAll();
+        assertThat(first.toCompletableFuture().join()).isEqualTo(second.toCompletableFuture().join());
+        assertThat(delegate.getCount()).isEqualTo(1);
+        assertThat(client.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void writesInvalidateTheirEndpoint() throws Exception {
+        final CachingSphereClientDecorator client = CachingSphereClientDecoratorBuilder.of(delegate).build();
+        join(client, read("/products/id"));
+        join(client, read("/product-projections/id"));
+        join(client, read("/categories"));
+        join(client, TestSphereRequest.of(HttpMethod.POST, "/products/id"));
+        assertThat(join(client, read("/products/id"))).endsWith("#5");
+        assertThat(join(client, read("/product-projections/id"))).endsWith("#6");
+        assertThat(join(client, read("/categories"))).endsWith("#3");
+        client.invalidate("categories");
+        assertThat(join(client, read("/categories"))).endsWith("#7");
+    }
+
+    @Test
+    public void expiresResultsAfterTimeToLive() throws Exception {
+        final CachingSphereClientDecorator client = CachingSphereClientDecoratorBuilder.of(delegate)
+                .timeToLive("categories", Duration.ZERO)
+                .build();
+        join(client, read("/categories"));
+        join(client, read("/categories"));
+        join(client, read("/product-types"));
+        join(client, read("/product-types"));
+        assertThat(delegate.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedResultsBySize() throws Exception {
+        //the results of the one letter paths have 6 characters as JSON string
+        final LruSphereResponseCache<Object, Object> cache = new LruSphereResponseCache<>(15);
+        final CachingSphereClientDecorator client = CachingSphereClientDecoratorBuilder.of(delegate).cache(cache).build();
+        join(client, read("/a"));
+        join(client, read("/b"));
+        join(client, read("/a"));
+        join(client, read("/c"));
+        assertThat(client.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(15);
+        join(client, read("/a"));
+        assertThat(delegate.getCount()).isEqualTo(3);
+        join(client, read("/b"));
+        assertThat(delegate.getCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void passesTheOriginalRequestToTheUnderlyingClient() throws Exception {
+        final List<SphereRequest<?>> executed = new ArrayList<>();
+        final SphereClient recordingClient = new SphereClientDecorator(delegate) {
+            @Override
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                executed.add(sphereRequest);
+                return super.execute(sphereRequest);
+            }
+        };
+        final TestSphereRequest request = read("/categories");
+        join(CachingSphereClientDecoratorBuilder.of(recordingClient).build(), request);
+        assertThat(executed).containsExactly(request);
+    }
+
+    @Test
+    public void requestsOfOtherClassesForTheSamePathAreNotCoalescedBelow() throws Exception {
+        delegate.completeManually();
+        final SphereClient client = CachingSphereClientDecoratorBuilder.of(CoalescingSphereClientDecoratorBuilder.of(delegate).build()).build();
+        final CompletionStage<String> text = client.execute(read("/categories"));
+        final CompletionStage<Integer> length = client.execute(new BodyLengthSphereRequest("/categories"));
+        delegate.completeAll();
+        assertThat(text.toCompletableFuture().join()).isEqualTo("/categories#1");
+        assertThat(length.toCompletableFuture().join()).isEqualTo("/categories#2".length());
+        assertThat(delegate.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void endpointOfPath() throws Exception {
+        assertThat(RequestKey.endpointOf(HttpRequestIntent.of(HttpMethod.GET, "/categories?where=x"))).isEqualTo("categories");
+        assertThat(RequestKey.endpointOf(HttpRequestIntent.of(HttpMethod.GET, "/product-projections/search"))).isEqualTo("product-projections");
+        assertThat(RequestKey.endpointOf(HttpRequestIntent.of(HttpMethod.GET, "/carts"))).isEqualTo("carts");
+    }
+
+    private static TestSphereRequest read(final String path) {
+        return TestSphereRequest.of(path);
+    }
+
+    private static final class BodyLengthSphereRequest extends Base implements SphereRequest<Integer> {
+        private final String path;
+
+        private BodyLengthSphereRequest(final String path) {
+            this.path = path;
+        }
+
+        @Override
+        public Integer deserialize(final HttpResponse httpResponse) {
+            return httpResponse.getResponseBody().length;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+
+    private static <T> T join(final SphereClient client, final SphereRequest<T> request) {
+        return client.execute(request).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,188 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class CircuitBreakerSphereClientDecoratorTest {
+    private final TestSphereClient delegate = new TestSphereClient();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void opensIfTooManyRequestsFail() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .slidingWindow(4, 4)
+                .build();
+        delegate.failWith(ServiceUnavailableException::new);
+        for (int i = 0; i < 4; i++) {
+            expectFailure(client.execute(request("/carts")), ServiceUnavailableException.class);
+        }
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.OPEN);
+        expectFailure(client.execute(request("/carts")), CircuitBreakerOpenException.class);
+        assertThat(delegate.getCount()).isEqualTo(4);
+        assertThat(client.getCircuitOpenRejectionCount()).isEqualTo(1);
+
+        delegate.succeed();
+        assertThat(client.getState("orders")).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(client.execute(request("/orders")).toCompletableFuture().join()).isEqualTo("/orders#5");
+    }
+
+    @Test
+    public void clientErrorsDoNotOpen() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .slidingWindow(4, 4)
+                .build();
+        delegate.failWith(NotFoundException::new);
+        for (int i = 0; i < 10; i++) {
+            expectFailure(client.execute(request("/carts")), NotFoundException.class);
+        }
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void opensIfLatencyPercentileExceedsThreshold() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .slidingWindow(4, 4)
+                .latencyThreshold(0.5, Duration.ofMillis(20))
+                .nanoClock(nanoTime::get)
+                .build();
+        delegate.succeed();
+        client.execute(request("/carts")).toCompletableFuture().join();
+        client.execute(request("/carts")).toCompletableFuture().join();
+        delegate.completeManually();
+        executeSlowly(client, request("/carts"));
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.CLOSED);
+        executeSlowly(client, request("/carts"));
+        //2 of 4 requests above the threshold, so the median is still ok
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.CLOSED);
+        executeSlowly(client, request("/carts"));
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void closesAfterSuccessfulTrialRequests() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = openCircuit();
+        delegate.succeed();
+        advanceMillis(60);
+        client.execute(request("/carts")).toCompletableFuture().join();
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        client.execute(request("/carts")).toCompletableFuture().join();
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void reopensIfTrialRequestFails() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = openCircuit();
+        advanceMillis(60);
+        expectFailure(client.execute(request("/carts")), ServiceUnavailableException.class);
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.OPEN);
+        expectFailure(client.execute(request("/carts")), CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void lateSuccessFromTheClosedStateIsNoTrialRequest() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = circuitBreaker();
+        final CompletionStage<String> late = openWhileRequestIsRunning(client);
+        advanceMillis(60);
+        final CompletionStage<String> trial = client.execute(request("/carts"));
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        delegate.completeAll();
+        assertThat(late.toCompletableFuture().join()).isEqualTo("/carts#3");
+        assertThat(trial.toCompletableFuture().join()).isEqualTo("/carts#4");
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        client.execute(request("/carts"));
+        delegate.completeAll();
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void lateCancellationFromTheClosedStateReleasesNoTrialPermit() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = circuitBreaker();
+        final CompletionStage<String> late = openWhileRequestIsRunning(client);
+        advanceMillis(60);
+        client.execute(request("/carts"));
+        client.execute(request("/carts"));
+        late.toCompletableFuture().cancel(false);
+        expectFailure(client.execute(request("/carts")), CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    public void bulkheadLimitsParallelRequestsPerEndpoint() throws Exception {
+        final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .maxParallelRequests("product-projections", 1)
+                .maxQueueSize(0)
+                .build();
+        delegate.completeManually();
+        final CompletionStage<String> running = client.execute(request("/product-projections/search"));
+        expectFailure(client.execute(request("/product-projections/search")), RequestRejectedException.class);
+        assertThat(client.getInFlightRequestCount("product-projections")).isEqualTo(1);
+        client.execute(request("/carts"));
+        assertThat(client.getInFlightRequestCount("carts")).isEqualTo(1);
+        assertThat(running.toCompletableFuture().isDone()).isFalse();
+    }
+
+    private CircuitBreakerSphereClientDecorator openCircuit() {
+        final CircuitBreakerSphereClientDecorator client = circuitBreaker();
+        delegate.failWith(ServiceUnavailableException::new);
+        client.execute(request("/carts"));
+        client.execute(request("/carts"));
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.OPEN);
+        return client;
+    }
+
+    private CircuitBreakerSphereClientDecorator circuitBreaker() {
+        return CircuitBreakerSphereClientDecoratorBuilder.of(delegate)
+                .slidingWindow(2, 2)
+                .openDuration(Duration.ofMillis(50))
+                .halfOpenCalls(2)
+                .nanoClock(nanoTime::get)
+                .build();
+    }
+
+    /**
+     * Opens the circuit with two failing requests while a third request started in the closed state is still running.
+     * @return the result of the running request
+     */
+    private CompletionStage<String> openWhileRequestIsRunning(final CircuitBreakerSphereClientDecorator client) {
+        delegate.completeManually();
+        delegate.failWith(2, ServiceUnavailableException::new);
+        client.execute(request("/carts"));
+        client.execute(request("/carts"));
+        final CompletionStage<String> running = client.execute(request("/carts"));
+        delegate.completeFirst();
+        delegate.completeFirst();
+        assertThat(client.getState("carts")).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(delegate.getPendingCount()).isEqualTo(1);
+        return running;
+    }
+
+    private void advanceMillis(final long millis) {
+        nanoTime.addAndGet(Duration.ofMillis(millis).toNanos());
+    }
+
+    private void executeSlowly(final SphereClient client, final SphereRequest<?> request) {
+        final CompletionStage<?> result = client.execute(request);
+        advanceMillis(30);
+        delegate.completeAll();
+        result.toCompletableFuture().join();
+    }
+
+    private static void expectFailure(final CompletionStage<?> stage, final Class<? extends Throwable> exceptionClass) {
+        try {
+            stage.toCompletableFuture().join();
+            fail("expected " + exceptionClass);
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(exceptionClass);
+        }
+    }
+
+    private static TestSphereRequest request(final String path) {
+        return TestSphereRequest.of(path);
+    }
+}
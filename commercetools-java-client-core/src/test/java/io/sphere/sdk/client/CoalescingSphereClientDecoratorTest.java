@@ -0,0 +1,75 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingSphereClientDecoratorTest {
+    private final TestSphereClient delegate = new TestSphereClient();
+
+    @Before
+    public void setUp() throws Exception {
+        delegate.completeManually();
+    }
+
+    @Test
+    public void identicalRunningReadsShareOneRequest() throws Exception {
+        final CoalescingSphereClientDecorator client = CoalescingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> first = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        final CompletionStage<String> second = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        final CompletionStage<String> other = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories?limit=1"));
+        assertThat(client.getInFlightCount()).isEqualTo(2);
+        delegate.completeAll();
+        assertThat(first.toCompletableFuture().join()).isEqualTo("/categories#1").isEqualTo(second.toCompletableFuture().join());
+        assertThat(other.toCompletableFuture().join()).isEqualTo("/categories?limit=1#2");
+        assertThat(client.getCoalescedCount()).isEqualTo(1);
+        assertThat(client.getInFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void completedRequestsAreNotReused() throws Exception {
+        final CoalescingSphereClientDecorator client = CoalescingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> first = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        delegate.completeAll();
+        final CompletionStage<String> second = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        delegate.completeAll();
+        assertThat(first.toCompletableFuture().join()).isEqualTo("/categories#1");
+        assertThat(second.toCompletableFuture().join()).isEqualTo("/categories#2");
+    }
+
+    @Test
+    public void commandsAreNotCoalesced() throws Exception {
+        final CoalescingSphereClientDecorator client = CoalescingSphereClientDecoratorBuilder.of(delegate).build();
+        client.execute(TestSphereRequest.of(HttpMethod.POST, "/categories/id"));
+        client.execute(TestSphereRequest.of(HttpMethod.POST, "/categories/id"));
+        delegate.completeAll();
+        assertThat(delegate.getCount()).isEqualTo(2);
+        assertThat(client.getCoalescedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void keyNormalization() throws Exception {
+        final CoalescingSphereClientDecorator client = CoalescingSphereClientDecoratorBuilder.of(delegate)
+                .keyNormalizer(intent -> HttpRequestIntent.of(intent.getHttpMethod(), intent.getPath().toLowerCase()))
+                .build();
+        final CompletionStage<String> first = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories/ID"));
+        final CompletionStage<String> second = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories/id"));
+        delegate.completeAll();
+        assertThat(delegate.getCount()).isEqualTo(1);
+        assertThat(second.toCompletableFuture().join()).isEqualTo(first.toCompletableFuture().join()).isEqualTo("/categories/ID#1");
+    }
+
+    @Test
+    public void cancellingOneCallerDoesNotAffectTheOthers() throws Exception {
+        final CoalescingSphereClientDecorator client = CoalescingSphereClientDecoratorBuilder.of(delegate).build();
+        final CompletionStage<String> first = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        final CompletionStage<String> second = client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories"));
+        first.toCompletableFuture().cancel(true);
+        delegate.completeAll();
+        assertThat(second.toCompletableFuture().join()).isEqualTo("/categories#1");
+    }
+}
@@ -0,0 +1,170 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.commands.UpdateAction;
+import io.sphere.sdk.commands.UpdateCommandDsl;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.ResourceView;
+import io.sphere.sdk.models.Versioned;
+import io.sphere.sdk.models.errors.ConcurrentModificationError;
+import io.sphere.sdk.models.errors.ErrorResponse;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class ConcurrentModificationRetrySphereClientDecoratorTest {
+
+    @Test
+    public void usesCurrentVersionOfErrorResponse() throws Exception {
+        final ConflictingSphereClient delegate = new ConflictingSphereClient(7L, true);
+        final ConcurrentModificationRetrySphereClientDecorator client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate).build();
+        assertThat(client.execute(TestUpdateCommand.of(3L)).toCompletableFuture().join()).isEqualTo(7L);
+        assertThat(delegate.paths).containsExactly("POST 3", "POST 7");
+        assertThat(client.getConflictCount()).isEqualTo(1);
+        assertThat(client.getFetchCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void fetchesCurrentVersionIfErrorResponseDoesNotContainIt() throws Exception {
+        final ConflictingSphereClient delegate = new ConflictingSphereClient(7L, false);
+        final ConcurrentModificationRetrySphereClientDecorator client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate).build();
+        assertThat(client.execute(TestUpdateCommand.of(3L)).toCompletableFuture().join()).isEqualTo(7L);
+        assertThat(delegate.paths).containsExactly("POST 3", "GET /things/id", "POST 7");
+        assertThat(client.getFetchCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() throws Exception {
+        final ConflictingSphereClient delegate = new ConflictingSphereClient(7L, true);
+        delegate.conflictsAlways = true;
+        final ConcurrentModificationRetrySphereClientDecorator client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate)
+                .retryPolicy(RetryPolicy.of(3, java.time.Duration.ZERO, java.time.Duration.ZERO))
+                .build();
+        try {
+            client.execute(TestUpdateCommand.of(3L)).toCompletableFuture().join();
+            fail("the command should fail");
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(ConcurrentModificationException.class);
+        }
+        assertThat(delegate.paths).hasSize(3);
+        assertThat(client.getGiveUpCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancellingTheResultCancelsTheRunningAttempt() throws Exception {
+        final ConflictingSphereClient delegate = new ConflictingSphereClient(7L, true);
+        delegate.holdBackResponses = true;
+        final ConcurrentModificationRetrySphereClientDecorator client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate).build();
+        client.execute(TestUpdateCommand.of(3L)).toCompletableFuture().cancel(true);
+        assertThat(delegate.heldBackResults).hasSize(1);
+        assertThat(delegate.heldBackResults.get(0).isCancelled()).isTrue();
+    }
+
+    @Test
+    public void excludedCommandsAreNotRetried() throws Exception {
+        final ConflictingSphereClient delegate = new ConflictingSphereClient(7L, true);
+        final ConcurrentModificationRetrySphereClientDecorator client = ConcurrentModificationRetrySphereClientDecoratorBuilder.of(delegate)
+                .commandPredicate(command -> false)
+                .build();
+        assertThat(client.execute(TestUpdateCommand.of(3L)).toCompletableFuture().isCompletedExceptionally()).isTrue();
+        assertThat(delegate.paths).containsExactly("POST 3");
+    }
+
+    private interface Thing extends ResourceView<Thing, Thing> {
+    }
+
+    private static final class TestUpdateCommand extends Base implements UpdateCommandDsl<Thing, TestUpdateCommand> {
+        private final Long version;
+
+        private TestUpdateCommand(final Long version) {
+            this.version = version;
+        }
+
+        static TestUpdateCommand of(final Long version) {
+            return new TestUpdateCommand(version);
+        }
+
+        @Override
+        public TestUpdateCommand withVersion(final Versioned<Thing> versioned) {
+            return withVersion(versioned.getVersion());
+        }
+
+        @Override
+        public TestUpdateCommand withVersion(final Long version) {
+            return new TestUpdateCommand(version);
+        }
+
+        @Override
+        public List<? extends UpdateAction<Thing>> getUpdateActions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Thing deserialize(final HttpResponse httpResponse) {
+            return null;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.POST, "/things/id?expand=x", String.valueOf(version));
+        }
+    }
+
+    private static final class ConflictingSphereClient extends Base implements SphereClient {
+        private final Long currentVersion;
+        private final boolean versionInErrorResponse;
+        private final List<String> paths = new ArrayList<>();
+        private boolean conflictsAlways = false;
+        private boolean holdBackResponses = false;
+        private final List<CompletableFuture<?>> heldBackResults = new ArrayList<>();
+
+        private ConflictingSphereClient(final Long currentVersion, final boolean versionInErrorResponse) {
+            this.currentVersion = currentVersion;
+            this.versionInErrorResponse = versionInErrorResponse;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            if (holdBackResponses) {
+                heldBackResults.add(result);
+                return result;
+            }
+            if (sphereRequest instanceof TestUpdateCommand) {
+                final Long version = ((TestUpdateCommand) sphereRequest).version;
+                paths.add("POST " + version);
+                if (conflictsAlways || !version.equals(currentVersion)) {
+                    final ErrorResponse errorResponse = ErrorResponse.of(409, "conflict", versionInErrorResponse
+                            ? Collections.singletonList(ConcurrentModificationError.of("conflict", currentVersion))
+                            : Collections.emptyList());
+                    result.completeExceptionally(new CompletionException(new ConcurrentModificationException(errorResponse)));
+                } else {
+                    //the test command has no resource to return, so the version is returned instead
+                    result.complete((T) version);
+                }
+            } else {
+                final String path = sphereRequest.httpRequestIntent().getPath();
+                paths.add("GET " + path);
+                final String body = SphereJsonUtils.newObjectNode().put("version", currentVersion).toString();
+                result.complete(sphereRequest.deserialize(HttpResponse.of(200, body)));
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
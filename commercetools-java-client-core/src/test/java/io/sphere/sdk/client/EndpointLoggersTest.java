@@ -0,0 +1,40 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.utils.SphereInternalLogger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EndpointLoggersTest {
+    @Test
+    public void usesTheLoggerHierarchy() throws Exception {
+        final TestSphereRequest query = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.GET, "/categories?limit=20"));
+        final EndpointLoggers loggers = EndpointLoggers.of(query, query.httpRequestIntent());
+        assertThat(loggers.requestLogger(query.httpRequestIntent())).isSameAs(SphereInternalLogger.getLogger("categories.requests.queries"));
+        assertThat(loggers.responseLogger(query.httpRequestIntent())).isSameAs(SphereInternalLogger.getLogger("categories.responses.queries"));
+
+        final TestSphereRequest command = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.POST, "/categories/id", "{}"));
+        assertThat(EndpointLoggers.of(command, command.httpRequestIntent()).requestLogger(command.httpRequestIntent()))
+                .isSameAs(SphereInternalLogger.getLogger("categories.requests.commands"));
+    }
+
+    @Test
+    public void searchIsAQuery() throws Exception {
+        final TestSphereRequest search = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.POST, "/product-projections/search", "text.en=shoe"));
+        assertThat(EndpointLoggers.of(search, search.httpRequestIntent()).responseLogger(search.httpRequestIntent()))
+                .isSameAs(SphereInternalLogger.getLogger("product-projections.responses.queries"));
+    }
+
+    @Test
+    public void requestsOfTheSameClassWithOtherEndpoints() throws Exception {
+        final TestSphereRequest categories = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.GET, "/categories"));
+        final TestSphereRequest categoryTypes = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.GET, "/categories-types"));
+        final TestSphereRequest project = TestSphereRequest.of(HttpRequestIntent.of(HttpMethod.GET, ""));
+        final EndpointLoggers categoriesLoggers = EndpointLoggers.of(categories, categories.httpRequestIntent());
+        assertThat(EndpointLoggers.of(categoryTypes, categoryTypes.httpRequestIntent())).isNotSameAs(categoriesLoggers);
+        assertThat(EndpointLoggers.of(categories, categories.httpRequestIntent())).isSameAs(categoriesLoggers);
+        assertThat(EndpointLoggers.of(project, project.httpRequestIntent()).requestLogger(project.httpRequestIntent()))
+                .isSameAs(SphereInternalLogger.getLogger("project.requests.queries"));
+    }
+}
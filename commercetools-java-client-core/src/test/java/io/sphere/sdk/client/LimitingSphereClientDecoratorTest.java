@@ -0,0 +1,137 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LimitingSphereClientDecoratorTest {
+
+    @Test
+    public void requestsOverMaxParallelAreQueued() throws Exception {
+        final ManuallyCompletingSphereClient delegate = new ManuallyCompletingSphereClient();
+        final LimitingSphereClientDecorator client = LimitingSphereClientDecoratorBuilder.of(delegate, 2).build();
+        for (int i = 0; i < 5; i++) {
+            client.execute(DummySphereRequest.of("" + i));
+        }
+        assertThat(delegate.executedMarkers()).containsExactly("0", "1");
+        assertThat(client.getInFlightRequestCount()).isEqualTo(2);
+        assertThat(client.getQueuedRequestCount()).isEqualTo(3);
+
+        delegate.completeNext();
+        assertThat(delegate.executedMarkers()).containsExactly("0", "1", "2");
+        assertThat(client.getQueuedRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void completesTheResultBeforeStartingQueuedRequests() throws Exception {
+        final ManuallyCompletingSphereClient delegate = new ManuallyCompletingSphereClient();
+        final SphereClient client = LimitingSphereClientDecoratorBuilder.of(delegate, 1).build();
+        final CompletionStage<List<String>> executedOnCompletion = client.execute(DummySphereRequest.of("first"))
+                .thenApply(result -> new ArrayList<>(delegate.executedMarkers()));
+        client.execute(DummySphereRequest.of("second"));
+        delegate.completeNext();
+        assertThat(executedOnCompletion.toCompletableFuture().join()).containsExactly("first");
+        assertThat(delegate.executedMarkers()).containsExactly("first", "second");
+    }
+
+    @Test
+    public void rejectsIfQueueIsFull() throws Exception {
+        final ManuallyCompletingSphereClient delegate = new ManuallyCompletingSphereClient();
+        final SphereClient client = LimitingSphereClientDecoratorBuilder.of(delegate, 1)
+                .maxQueueSize(1)
+                .queueOverflowStrategy(QueueOverflowStrategy.REJECT)
+                .build();
+        client.execute(DummySphereRequest.of("running"));
+        final CompletionStage<String> queued = client.execute(DummySphereRequest.of("queued"));
+        final CompletionStage<String> rejected = client.execute(DummySphereRequest.of("rejected"));
+
+        assertThatThrownBy(() -> rejected.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+        delegate.completeNext();
+        delegate.completeNext();
+        assertThat(queued.toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        assertThat(delegate.executedMarkers()).containsExactly("running", "queued");
+    }
+
+    @Test
+    public void higherPriorityJumpsAheadInTheQueue() throws Exception {
+        final ManuallyCompletingSphereClient delegate = new ManuallyCompletingSphereClient();
+        final SphereClient client = LimitingSphereClientDecoratorBuilder.of(delegate, 1)
+                .priorityFunction(request -> ((DummySphereRequest) request).getMarker().startsWith("read") ? RequestPriority.HIGH : RequestPriority.LOW)
+                .build();
+        client.execute(DummySphereRequest.of("write-1"));
+        client.execute(DummySphereRequest.of("write-2"));
+        client.execute(DummySphereRequest.of("write-3"));
+        client.execute(DummySphereRequest.of("read-1"));
+        for (int i = 0; i < 3; i++) {
+            delegate.completeNext();
+        }
+        assertThat(delegate.executedMarkers()).containsExactly("write-1", "read-1", "write-2", "write-3");
+    }
+
+    @Test
+    public void closeRejectsQueuedRequests() throws Exception {
+        final ManuallyCompletingSphereClient delegate = new ManuallyCompletingSphereClient();
+        final SphereClient client = LimitingSphereClientDecoratorBuilder.of(delegate, 1).build();
+        client.execute(DummySphereRequest.of("running"));
+        final CompletionStage<String> queued = client.execute(DummySphereRequest.of("queued"));
+        client.close();
+        assertThatThrownBy(() -> queued.toCompletableFuture().join()).hasCauseInstanceOf(RequestRejectedException.class);
+        assertThat(delegate.executedMarkers()).containsExactly("running");
+    }
+
+    @Test
+    public void synchronouslyCompletingDelegate() throws Exception {
+        final SphereClient client = LimitingSphereClientDecoratorBuilder.of(new DirectlyAnsweringSphereClient(), 1).build();
+        final List<CompletionStage<String>> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            results.add(client.execute(DummySphereRequest.of()));
+        }
+        assertThat(results).allMatch(stage -> stage.toCompletableFuture().isDone());
+    }
+
+    private static class ManuallyCompletingSphereClient extends Base implements SphereClient {
+        private final List<String> executedMarkers = new CopyOnWriteArrayList<>();
+        private final List<CompletableFuture<String>> pending = new CopyOnWriteArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            executedMarkers.add(((DummySphereRequest) sphereRequest).getMarker());
+            final CompletableFuture<String> future = new CompletableFuture<>();
+            pending.add(future);
+            return (CompletionStage<T>) future;
+        }
+
+        public List<String> executedMarkers() {
+            return executedMarkers;
+        }
+
+        public void completeNext() {
+            pending.remove(0).complete(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class DirectlyAnsweringSphereClient extends Base implements SphereClient {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            return CompletableFuture.completedFuture((T) DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.sphere.sdk.models.Base;
 import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -108,8 +109,10 @@ public class QueueSphereClientDecoratorTest {
         }
 
         public void release() {
-            releaseOnCommand.forEach(runnable -> runnable.run());
-            releaseOnCommand.clear();
+            //completing a request can directly execute queued requests which register new runnables
+            final List<Runnable> runnables = new ArrayList<>(releaseOnCommand);
+            releaseOnCommand.removeAll(runnables);
+            runnables.forEach(runnable -> runnable.run());
         }
 
         public List<CompletionStage<String>> getResponseFutures() {
@@ -0,0 +1,129 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.SphereException;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class RateLimitingSphereClientDecoratorTest {
+    private final TestSphereClient delegate = new TestSphereClient();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    public void delaysRequestsExceedingTheBurst() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 10).burst(2).build();
+        assertThat(client.execute(request("/categories")).toCompletableFuture().isDone()).isTrue();
+        assertThat(client.execute(request("/categories")).toCompletableFuture().isDone()).isTrue();
+        final long start = System.nanoTime();
+        final CompletionStage<String> delayed = client.execute(request("/categories"));
+        assertThat(delayed.toCompletableFuture().isDone()).isFalse();
+        assertThat(delayed.toCompletableFuture().join()).isEqualTo("/categories#3");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(80).toNanos());
+        assertThat(client.getDelayedCount()).isEqualTo(1);
+        assertThat(delegate.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void rejectsRequestsExceedingTheRate() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 1)
+                .strategy(RateLimitStrategy.REJECT)
+                .build();
+        client.execute(request("/categories")).toCompletableFuture().join();
+        final RateLimitExceededException exception = expectFailure(client.execute(request("/categories")), RateLimitExceededException.class);
+        assertThat(exception.getWaitTime()).isGreaterThan(Duration.ofMillis(500));
+        assertThat(client.getRejectedCount()).isEqualTo(1);
+        assertThat(delegate.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejectsRequestsWaitingLongerThanMaxWait() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 10)
+                .burst(1)
+                .maxWait(Duration.ofMillis(150))
+                .build();
+        client.execute(request("/categories"));
+        final CompletionStage<String> delayed = client.execute(request("/categories"));
+        expectFailure(client.execute(request("/categories")), RateLimitExceededException.class);
+        assertThat(delayed.toCompletableFuture().join()).isEqualTo("/categories#2");
+    }
+
+    @Test
+    public void endpointGroupHasAnOwnBucket() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 1000)
+                .endpointGroup(1, 1, "orders", "carts")
+                .strategy(RateLimitStrategy.REJECT)
+                .build();
+        client.execute(request("/orders/import")).toCompletableFuture().join();
+        expectFailure(client.execute(request("/carts")), RateLimitExceededException.class);
+        assertThat(client.execute(request("/categories")).toCompletableFuture().join()).isEqualTo("/categories#2");
+    }
+
+    @Test
+    public void pausesAsLongAsRetryAfterRequires() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 1000).build();
+        delegate.failWith(() -> failedWith(HttpResponse.of(429, HttpHeaders.of("Retry-After", "1"))));
+        expectFailure(client.execute(request("/categories")), SphereException.class);
+        assertThat(client.getPauseCount()).isEqualTo(1);
+        delegate.succeed();
+        final long start = System.nanoTime();
+        final CompletionStage<String> delayed = client.execute(request("/categories"));
+        assertThat(delayed.toCompletableFuture().isDone()).isFalse();
+        assertThat(delayed.toCompletableFuture().join()).isEqualTo("/categories#2");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(900).toNanos());
+    }
+
+    @Test
+    public void pausesAfterTooManyRequestsWithoutHeader() throws Exception {
+        final RateLimitingSphereClientDecorator client = RateLimitingSphereClientDecoratorBuilder.of(delegate, 1000)
+                .strategy(RateLimitStrategy.REJECT)
+                .defaultPause(Duration.ofMillis(100))
+                .nanoClock(nanoTime::get)
+                .build();
+        delegate.failWith(() -> failedWith(HttpResponse.of(429)));
+        expectFailure(client.execute(request("/categories")), SphereException.class);
+        delegate.succeed();
+        expectFailure(client.execute(request("/categories")), RateLimitExceededException.class);
+        nanoTime.addAndGet(Duration.ofMillis(150).toNanos());
+        assertThat(client.execute(request("/categories")).toCompletableFuture().join()).isEqualTo("/categories#2");
+    }
+
+    @Test
+    public void parsesRetryAfterAsDate() throws Exception {
+        final String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(2));
+        final Duration pause = RateLimitingSphereClientDecorator.parsePause(HttpHeaders.of("retry-after", date)).get();
+        assertThat(pause).isGreaterThan(Duration.ofSeconds(100)).isLessThanOrEqualTo(Duration.ofSeconds(120));
+        assertThat(RateLimitingSphereClientDecorator.parsePause(HttpHeaders.of("RateLimit-Reset", "7")).get()).isEqualTo(Duration.ofSeconds(7));
+        assertThat(RateLimitingSphereClientDecorator.parsePause(HttpHeaders.of("Retry-After", "soon")).isPresent()).isFalse();
+    }
+
+    private static <E extends Throwable> E expectFailure(final CompletionStage<?> stage, final Class<E> exceptionClass) {
+        try {
+            stage.toCompletableFuture().join();
+            fail("expected " + exceptionClass);
+            return null;
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(exceptionClass);
+            return exceptionClass.cast(e.getCause());
+        }
+    }
+
+    private static TestSphereRequest request(final String path) {
+        return TestSphereRequest.of(path);
+    }
+
+    private static SphereException failedWith(final HttpResponse httpResponse) {
+        final SphereException exception = new SphereException("Can't parse backend response.");
+        exception.setUnderlyingHttpResponse(httpResponse);
+        return exception;
+    }
+}
@@ -0,0 +1,139 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpClientAdapterBase;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.RequestPhase;
+import io.sphere.sdk.http.RequestTrace;
+import io.sphere.sdk.models.SphereException;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestTracerTest {
+    private final RecordingTracer tracer = new RecordingTracer();
+
+    @Test
+    public void recordsThePhasesInOrder() throws Exception {
+        final RecordingHttpClient httpClient = new RecordingHttpClient(200);
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), httpClient, SphereAccessTokenSupplier.ofConstantToken("foo"), tracer);
+        assertThat(client.execute(DummySphereRequest.of()).toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+
+        assertThat(tracer.traces).hasSize(1);
+        assertThat(tracer.throwables).containsNull();
+        final RequestTrace trace = tracer.traces.get(0);
+        assertThat(trace.getCorrelationId()).startsWith("test/");
+        assertThat(httpClient.request.getHeaders().findFlatHeader(SphereHttpHeaders.X_CORRELATION_ID)).contains(trace.getCorrelationId());
+        assertThat(trace.isRecorded(RequestPhase.BYTES_SENT)).isFalse();
+        assertThat(trace.isRecorded(RequestPhase.FIRST_BYTE)).isFalse();
+        long previous = Long.MIN_VALUE;
+        for (final RequestPhase phase : new RequestPhase[]{RequestPhase.ENQUEUED, RequestPhase.TOKEN_READY, RequestPhase.REQUEST_SERIALIZED,
+                RequestPhase.BODY_COMPLETE, RequestPhase.PARSING_STARTED, RequestPhase.PARSED}) {
+            assertThat(trace.getNanoTime(phase)).isGreaterThanOrEqualTo(previous);
+            previous = trace.getNanoTime(phase);
+        }
+        assertThat(trace.getAttributes())
+                .containsEntry(RequestTrace.HTTP_METHOD, "GET")
+                .containsEntry(RequestTrace.HTTP_URL, httpClient.request.getUrl())
+                .containsEntry(RequestTracer.ENDPOINT, "foo")
+                .containsEntry(RequestTrace.HTTP_STATUS_CODE, "200");
+    }
+
+    @Test
+    public void passesTheExceptionOfFailedRequests() throws Exception {
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), new RecordingHttpClient(404), SphereAccessTokenSupplier.ofConstantToken("foo"), tracer);
+        try {
+            client.execute(DummySphereRequest.of()).toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(SphereException.class);
+        }
+        assertThat(tracer.throwables).hasSize(1);
+        assertThat(tracer.throwables.get(0)).isInstanceOf(SphereException.class);
+        assertThat(tracer.traces.get(0).getAttributes()).containsEntry(RequestTrace.HTTP_STATUS_CODE, "404");
+        assertThat(tracer.traces.get(0).isRecorded(RequestPhase.PARSED)).isTrue();
+    }
+
+    @Test
+    public void tracesResponsesWithoutStatusCode() throws Exception {
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), new RecordingHttpClient(null), SphereAccessTokenSupplier.ofConstantToken("foo"), tracer);
+        client.execute(DummySphereRequest.of()).handle((result, throwable) -> result).toCompletableFuture().join();
+        assertThat(tracer.traces).hasSize(1);
+        assertThat(tracer.traces.get(0).getAttributes()).doesNotContainKey(RequestTrace.HTTP_STATUS_CODE);
+        assertThat(tracer.traces.get(0).isRecorded(RequestPhase.PARSED)).isTrue();
+    }
+
+    @Test
+    public void tracesTheEndpointOfRequestsWhichFailBeforeSerialization() throws Exception {
+        final SphereAccessTokenSupplier failingTokenSupplier = new SphereAccessTokenSupplier() {
+            @Override
+            public CompletionStage<String> get() {
+                return CompletableFutureUtils.failed(new IllegalStateException("no token"));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), new RecordingHttpClient(200), failingTokenSupplier, tracer);
+        client.execute(DummySphereRequest.of()).handle((result, throwable) -> result).toCompletableFuture().join();
+        assertThat(tracer.throwables.get(0)).isInstanceOf(IllegalStateException.class);
+        assertThat(tracer.traces.get(0).getAttributes()).containsEntry(RequestTracer.ENDPOINT, "foo");
+        assertThat(tracer.traces.get(0).isRecorded(RequestPhase.REQUEST_SERIALIZED)).isFalse();
+    }
+
+    @Test
+    public void doesNotTraceUnsampledRequests() throws Exception {
+        final RecordingHttpClient httpClient = new RecordingHttpClient(200);
+        final RequestTracer sampler = new RecordingTracer() {
+            @Override
+            public boolean isTraced(final SphereRequest<?> sphereRequest) {
+                return false;
+            }
+        };
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), httpClient, SphereAccessTokenSupplier.ofConstantToken("foo"), sampler);
+        client.execute(DummySphereRequest.of()).toCompletableFuture().join();
+        assertThat(httpClient.request.getTrace()).isNull();
+        assertThat(httpClient.request.getHeaders().findFlatHeader(SphereHttpHeaders.X_CORRELATION_ID)).isEmpty();
+    }
+
+    private static class RecordingTracer implements RequestTracer {
+        private final List<RequestTrace> traces = new CopyOnWriteArrayList<>();
+        private final List<Throwable> throwables = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onComplete(final SphereRequest<?> sphereRequest, final RequestTrace trace, @Nullable final Throwable throwable) {
+            traces.add(trace);
+            throwables.add(throwable);
+        }
+    }
+
+    /**
+     * Does not record any phases, so the base class records the fallback for {@link RequestPhase#BODY_COMPLETE}.
+     */
+    private static final class RecordingHttpClient extends HttpClientAdapterBase {
+        @Nullable
+        private final Integer statusCode;
+        private volatile HttpRequest request;
+
+        private RecordingHttpClient(@Nullable final Integer statusCode) {
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
+            request = httpRequest;
+            return CompletableFutureUtils.successful(HttpResponse.of(statusCode, "{}"));
+        }
+
+        @Override
+        protected void closeDelegate() {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class RetrySphereClientDecoratorTest {
+    private static final RetryPolicy FAST_POLICY = RetryPolicy.of(3, Duration.ofMillis(1), Duration.ofMillis(5));
+
+    @Test
+    public void retriesTransientErrors() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.failWith(2, ServiceUnavailableException::new);
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .retry(ServiceUnavailableException.class, FAST_POLICY)
+                .build();
+        assertThat(client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories")).toCompletableFuture().join()).isEqualTo("/categories#3");
+        assertThat(delegate.getCount()).isEqualTo(3);
+        assertThat(client.getRetryCount()).isEqualTo(2);
+        assertThat(client.getGiveUpCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.failWith(5, BadGatewayException::new);
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .retry(BadGatewayException.class, FAST_POLICY)
+                .build();
+        expectFailure(client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories")), BadGatewayException.class);
+        assertThat(delegate.getCount()).isEqualTo(3);
+        assertThat(client.getGiveUpCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void mostSpecificPolicyApplies() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.failWith(1, GatewayTimeoutException::new);
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .clearPolicies()
+                .retry(ServerErrorException.class, FAST_POLICY)
+                .retry(GatewayTimeoutException.class, RetryPolicy.ofNoRetry())
+                .build();
+        expectFailure(client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories")), GatewayTimeoutException.class);
+        assertThat(delegate.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancellingTheResultCancelsTheRunningAttempt() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.completeManually();
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .retry(ServiceUnavailableException.class, FAST_POLICY)
+                .build();
+        client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories")).toCompletableFuture().cancel(true);
+        assertThat(delegate.getCancelledCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void commandsAreNotRetriedByDefault() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.failWith(1, ServiceUnavailableException::new);
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .retry(ServiceUnavailableException.class, FAST_POLICY)
+                .build();
+        expectFailure(client.execute(TestSphereRequest.of(HttpMethod.POST, "/categories")), ServiceUnavailableException.class);
+        assertThat(delegate.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void retryBudgetLimitsRetries() throws Exception {
+        final TestSphereClient delegate = new TestSphereClient();
+        delegate.failWith(Integer.MAX_VALUE, ServiceUnavailableException::new);
+        final RetrySphereClientDecorator client = RetrySphereClientDecoratorBuilder.of(delegate)
+                .retry(ServiceUnavailableException.class, RetryPolicy.of(10, Duration.ZERO, Duration.ZERO))
+                .retryBudget(0.5, 0)
+                .build();
+        for (int i = 0; i < 4; i++) {
+            expectFailure(client.execute(TestSphereRequest.of(HttpMethod.GET, "/categories")), ServiceUnavailableException.class);
+        }
+        assertThat(client.getRetryCount()).isEqualTo(2);
+        assertThat(client.getBudgetExhaustedCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void delaysGrowExponentiallyUpToTheMaximum() throws Exception {
+        final RetryPolicy policy = RetryPolicy.of(10, Duration.ofNanos(100), Duration.ofNanos(1000));
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextDelayNanos(1)).isBetween(0L, 100L);
+            assertThat(policy.nextDelayNanos(3)).isBetween(0L, 400L);
+            assertThat(policy.nextDelayNanos(64)).isBetween(0L, 1000L);
+        }
+    }
+
+    private static void expectFailure(final CompletionStage<?> stage, final Class<? extends Throwable> exceptionClass) {
+        try {
+            stage.toCompletableFuture().join();
+            fail("expected " + exceptionClass);
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(exceptionClass);
+        }
+    }
+}
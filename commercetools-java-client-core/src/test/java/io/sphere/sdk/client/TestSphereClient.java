@@ -0,0 +1,129 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.Base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Fake client for the tests of the decorators which counts the requests and answers with the path and the number of the request
+ * like {@code /categories#2}. It can fail requests and hold back the responses until the test completes them.
+ */
+public final class TestSphereClient extends Base implements SphereClient {
+    private final List<PendingResponse> pending = new ArrayList<>();
+    private int count = 0;
+    private int remainingFailures = 0;
+    private Supplier<? extends Throwable> exceptionSupplier;
+    private boolean completeManually = false;
+
+    public TestSphereClient() {
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Runnable completion;
+        synchronized (this) {
+            final String body = sphereRequest.httpRequestIntent().getPath() + "#" + ++count;
+            if (remainingFailures > 0) {
+                remainingFailures--;
+                final Throwable throwable = exceptionSupplier.get();
+                completion = () -> result.completeExceptionally(new CompletionException(throwable));
+            } else {
+                completion = () -> result.complete(sphereRequest.deserialize(HttpResponse.of(200, body)));
+            }
+            if (completeManually) {
+                pending.add(new PendingResponse(result, completion));
+                return result;
+            }
+        }
+        completion.run();
+        return result;
+    }
+
+    /**
+     * Fails all following requests.
+     * @param exceptionSupplier creates the exception of each failed request
+     */
+    public synchronized void failWith(final Supplier<? extends Throwable> exceptionSupplier) {
+        failWith(Integer.MAX_VALUE, exceptionSupplier);
+    }
+
+    /**
+     * Fails the next requests, the requests afterwards succeed.
+     * @param failures the amount of requests to fail
+     * @param exceptionSupplier creates the exception of each failed request
+     */
+    public synchronized void failWith(final int failures, final Supplier<? extends Throwable> exceptionSupplier) {
+        this.remainingFailures = failures;
+        this.exceptionSupplier = exceptionSupplier;
+    }
+
+    public synchronized void succeed() {
+        this.remainingFailures = 0;
+        this.exceptionSupplier = null;
+    }
+
+    /**
+     * Holds back the responses of the following requests until they are completed with {@link #completeAll()} or {@link #completeFirst()}.
+     */
+    public synchronized void completeManually() {
+        this.completeManually = true;
+    }
+
+    public void completeAll() {
+        final List<PendingResponse> responses;
+        synchronized (this) {
+            responses = new ArrayList<>(pending);
+            pending.clear();
+        }
+        responses.forEach(response -> response.completion.run());
+    }
+
+    public void completeFirst() {
+        removeFirst().completion.run();
+    }
+
+    public void completeFirstExceptionally(final Throwable throwable) {
+        removeFirst().result.completeExceptionally(new CompletionException(throwable));
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the amount of held back responses whose results have been cancelled by the caller.
+     * @return the count of cancelled requests
+     */
+    public synchronized long getCancelledCount() {
+        return pending.stream().filter(response -> response.result.isCancelled()).count();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private synchronized PendingResponse removeFirst() {
+        return pending.remove(0);
+    }
+
+    private static final class PendingResponse {
+        private final CompletableFuture<?> result;
+        private final Runnable completion;
+
+        private PendingResponse(final CompletableFuture<?> result, final Runnable completion) {
+            this.result = result;
+            this.completion = completion;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.Base;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request for the tests of the decorators which deserializes the response body as UTF-8 string,
+ * the {@link TestSphereClient} answers with the path and the number of the request like {@code /categories#2}.
+ */
+public final class TestSphereRequest extends Base implements SphereRequest<String> {
+    private final HttpRequestIntent httpRequestIntent;
+
+    private TestSphereRequest(final HttpRequestIntent httpRequestIntent) {
+        this.httpRequestIntent = httpRequestIntent;
+    }
+
+    @Override
+    public String deserialize(final HttpResponse httpResponse) {
+        return new String(httpResponse.getResponseBody(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        return httpRequestIntent;
+    }
+
+    public static TestSphereRequest of(final HttpRequestIntent httpRequestIntent) {
+        return new TestSphereRequest(httpRequestIntent);
+    }
+
+    public static TestSphereRequest of(final HttpMethod httpMethod, final String path) {
+        return of(HttpRequestIntent.of(httpMethod, path));
+    }
+
+    public static TestSphereRequest of(final String path) {
+        return of(HttpMethod.GET, path);
+    }
+}
@@ -3,6 +3,7 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.junit.Test;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
@@ -59,4 +60,56 @@ public class TimeoutSphereClientDecoratorTest {
         assertThatThrownBy(() -> decoratedClient.execute(DummySphereRequest.of()).toCompletableFuture().join())
                 .hasCause(t);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void cancelsUnderlyingRequestOnTimeout() throws Exception {
+        final CompletableFuture<Object> underlying = new CompletableFuture<>();
+        final SphereClient sphereClient = new SphereClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                return (CompletionStage<T>) underlying;
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+        final SphereClient decoratedClient = TimeoutSphereClientDecorator.of(sphereClient, DELAY, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(() -> decoratedClient.execute(DummySphereRequest.of()).toCompletableFuture().join())
+                .hasCauseInstanceOf(SphereTimeoutException.class);
+        assertThat(underlying.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void timesOutIfTheUnderlyingRequestCannotBeCancelled() throws Exception {
+        final CompletableFuture<Object> underlying = new CompletableFuture<Object>() {
+            @Override
+            public boolean cancel(final boolean mayInterruptIfRunning) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<Object> toCompletableFuture() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        final SphereClient sphereClient = new SphereClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                return (CompletionStage<T>) underlying;
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+        final SphereClient decoratedClient = TimeoutSphereClientDecorator.of(sphereClient, DELAY, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> result = decoratedClient.execute(DummySphereRequest.of()).toCompletableFuture();
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SphereTimeoutException.class);
+    }
+}
@@ -23,6 +23,14 @@ public abstract class HttpClientAdapterTest {
     protected abstract HttpClient createClient();
     protected abstract int port();
 
+    /**
+     * Checks if the adapter provides the response before the whole body is received.
+     * @return true if the adapter streams the response body
+     */
+    protected boolean streamsResponseBody() {
+        return false;
+    }
+
     @Test
     public final void testConnection() {
         final HttpClient client = createClient();
@@ -66,6 +74,48 @@ public abstract class HttpClientAdapterTest {
         checkBodyRequest(port() + 200, requestBody, length);
     }
 
+    @Test
+    public final void streamingResponse() throws Exception {
+        final ServerSocket serverSocket = new ServerSocket(port() + 300);
+        final CompletableFuture<Void> sendRest = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> {
+            try (final Socket socket = serverSocket.accept()) {
+                final BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+                String inputLine;
+                while ((inputLine = in.readLine()) != null && !inputLine.isEmpty()) {
+                }
+                final OutputStream outputStream = socket.getOutputStream();
+                IOUtils.write("HTTP/1.1 200 OK\r\nContent-Length: 6\r\nConnection: close\r\n\r\nfoo", outputStream);
+                outputStream.flush();
+                sendRest.join();
+                IOUtils.write("bar", outputStream);
+                outputStream.flush();
+                outputStream.close();
+                in.close();
+                serverSocket.close();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        if (!streamsResponseBody()) {
+            sendRest.complete(null);
+        }
+        Thread.sleep(100);
+        final HttpClient client = createClient();
+        final StreamingHttpResponse response = client.executeStreaming(HttpRequest.of(HttpMethod.GET, "http://localhost:" + (port() + 300)))
+                .toCompletableFuture().get(15, TimeUnit.SECONDS);
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        try (final InputStream body = response.getResponseBodyAsStream()) {
+            final byte[] buffer = new byte[3];
+            assertThat(IOUtils.read(body, buffer)).isEqualTo(3);
+            assertThat(new String(buffer)).isEqualTo("foo");
+            sendRest.complete(null);
+            assertThat(IOUtils.toString(body)).isEqualTo("bar");
+        } finally {
+            client.close();
+        }
+    }
+
     private void checkBodyRequest(final int port, final HttpRequestBody requestBody, final int length) throws Exception {
         final ServerSocket serverSocket = new ServerSocket(port);
         final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
@@ -0,0 +1,48 @@
+package io.sphere.sdk.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.sphere.sdk.metrics.MetricsRequestTracer.*;
+
+/**
+ * The histograms of one endpoint, the histograms of the status codes are created when a status code occurs for the first time.
+ */
+final class EndpointMetrics {
+    static final int NO_STATUS = 0;
+    private static final int MAX_STATUS_CODE = 599;
+    private final MetricId requestsId;
+    private final MetricsRegistry registry;
+    private final AtomicReferenceArray<LatencyHistogram> requestsByStatusCode = new AtomicReferenceArray<>(MAX_STATUS_CODE + 1);
+    final LatencyHistogram tokenWait = new LatencyHistogram();
+    final LatencyHistogram serialization = new LatencyHistogram();
+    final LatencyHistogram httpWait = new LatencyHistogram();
+    final LatencyHistogram deserialization = new LatencyHistogram();
+
+    EndpointMetrics(final String endpoint, final MetricsRegistry registry) {
+        this.registry = registry;
+        this.requestsId = MetricId.of(REQUESTS).withTag(ENDPOINT_TAG, endpoint);
+        registry.registerTimer(MetricId.of(TOKEN_WAIT).withTag(ENDPOINT_TAG, endpoint), tokenWait);
+        registry.registerTimer(MetricId.of(SERIALIZATION).withTag(ENDPOINT_TAG, endpoint), serialization);
+        registry.registerTimer(MetricId.of(HTTP_WAIT).withTag(ENDPOINT_TAG, endpoint), httpWait);
+        registry.registerTimer(MetricId.of(DESERIALIZATION).withTag(ENDPOINT_TAG, endpoint), deserialization);
+    }
+
+    /**
+     * Gets the histogram of the total durations of the requests with a status code.
+     * @param statusCode the HTTP status code or {@link #NO_STATUS} if there was no response
+     * @return histogram
+     */
+    LatencyHistogram requests(final int statusCode) {
+        final int index = statusCode >= 100 && statusCode <= MAX_STATUS_CODE ? statusCode : NO_STATUS;
+        final LatencyHistogram histogram = requestsByStatusCode.get(index);
+        if (histogram != null) {
+            return histogram;
+        }
+        final LatencyHistogram candidate = new LatencyHistogram();
+        if (requestsByStatusCode.compareAndSet(index, null, candidate)) {
+            registry.registerTimer(requestsId.withTag(STATUS_TAG, index == NO_STATUS ? NO_STATUS_TAG_VALUE : Integer.toString(index)), candidate);
+            return candidate;
+        }
+        return requestsByStatusCode.get(index);
+    }
+}
@@ -0,0 +1,64 @@
+package io.sphere.sdk.metrics;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registry which keeps the metrics in memory, for example to expose them with an own endpoint of the application or to inspect them in tests.
+ */
+public final class InMemoryMetricsRegistry implements MetricsRegistry {
+    private final Map<MetricId, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<MetricId, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+
+    private InMemoryMetricsRegistry() {
+    }
+
+    public static InMemoryMetricsRegistry of() {
+        return new InMemoryMetricsRegistry();
+    }
+
+    @Override
+    public void registerTimer(final MetricId id, final LatencyHistogram histogram) {
+        timers.put(id, histogram);
+    }
+
+    @Override
+    public void registerGauge(final MetricId id, final DoubleSupplier gauge) {
+        gauges.put(id, gauge);
+    }
+
+    @Nullable
+    public LatencyHistogram getTimer(final MetricId id) {
+        return timers.get(id);
+    }
+
+    @Nullable
+    public Double getGaugeValue(final MetricId id) {
+        final DoubleSupplier gauge = gauges.get(id);
+        return gauge != null ? gauge.getAsDouble() : null;
+    }
+
+    /**
+     * Gets all registered histograms.
+     * @return unmodifiable view of the histograms
+     */
+    public Map<MetricId, LatencyHistogram> getTimers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    /**
+     * Gets all registered gauges.
+     * @return unmodifiable view of the gauges
+     */
+    public Map<MetricId, DoubleSupplier> getGauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryMetricsRegistry{timers=" + timers + ", gauges=" + gauges.keySet() + "}";
+    }
+}
@@ -0,0 +1,61 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.models.Base;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Name and tags of a metric, like the name {@code sphere.client.requests} with the tags {@code endpoint=categories} and {@code status=200}.
+ *
+ * <p>Registries which support only names, like Dropwizard Metrics, can use {@link #toFlatName()}.</p>
+ */
+public final class MetricId extends Base {
+    private final String name;
+    private final SortedMap<String, String> tags;
+
+    private MetricId(final String name, final SortedMap<String, String> tags) {
+        this.name = requireNonNull(name);
+        this.tags = Collections.unmodifiableSortedMap(tags);
+    }
+
+    public static MetricId of(final String name) {
+        return new MetricId(name, new TreeMap<>());
+    }
+
+    public static MetricId of(final String name, final Map<String, String> tags) {
+        return new MetricId(name, new TreeMap<>(tags));
+    }
+
+    public MetricId withTag(final String key, final String value) {
+        final TreeMap<String, String> tags = new TreeMap<>(this.tags);
+        tags.put(requireNonNull(key), requireNonNull(value));
+        return new MetricId(name, tags);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the tags sorted by key.
+     * @return the unmodifiable tags
+     */
+    public SortedMap<String, String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Gets the name followed by the tag values, separated by dots, like {@code sphere.client.requests.categories.200}.
+     * @return name including the tags
+     */
+    public String toFlatName() {
+        final StringBuilder builder = new StringBuilder(name);
+        tags.values().forEach(value -> builder.append('.').append(value));
+        return builder.toString();
+    }
+}
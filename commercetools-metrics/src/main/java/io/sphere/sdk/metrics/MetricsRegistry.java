@@ -0,0 +1,29 @@
+package io.sphere.sdk.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Service provider interface to export the metrics of {@link MetricsSphereClientDecorator} to a monitoring system.
+ *
+ * <p>The decorator records into its own {@link LatencyHistogram}s and calls the registry only once per metric, when the metric occurs for the first time,
+ * so recording a request never waits for the registry. An implementation for Micrometer or Dropwizard Metrics registers for example
+ * a function timer reading {@link LatencyHistogram#getCount()} and {@link LatencyHistogram#getTotalNanos()} and a gauge reading the {@link DoubleSupplier}.
+ * Implementations need to be thread-safe.</p>
+ *
+ * @see InMemoryMetricsRegistry
+ */
+public interface MetricsRegistry {
+    /**
+     * Registers a histogram of durations.
+     * @param id the name and tags of the metric
+     * @param histogram the histogram which is updated by the decorator
+     */
+    void registerTimer(final MetricId id, final LatencyHistogram histogram);
+
+    /**
+     * Registers a value like the amount of requests in flight.
+     * @param id the name and tags of the metric
+     * @param gauge the function to read the current value
+     */
+    void registerGauge(final MetricId id, final DoubleSupplier gauge);
+}
@@ -0,0 +1,103 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.RequestTracer;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.RequestPhase;
+import io.sphere.sdk.http.RequestTrace;
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records latency histograms per endpoint and status code and for the phases of the requests from the {@link RequestTrace}s of a client
+ * created with {@link io.sphere.sdk.client.SphereClient#of(io.sphere.sdk.client.SphereApiConfig, io.sphere.sdk.http.HttpClient, io.sphere.sdk.client.SphereAccessTokenSupplier, RequestTracer)}.
+ *
+ * <p>Since the phases are recorded by the client itself, decorators of the client see the original requests and can be combined in any order.
+ * The durations are recorded into {@link LatencyHistogram}s without locks, the tracer registers each metric once at the {@link MetricsRegistry} which exports it:</p>
+ *
+ * <ul>
+ * <li>{@value #REQUESTS} with the tags {@value #ENDPOINT_TAG} and {@value #STATUS_TAG}: the time from passing the request to the client until the result is complete,
+ * the status is {@value #NO_STATUS_TAG_VALUE} for requests without a response like timeouts</li>
+ * <li>{@value #TOKEN_WAIT} with the tag {@value #ENDPOINT_TAG}: the time until the access token was present</li>
+ * <li>{@value #SERIALIZATION}: the time to create the HTTP request from the {@link SphereRequest}</li>
+ * <li>{@value #HTTP_WAIT}: the time from creating the HTTP request until the response body arrived</li>
+ * <li>{@value #DESERIALIZATION}: the time to create the result from the response, only for successful requests</li>
+ * </ul>
+ *
+ * <p>The amount of running requests is recorded by a {@link MetricsSphereClientDecorator}.</p>
+ *
+ * <pre>{@code
+ * final InMemoryMetricsRegistry registry = InMemoryMetricsRegistry.of();
+ * final SphereClient client = SphereClient.of(config, httpClient, tokenSupplier, MetricsRequestTracer.of(registry));
+ * }</pre>
+ */
+public final class MetricsRequestTracer extends Base implements RequestTracer {
+    public static final String REQUESTS = "sphere.client.requests";
+    public static final String TOKEN_WAIT = "sphere.client.token.wait";
+    public static final String SERIALIZATION = "sphere.client.serialization";
+    public static final String HTTP_WAIT = "sphere.client.http.wait";
+    public static final String DESERIALIZATION = "sphere.client.deserialization";
+    public static final String ENDPOINT_TAG = "endpoint";
+    public static final String STATUS_TAG = "status";
+    public static final String NO_STATUS_TAG_VALUE = "none";
+    private final MetricsRegistry registry;
+    private final ConcurrentHashMap<String, EndpointMetrics> metricsByEndpoint = new ConcurrentHashMap<>();
+
+    private MetricsRequestTracer(final MetricsRegistry registry) {
+        this.registry = requireNonNull(registry);
+    }
+
+    public static MetricsRequestTracer of(final MetricsRegistry registry) {
+        return new MetricsRequestTracer(registry);
+    }
+
+    @Override
+    public void onComplete(final SphereRequest<?> sphereRequest, final RequestTrace trace, @Nullable final Throwable throwable) {
+        final long end = System.nanoTime();
+        final EndpointMetrics metrics = metricsOf(endpointOf(trace));
+        metrics.requests(statusCodeOf(trace)).record(end - trace.getNanoTime(RequestPhase.ENQUEUED));
+        record(metrics.tokenWait, trace, RequestPhase.ENQUEUED, RequestPhase.TOKEN_READY);
+        record(metrics.serialization, trace, RequestPhase.TOKEN_READY, RequestPhase.REQUEST_SERIALIZED);
+        record(metrics.httpWait, trace, RequestPhase.REQUEST_SERIALIZED, RequestPhase.BODY_COMPLETE);
+        if (throwable == null) {
+            record(metrics.deserialization, trace, RequestPhase.PARSING_STARTED, RequestPhase.PARSED);
+        }
+    }
+
+    private static void record(final LatencyHistogram histogram, final RequestTrace trace, final RequestPhase from, final RequestPhase to) {
+        final long start = trace.getNanoTime(from);
+        final long end = trace.getNanoTime(to);
+        if (start != RequestTrace.NOT_RECORDED && end != RequestTrace.NOT_RECORDED) {
+            histogram.record(end - start);
+        }
+    }
+
+    private EndpointMetrics metricsOf(final String endpoint) {
+        final EndpointMetrics metrics = metricsByEndpoint.get(endpoint);
+        return metrics != null ? metrics : metricsByEndpoint.computeIfAbsent(endpoint, e -> new EndpointMetrics(e, registry));
+    }
+
+    private static int statusCodeOf(final RequestTrace trace) {
+        final String statusCode = trace.getAttributes().get(RequestTrace.HTTP_STATUS_CODE);
+        try {
+            return statusCode != null ? Integer.parseInt(statusCode) : EndpointMetrics.NO_STATUS;
+        } catch (final NumberFormatException e) {
+            return EndpointMetrics.NO_STATUS;
+        }
+    }
+
+    /**
+     * Gets the endpoint which the client determined like for the other decorators, the paths of the project itself are tagged with {@code project}.
+     */
+    private static String endpointOf(final RequestTrace trace) {
+        final String endpoint = trace.getAttributes().get(RequestTracer.ENDPOINT);
+        if (endpoint == null) {
+            //the request could not be serialized
+            return "unknown";
+        }
+        return endpoint.isEmpty() ? "project" : endpoint;
+    }
+}
@@ -0,0 +1,61 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereClientDecorator;
+import io.sphere.sdk.client.SphereRequest;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorates a {@link SphereClient} to record the amount of requests which are not complete yet as gauge {@value #IN_FLIGHT}.
+ *
+ * <p>The decorator passes the requests unchanged to the underlying client, so it can be combined with other decorators in any order.
+ * It counts the requests at its position, for example above a {@link io.sphere.sdk.client.LimitingSphereClientDecorator} it counts also the queued requests.
+ * The latencies per endpoint, status code and phase are recorded by a {@link MetricsRequestTracer} of the underlying client.
+ * Gauges of other components like the queue of a {@link io.sphere.sdk.client.LimitingSphereClientDecorator} can be registered at the same registry.</p>
+ *
+ * <p>Use {@link MetricsSphereClientDecoratorBuilder} for creation.</p>
+ *
+ * @see MetricsSphereClientDecoratorBuilder
+ */
+public final class MetricsSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    public static final String IN_FLIGHT = "sphere.client.requests.in-flight";
+    private final LongAdder inFlight = new LongAdder();
+    private final boolean closeUnderlyingClient;
+
+    MetricsSphereClientDecorator(final SphereClient delegate, final MetricsRegistry registry, final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        registry.registerGauge(MetricId.of(IN_FLIGHT), inFlight::sum);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        inFlight.increment();
+        final CompletionStage<T> result;
+        try {
+            result = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            inFlight.decrement();
+            throw e;
+        }
+        result.whenComplete((value, throwable) -> inFlight.decrement());
+        return result;
+    }
+
+    /**
+     * Gets the amount of requests which are not complete yet.
+     * @return the amount of in-flight requests
+     */
+    public long getInFlightRequestCount() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.models.Base;
+import io.sphere.sdk.models.Builder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link MetricsSphereClientDecorator}.
+ *
+ * <p>By default closing the decorator closes also the underlying client.</p>
+ *
+ * <p>Example to record the latencies and running requests of a client and the queue size of a limiting decorator in memory:</p>
+ *
+ * <pre>{@code
+ * final InMemoryMetricsRegistry registry = InMemoryMetricsRegistry.of();
+ * final SphereClient sphereClient = SphereClient.of(config, httpClient, tokenSupplier, MetricsRequestTracer.of(registry));
+ * final SphereClient measured = MetricsSphereClientDecoratorBuilder.of(sphereClient, registry).build();
+ * final LimitingSphereClientDecorator client = LimitingSphereClientDecoratorBuilder.of(measured, 20).build();
+ * registry.registerGauge(MetricId.of("sphere.client.queue.size"), client::getQueuedRequestCount);
+ * }</pre>
+ */
+public final class MetricsSphereClientDecoratorBuilder extends Base implements Builder<MetricsSphereClientDecorator> {
+    private final SphereClient delegate;
+    private final MetricsRegistry registry;
+    private boolean closeUnderlyingClient = true;
+
+    private MetricsSphereClientDecoratorBuilder(final SphereClient delegate, final MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.registry = requireNonNull(registry);
+    }
+
+    public static MetricsSphereClientDecoratorBuilder of(final SphereClient delegate, final MetricsRegistry registry) {
+        return new MetricsSphereClientDecoratorBuilder(delegate, registry);
+    }
+
+    public MetricsSphereClientDecoratorBuilder closeUnderlyingClient(final boolean closeUnderlyingClient) {
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        return this;
+    }
+
+    @Override
+    public MetricsSphereClientDecorator build() {
+        return new MetricsSphereClientDecorator(delegate, registry, closeUnderlyingClient);
+    }
+}
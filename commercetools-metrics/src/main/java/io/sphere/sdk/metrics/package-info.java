@@ -0,0 +1,4 @@
+/**
+ * Provides a {@link io.sphere.sdk.client.RequestTracer} which records latency histograms and a {@link io.sphere.sdk.client.SphereClient} decorator which counts the running requests, both export the metrics through a {@link io.sphere.sdk.metrics.MetricsRegistry}.
+ */
+package io.sphere.sdk.metrics;
@@ -0,0 +1,40 @@
+package io.sphere.sdk.metrics;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+    @Test
+    public void bucketsAreContiguous() throws Exception {
+        for (long value = 0; value < 100_000; value++) {
+            final int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value).isTrue();
+        }
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void percentilesHaveABoundedRelativeError() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(i * 1_000_000L));
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMaxNanos()).isEqualTo(1_000_000_000L);
+        assertThat(histogram.getMeanNanos()).isEqualTo(500_500_000.0);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(500_000_000L, 532_000_000L);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(990_000_000L, 1_000_000_000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    public void recordsConcurrently() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(i -> histogram.record(i % 1000));
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(999);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,113 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.NotFoundException;
+import io.sphere.sdk.client.SphereAccessTokenSupplier;
+import io.sphere.sdk.client.SphereApiConfig;
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.http.HttpClientAdapterBase;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import static io.sphere.sdk.metrics.MetricsRequestTracer.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsRequestTracerTest {
+    private final InMemoryMetricsRegistry registry = InMemoryMetricsRegistry.of();
+
+    @Test
+    public void recordsRequestsPerEndpointAndStatus() throws Exception {
+        final SphereClient client = client(new ResponseHttpClient());
+        client.execute(TestSphereRequest.of("/categories?limit=1")).toCompletableFuture().join();
+        client.execute(TestSphereRequest.of("/categories/id")).toCompletableFuture().join();
+        try {
+            client.execute(TestSphereRequest.of("/product-types/missing")).toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(NotFoundException.class);
+        }
+        assertThat(registry.getTimer(requests("categories", "200")).getCount()).isEqualTo(2);
+        assertThat(registry.getTimer(requests("product-types", "404")).getCount()).isEqualTo(1);
+        assertThat(registry.getTimer(MetricId.of(DESERIALIZATION).withTag(ENDPOINT_TAG, "categories")).getCount()).isEqualTo(2);
+        assertThat(registry.getTimer(MetricId.of(DESERIALIZATION).withTag(ENDPOINT_TAG, "product-types")).getCount()).isEqualTo(0);
+        assertThat(registry.getTimer(MetricId.of(HTTP_WAIT).withTag(ENDPOINT_TAG, "product-types")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void measuresThePhases() throws Exception {
+        final SphereClient client = client(new ResponseHttpClient());
+        final TestSphereRequest request = TestSphereRequest.of("/categories");
+        request.serializationMillis = 20;
+        request.deserializationMillis = 30;
+        client.execute(request).toCompletableFuture().join();
+        final LatencyHistogram serialization = registry.getTimer(MetricId.of(SERIALIZATION).withTag(ENDPOINT_TAG, "categories"));
+        final LatencyHistogram deserialization = registry.getTimer(MetricId.of(DESERIALIZATION).withTag(ENDPOINT_TAG, "categories"));
+        final LatencyHistogram total = registry.getTimer(requests("categories", "200"));
+        assertThat(serialization.getMaxNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(deserialization.getMaxNanos()).isGreaterThanOrEqualTo(30_000_000L);
+        assertThat(total.getMaxNanos()).isGreaterThanOrEqualTo(serialization.getMaxNanos() + deserialization.getMaxNanos());
+    }
+
+    @Test
+    public void requestsWithoutResponseHaveNoStatus() throws Exception {
+        final SphereClient client = client(new FailingHttpClient());
+        final CompletionStage<String> result = client.execute(TestSphereRequest.of("/carts"));
+        assertThat(result.toCompletableFuture().isCompletedExceptionally()).isTrue();
+        assertThat(registry.getTimer(requests("carts", NO_STATUS_TAG_VALUE)).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsWithoutAccessTokenAreRecordedForTheirEndpoint() throws Exception {
+        final SphereAccessTokenSupplier failingTokenSupplier = new SphereAccessTokenSupplier() {
+            @Override
+            public CompletionStage<String> get() {
+                return CompletableFutureUtils.failed(new IllegalStateException("no token"));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final SphereClient client = SphereClient.of(SphereApiConfig.of("test"), new ResponseHttpClient(), failingTokenSupplier, MetricsRequestTracer.of(registry));
+        final CompletionStage<String> result = client.execute(TestSphereRequest.of("/carts/id"));
+        assertThat(result.toCompletableFuture().isCompletedExceptionally()).isTrue();
+        assertThat(registry.getTimer(requests("carts", NO_STATUS_TAG_VALUE)).getCount()).isEqualTo(1);
+    }
+
+    private SphereClient client(final HttpClientAdapterBase httpClient) {
+        return SphereClient.of(SphereApiConfig.of("test"), httpClient, SphereAccessTokenSupplier.ofConstantToken("foo"), MetricsRequestTracer.of(registry));
+    }
+
+    private static MetricId requests(final String endpoint, final String status) {
+        return MetricId.of(REQUESTS).withTag(ENDPOINT_TAG, endpoint).withTag(STATUS_TAG, status);
+    }
+
+    /**
+     * Responds to paths containing "missing" with 404 and to all other paths with 200.
+     */
+    private static final class ResponseHttpClient extends HttpClientAdapterBase {
+        @Override
+        protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
+            return CompletableFutureUtils.successful(HttpResponse.of(httpRequest.getUrl().contains("missing") ? 404 : 200, "{}"));
+        }
+
+        @Override
+        protected void closeDelegate() {
+        }
+    }
+
+    private static final class FailingHttpClient extends HttpClientAdapterBase {
+        @Override
+        protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
+            return CompletableFutureUtils.failed(new TimeoutException());
+        }
+
+        @Override
+        protected void closeDelegate() {
+        }
+    }
+}
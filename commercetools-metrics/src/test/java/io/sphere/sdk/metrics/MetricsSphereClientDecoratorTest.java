@@ -0,0 +1,53 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.SphereClient;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.client.SphereTimeoutException;
+import io.sphere.sdk.models.Base;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import static io.sphere.sdk.metrics.MetricsSphereClientDecorator.IN_FLIGHT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsSphereClientDecoratorTest {
+    private final InMemoryMetricsRegistry registry = InMemoryMetricsRegistry.of();
+
+    @Test
+    public void countsRunningRequests() throws Exception {
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final PendingSphereClient delegate = new PendingSphereClient(pending);
+        final MetricsSphereClientDecorator client = MetricsSphereClientDecoratorBuilder.of(delegate, registry).build();
+        final TestSphereRequest request = TestSphereRequest.of("/carts");
+        final CompletionStage<String> result = client.execute(request);
+        assertThat(delegate.request).isSameAs(request);
+        assertThat(client.getInFlightRequestCount()).isEqualTo(1);
+        assertThat(registry.getGaugeValue(MetricId.of(IN_FLIGHT))).isEqualTo(1.0);
+        pending.completeExceptionally(new SphereTimeoutException(new TimeoutException()));
+        assertThat(result.toCompletableFuture().isCompletedExceptionally()).isTrue();
+        assertThat(client.getInFlightRequestCount()).isEqualTo(0);
+    }
+
+    private static final class PendingSphereClient extends Base implements SphereClient {
+        private final CompletableFuture<Object> pending;
+        private volatile SphereRequest<?> request;
+
+        private PendingSphereClient(final CompletableFuture<Object> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            request = sphereRequest;
+            return (CompletionStage<T>) pending;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
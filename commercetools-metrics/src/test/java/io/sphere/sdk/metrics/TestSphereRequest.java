@@ -0,0 +1,49 @@
+package io.sphere.sdk.metrics;
+
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.Base;
+
+/**
+ * Request which deserializes only responses with the status code 200 and can take time to create the HTTP request and to deserialize.
+ */
+final class TestSphereRequest extends Base implements SphereRequest<String> {
+    private final String path;
+    long serializationMillis = 0;
+    long deserializationMillis = 0;
+
+    private TestSphereRequest(final String path) {
+        this.path = path;
+    }
+
+    static TestSphereRequest of(final String path) {
+        return new TestSphereRequest(path);
+    }
+
+    @Override
+    public boolean canDeserialize(final HttpResponse httpResponse) {
+        return httpResponse.getStatusCode() == 200;
+    }
+
+    @Override
+    public String deserialize(final HttpResponse httpResponse) {
+        sleep(deserializationMillis);
+        return "result";
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        sleep(serializationMillis);
+        return HttpRequestIntent.of(HttpMethod.GET, path);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
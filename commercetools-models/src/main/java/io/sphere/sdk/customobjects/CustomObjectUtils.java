@@ -1,7 +1,7 @@
 package io.sphere.sdk.customobjects;
 
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.sphere.sdk.json.SphereJsonUtils;
 
 /**
  * Internal utility class.
@@ -11,7 +11,6 @@ public final class CustomObjectUtils {
     }
 
     public static JavaType getCustomObjectJavaTypeForValue(final JavaType javaType) {
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        return typeFactory.constructParametrizedType(CustomObject.class, CustomObject.class, javaType);
+        return SphereJsonUtils.convertToJavaType(CustomObject.class, javaType);
     }
 }
@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.sphere.sdk.json.SphereJsonUtils;
 import io.sphere.sdk.models.Reference;
 import io.sphere.sdk.models.ResourceImpl;
@@ -39,8 +38,7 @@ public abstract class GenericMessageImpl<R> extends ResourceImpl<Message> implem
         this.type = type;
         requireNonNull(clazz, "class of reference must be explicitly given, it cannot be part of a JsonCreator.");
         final JavaType javaType = SphereJsonUtils.convertToJavaType(clazz);
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        this.referenceJavaType = typeFactory.constructParametrizedType(Reference.class, Reference.class, javaType);
+        this.referenceJavaType = SphereJsonUtils.convertToJavaType(Reference.class, javaType);
     }
 
     @Override
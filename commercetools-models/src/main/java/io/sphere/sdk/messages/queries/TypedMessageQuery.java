@@ -1,10 +1,10 @@
 package io.sphere.sdk.messages.queries;
 
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.sphere.sdk.client.HttpRequestIntent;
 import io.sphere.sdk.client.SphereRequestUtils;
 import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.json.SphereJsonUtils;
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.queries.PagedQueryResult;
 import io.sphere.sdk.queries.Query;
@@ -15,8 +15,7 @@ final class TypedMessageQuery<T> extends Base implements Query<T> {
 
     public TypedMessageQuery(final HttpRequestIntent httpRequestIntent, final JavaType elementJavaType) {
         this.httpRequestIntent = httpRequestIntent;
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        resultJavaType = typeFactory.constructParametrizedType(PagedQueryResult.class, PagedQueryResult.class, elementJavaType);
+        resultJavaType = SphereJsonUtils.convertToJavaType(PagedQueryResult.class, elementJavaType);
     }
 
     @Override
@@ -6,14 +6,21 @@ import io.sphere.sdk.products.attributes.AttributeMapper;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
 
+import javax.annotation.Nullable;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 class AttributeContainerImpl extends Base implements AttributeContainer {
     private final List<Attribute> attributes;
+    /**
+     * Index of the attributes by name, built on the first lookup, for duplicate names the first attribute wins like in a linear search.
+     */
+    private transient volatile Map<String, Attribute> attributesByName;
 
     protected AttributeContainerImpl(List<Attribute> attributes) {
         this.attributes = attributes;
@@ -27,9 +34,7 @@ class AttributeContainerImpl extends Base implements AttributeContainer {
     @Override
     public <T> Optional<T> findAttribute(final NamedAttributeAccess<T> accessor) {
         final String attributeName = accessor.getName();
-        final Optional<Attribute> attributeOption = getAttributes().stream()
-                .filter(a -> Objects.equals(attributeName, a.getName()))
-                .findFirst();
+        final Optional<Attribute> attributeOption = Optional.ofNullable(attributesByName().get(attributeName));
 
         return attributeOption.map(attribute -> {
             final AttributeMapper<T> mapper = accessor.attributeMapper();
@@ -42,6 +47,35 @@ class AttributeContainerImpl extends Base implements AttributeContainer {
         });
     }
 
+    @Override
+    public boolean hasAttribute(final String attributeName) {
+        return attributesByName().containsKey(attributeName);
+    }
+
+    @Override
+    public boolean hasAttribute(final NamedAttributeAccess<?> namedAccess) {
+        return hasAttribute(namedAccess.getName());
+    }
+
+    @Nullable
+    @Override
+    public Attribute getAttribute(final String attributeName) {
+        requireNonNull(attributeName);
+        return attributesByName().get(attributeName);
+    }
+
+    private Map<String, Attribute> attributesByName() {
+        Map<String, Attribute> index = attributesByName;
+        if (index == null) {
+            index = new HashMap<>();
+            for (final Attribute attribute : getAttributes()) {
+                index.putIfAbsent(attribute.getName(), attribute);
+            }
+            attributesByName = index;
+        }
+        return index;
+    }
+
     protected JsonException transformError(JsonException e, String attributeName, AttributeMapper<?> mapper) {
         return new JsonException(format("AttributeContainer does not contain an attribute '%s' which can be mapped with %s.", attributeName, mapper), e.getCause());
     }
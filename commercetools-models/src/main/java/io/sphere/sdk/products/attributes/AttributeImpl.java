@@ -6,6 +6,9 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
 
+import java.util.Collection;
+import java.util.Map;
+
 import static java.lang.String.format;
 
 final class AttributeImpl extends Base implements Attribute {
@@ -14,6 +17,11 @@ final class AttributeImpl extends Base implements Attribute {
     @JsonSerialize
     private final JsonNode value;
 
+    /**
+     * The last decoded value together with the mapper which produced it, so repeated reads with an equal {@link AttributeMapper} don't deserialize again.
+     */
+    private transient volatile DecodedValue decodedValue;
+
     @JsonCreator
     public AttributeImpl(final String name, final JsonNode value) {
         this.name = name;
@@ -26,10 +34,42 @@ final class AttributeImpl extends Base implements Attribute {
 
     @Override
     public <T> T getValue(final AttributeAccess<T> access) {
+        final AttributeMapper<T> mapper = access.attributeMapper();
+        final DecodedValue cached = decodedValue;
+        if (cached != null && (cached.mapper == mapper || cached.mapper.equals(mapper))) {
+            @SuppressWarnings("unchecked")
+            final T result = (T) cached.value;
+            return result;
+        }
         try {
-            return access.attributeMapper().deserialize(value);
+            final T result = mapper.deserialize(value);
+            if (isCacheable(result)) {
+                decodedValue = new DecodedValue(mapper, result);
+            }
+            return result;
         } catch (final JsonException e) {
             throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), access.attributeMapper()), e.getCause());
         }
     }
+
+    /**
+     * Values which can be changed by the caller like sets or JSON nodes are deserialized for every call.
+     */
+    private static boolean isCacheable(final Object result) {
+        return result != null
+                && !(result instanceof Collection)
+                && !(result instanceof Map)
+                && !(result instanceof JsonNode)
+                && !result.getClass().isArray();
+    }
+
+    private static final class DecodedValue {
+        private final AttributeMapper<?> mapper;
+        private final Object value;
+
+        private DecodedValue(final AttributeMapper<?> mapper, final Object value) {
+            this.mapper = mapper;
+            this.value = value;
+        }
+    }
 }
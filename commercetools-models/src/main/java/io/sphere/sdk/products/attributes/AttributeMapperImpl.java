@@ -31,6 +31,20 @@ class AttributeMapperImpl<T> extends Base implements AttributeMapper<T> {
         return mapper.valueToTree(value);
     }
 
+    /**
+     * Mappers are equal if they are of the same class and map the same type, so a new {@link AttributeAccess} of the same type can use the values decoded by another one.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o != null && getClass() == o.getClass()
+                && typeReference.getType().equals(((AttributeMapperImpl<?>) o).typeReference.getType()));
+    }
+
+    @Override
+    public int hashCode() {
+        return typeReference.getType().hashCode();
+    }
+
     protected final ObjectMapper mapper() {
         return mapper;
     }
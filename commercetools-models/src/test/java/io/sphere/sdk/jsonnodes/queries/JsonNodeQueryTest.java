@@ -0,0 +1,47 @@
+package io.sphere.sdk.jsonnodes.queries;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.StreamingHttpResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonNodeQueryTest {
+    private static final String PAGE = "{\"offset\":0,\"count\":2,\"total\":2,\"results\":[{\"id\":\"a\"},{\"id\":\"b\"}]}";
+
+    @Test
+    public void forEachResultParsesTheResultsOneByOne() {
+        final JsonNodeQuery query = JsonNodeQuery.of("/categories").withLimit(2L);
+        final List<String> ids = new ArrayList<>();
+        final long count = query.forEachResult(HttpResponse.of(200, PAGE), node -> ids.add(node.get("id").asText()));
+        assertThat(count).isEqualTo(2);
+        assertThat(ids).containsExactly("a", "b");
+    }
+
+    @Test
+    public void streamingRequest() {
+        final JsonNodeQuery query = JsonNodeQuery.of("/categories");
+        final List<JsonNode> results = new ArrayList<>();
+        final SphereRequest<Long> request = query.toStreamingRequest(results::add);
+        assertThat(request.httpRequestIntent()).isEqualTo(query.httpRequestIntent());
+        assertThat(request.deserialize(HttpResponse.of(200, PAGE))).isEqualTo(2L);
+        assertThat(results).isEqualTo(query.deserialize(HttpResponse.of(200, PAGE)).getResults());
+    }
+
+    @Test
+    public void streamingRequestReadsStreamingResponse() {
+        final JsonNodeQuery query = JsonNodeQuery.of("/categories");
+        final List<String> ids = new ArrayList<>();
+        final SphereRequest<Long> request = query.toStreamingRequest(node -> ids.add(node.get("id").asText()));
+        final StreamingHttpResponse response = StreamingHttpResponse.of(HttpResponse.of(200, PAGE));
+        assertThat(request.acceptsStreamingResponse()).isTrue();
+        assertThat(request.canDeserialize(response)).isTrue();
+        assertThat(request.deserialize(response)).isEqualTo(2L);
+        assertThat(ids).containsExactly("a", "b");
+    }
+}
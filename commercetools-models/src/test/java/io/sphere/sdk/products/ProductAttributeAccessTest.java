@@ -99,6 +99,35 @@ public class ProductAttributeAccessTest {
         assertThat(map(attr)).isEqualTo("<no mapping found>");
     }
 
+    @Test
+    public void lookupByNameUsesFirstAttributeOfAName() throws Exception {
+        final AttributeContainer container = AttributeContainer.of(asList(
+                Attribute.of("color", ofString(), "red"), Attribute.of("size", ofString(), "M"), Attribute.of("color", ofString(), "blue")));
+        assertThat(container.hasAttribute("color")).isTrue();
+        assertThat(container.hasAttribute(ofString().ofName("size"))).isTrue();
+        assertThat(container.hasAttribute(NOT_PRESENT)).isFalse();
+        assertThat(container.getAttribute("color").getValue(ofString())).isEqualTo("red");
+        assertThat(container.getAttribute(NOT_PRESENT)).isNull();
+        assertThat(container.findAttribute("color", ofString())).contains("red");
+    }
+
+    @Test
+    public void decodedValueIsReusedForTheSameType() throws Exception {
+        final Attribute attribute = variant.getAttribute(LOC_STRING_ATTRIBUTE);
+        final LocalizedString value = attribute.getValue(ofLocalizedString());
+        assertThat(attribute.getValue(ofLocalizedString())).isSameAs(value);
+        assertThat(attribute.getValue(ofJsonNode()).get("en").asText()).isEqualTo("val-loc-string-en");
+        assertThat(attribute.getValue(ofLocalizedString())).isEqualTo(value);
+    }
+
+    @Test
+    public void mutableDecodedValuesAreNotShared() throws Exception {
+        final Attribute attribute = Attribute.of("tags", ofStringSet(), new HashSet<>(asList("a", "b")));
+        final Set<String> value = attribute.getValue(ofStringSet());
+        value.add("c");
+        assertThat(attribute.getValue(ofStringSet())).containsOnly("a", "b");
+    }
+
 
     private String map(final Attribute attr) {
         final MetaProductType metaProductType = MetaProductType.of(asList(productType));
@@ -9,6 +9,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * HTTP code 409 response from SPHERE.IO.
@@ -65,7 +66,9 @@ public class ConcurrentModificationException extends ClientErrorException implem
         return ObjectUtils.defaultIfNull(errors, Collections.emptyList()).stream()
                 .map(errror -> (SphereError) errror)
                 .filter(error -> ConcurrentModificationError.CODE.equals(error.getCode()))
-                .map(error -> error.as(ConcurrentModificationError.class).getCurrentVersion())
+                .map(error -> error instanceof ConcurrentModificationError ? (ConcurrentModificationError) error : error.as(ConcurrentModificationError.class))
+                .map(ConcurrentModificationError::getCurrentVersion)
+                .filter(Objects::nonNull)
                 .findFirst()
                 .orElse(null);
     }
@@ -43,4 +43,14 @@ public interface SphereRequest<T> {
     default boolean canDeserialize(final HttpResponse httpResponse) {
         return httpResponse.hasSuccessResponseCode() && httpResponse.getResponseBody() != null;
     }
+
+    /**
+     Checks if {@link #deserialize(HttpResponse)} reads the body incrementally from a {@link io.sphere.sdk.http.StreamingHttpResponse}.
+     In this case the client passes a response whose body may still be in transfer, {@link #canDeserialize(HttpResponse)} should not read the whole body then.
+
+     @return true if the request can consume a streaming response, false otherwise
+     */
+    default boolean acceptsStreamingResponse() {
+        return false;
+    }
 }
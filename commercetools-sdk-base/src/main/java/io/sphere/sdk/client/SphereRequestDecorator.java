@@ -28,4 +28,9 @@ public abstract class SphereRequestDecorator<T> extends Base implements SphereRe
     public T deserialize(final HttpResponse httpResponse) {
         return delegate.deserialize(httpResponse);
     }
+
+    @Override
+    public boolean acceptsStreamingResponse() {
+        return delegate.acceptsStreamingResponse();
+    }
 }
@@ -1,6 +1,9 @@
 package io.sphere.sdk.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -8,13 +11,20 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Public utility class to work with JSON from SPHERE.IO.
@@ -23,9 +33,24 @@ import java.util.Map;
  *
  * {@include.example io.sphere.sdk.json.SphereJsonUtilsTest#exceptionHandling()}
  *
+ * <p>The Java types, the readers and the writers are resolved only once per type and reused, see {@link #warmUp(JavaType...)}.</p>
+ *
+ * <p>If the system property {@value #ACCELERATED_OBJECT_MAPPER_PROPERTY} is {@code true} the utils use an object mapper
+ * created by {@link #newAcceleratedObjectMapper()}.</p>
+ *
  */
 public final class SphereJsonUtils {
-    private static final ObjectMapper objectMapper = newObjectMapper();
+    /**
+     * Name of the system property to let the utils use {@link #newAcceleratedObjectMapper()}.
+     */
+    public static final String ACCELERATED_OBJECT_MAPPER_PROPERTY = "sphere.json.acceleratedObjectMapper";
+    private static final String AFTERBURNER_MODULE_CLASS_NAME = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+    private static final Logger logger = LoggerFactory.getLogger(SphereJsonUtils.class);
+    private static final ObjectMapper objectMapper = Boolean.getBoolean(ACCELERATED_OBJECT_MAPPER_PROPERTY) ? newAcceleratedObjectMapper() : newObjectMapper();
+    private static final ConcurrentMap<Type, JavaType> javaTypes = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<JavaType, JavaType>> parametrizedJavaTypes = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     private SphereJsonUtils() {
     }
@@ -48,6 +73,27 @@ public final class SphereJsonUtils {
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /**
+     * Creates a new {@link ObjectMapper} like {@link #newObjectMapper()} which uses generated bytecode instead of reflection
+     * to access properties and to create instances, this requires the optional dependency
+     * {@code com.fasterxml.jackson.module:jackson-module-afterburner}.
+     *
+     * <p>Properties which cannot be accelerated, for example private fields, are accessed by reflection as before.
+     * If the module is not on the classpath the result is the same as {@link #newObjectMapper()}.</p>
+     *
+     * @return new object mapper
+     */
+    public static ObjectMapper newAcceleratedObjectMapper() {
+        final ObjectMapper objectMapper = newObjectMapper();
+        try {
+            final Module afterburnerModule = (Module) Class.forName(AFTERBURNER_MODULE_CLASS_NAME).getConstructor().newInstance();
+            return objectMapper.registerModule(afterburnerModule);
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            logger.warn("Cannot use the Afterburner module, falling back to reflection. Add com.fasterxml.jackson.module:jackson-module-afterburner:" + objectMapper.version() + " to the classpath to accelerate JSON mapping.", e);
+            return objectMapper;
+        }
+    }
+
     /**
      * Converts a SPHERE.IO Java object to JSON as String.
      *
@@ -57,7 +103,7 @@ public final class SphereJsonUtils {
      * @return JSON string representation of the value
      */
     public static String toJsonString(final Object value) {
-        return executing(() -> objectMapper.writeValueAsString(value));
+        return executing(() -> value == null ? objectMapper.writeValueAsString(null) : writerFor(value.getClass()).writeValueAsString(value));
     }
 
     /**
@@ -129,14 +175,14 @@ public final class SphereJsonUtils {
     public static <T> T readObjectFromResource(final String resourcePath, final TypeReference<T> typeReference) {
         return executing(() -> {
             final InputStream resourceAsStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath);
-            return objectMapper.readValue(new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8.name()), typeReference);
+            return readerFor(convertToJavaType(typeReference)).readValue(new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8.name()));
         });
     }
 
     public static <T> T readObjectFromResource(final String resourcePath, final JavaType javaType) {
         return executing(() -> {
             final InputStream resourceAsStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath);
-            return objectMapper.readValue(new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8.name()), javaType);
+            return readerFor(javaType).readValue(new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8.name()));
         });
     }
 
@@ -156,11 +202,11 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final String jsonAsString, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readValue(jsonAsString, typeReference));
+        return executing(() -> readerFor(convertToJavaType(typeReference)).readValue(jsonAsString));
     }
 
     public static <T> T readObject(final String jsonAsString, final Class<T> clazz) {
-        return executing(() -> objectMapper.readValue(jsonAsString, clazz));
+        return executing(() -> readerFor(javaTypeOf(clazz)).readValue(jsonAsString));
     }
 
     /**
@@ -174,7 +220,7 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final JsonNode jsonNode, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readerFor(typeReference).readValue(jsonNode));
+        return executing(() -> readerFor(convertToJavaType(typeReference)).readValue(jsonNode));
     }
 
     /**
@@ -188,11 +234,11 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final JsonNode jsonNode, final Class<T> clazz) {
-        return executing(() -> objectMapper.readerFor(clazz).readValue(jsonNode));
+        return executing(() -> readerFor(javaTypeOf(clazz)).readValue(jsonNode));
     }
 
     public static <T> T readObject(final JsonNode jsonNode, final JavaType javaType) {
-        return executing(() -> objectMapper.readerFor(javaType).readValue(jsonNode));
+        return executing(() -> readerFor(javaType).readValue(jsonNode));
     }
 
     /**
@@ -206,11 +252,41 @@ public final class SphereJsonUtils {
      * @return the created objected
      */
     public static <T> T readObject(final byte[] jsonAsBytes, final TypeReference<T> typeReference) {
-        return executing(() -> objectMapper.readValue(jsonAsBytes, typeReference));
+        return executing(() -> readerFor(convertToJavaType(typeReference)).readValue(jsonAsBytes));
     }
 
     public static <T> T readObject(final byte[] jsonAsBytes, final JavaType javaType) {
-        return executing(() -> objectMapper.readValue(jsonAsBytes, javaType));
+        return executing(() -> readerFor(javaType).readValue(jsonAsBytes));
+    }
+
+    /**
+     * Reads the elements of the array in the top level field {@code arrayFieldName} of a JSON object one by one
+     * and passes each element to {@code consumer} as soon as it is parsed, so the array is never materialized as a whole.
+     * Other fields of the object are skipped.
+     *
+     * {@include.example io.sphere.sdk.json.SphereJsonUtilsTest#readArrayElements()}
+     *
+     * @param jsonAsBytes the JSON data of an object encoded as UTF-8
+     * @param arrayFieldName the name of the field containing the array
+     * @param elementJavaType the type of one array element
+     * @param consumer consumer for the elements
+     * @param <T> the type of the array elements
+     * @return the number of elements passed to {@code consumer}
+     */
+    public static <T> long readArrayElements(final byte[] jsonAsBytes, final String arrayFieldName, final JavaType elementJavaType, final Consumer<? super T> consumer) {
+        return executing(() -> {
+            try (final JsonParser parser = objectMapper.getFactory().createParser(jsonAsBytes)) {
+                return readArrayElements(parser, arrayFieldName, elementJavaType, consumer);
+            }
+        });
+    }
+
+    public static <T> long readArrayElements(final InputStream jsonInputStream, final String arrayFieldName, final JavaType elementJavaType, final Consumer<? super T> consumer) {
+        return executing(() -> {
+            try (final JsonParser parser = objectMapper.getFactory().createParser(jsonInputStream)) {
+                return readArrayElements(parser, arrayFieldName, elementJavaType, consumer);
+            }
+        });
     }
 
     /**
@@ -225,8 +301,31 @@ public final class SphereJsonUtils {
     }
 
     public static <T> JavaType convertToJavaType(final TypeReference<T> typeReference) {
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        return typeFactory.constructType(typeReference);
+        return cached(javaTypes, typeReference.getType(), type -> TypeFactory.defaultInstance().constructType(type));
+    }
+
+    /**
+     * Creates the Java type of a class with one type parameter like {@code PagedQueryResult<Category>}, the result is cached.
+     *
+     * @param parametrizedClass the class with the type parameter like {@code PagedQueryResult.class}
+     * @param parameterJavaType the Java type of the type parameter
+     * @return Java type
+     */
+    public static JavaType convertToJavaType(final Class<?> parametrizedClass, final JavaType parameterJavaType) {
+        final ConcurrentMap<JavaType, JavaType> javaTypesOfClass = cached(parametrizedJavaTypes, parametrizedClass, key -> new ConcurrentHashMap<>());
+        return cached(javaTypesOfClass, parameterJavaType, key -> TypeFactory.defaultInstance().constructParametrizedType(parametrizedClass, parametrizedClass, key));
+    }
+
+    /**
+     * Resolves the readers for the given types including their deserializers, so the first {@code readObject} call for one
+     * of the types does not need to do it. Clients call it on startup for the types they always need.
+     *
+     * @param javaTypes the types to prepare
+     */
+    public static void warmUp(final JavaType... javaTypes) {
+        for (final JavaType javaType : javaTypes) {
+            readerFor(javaType);
+        }
     }
 
     /** Very simple way to "erase" passwords -
@@ -261,6 +360,46 @@ public final class SphereJsonUtils {
         return typeFactory.uncheckedSimpleType(clazz);
     }
 
+    private static JavaType javaTypeOf(final Class<?> clazz) {
+        return cached(javaTypes, clazz, type -> TypeFactory.defaultInstance().constructType(type));
+    }
+
+    private static ObjectReader readerFor(final JavaType javaType) {
+        return cached(readers, javaType, objectMapper::readerFor);
+    }
+
+    private static ObjectWriter writerFor(final Class<?> clazz) {
+        return cached(writers, clazz, objectMapper::writerFor);
+    }
+
+    private static <K, V> V cached(final ConcurrentMap<K, V> cache, final K key, final Function<? super K, ? extends V> factory) {
+        //get first since computeIfAbsent locks even if the key is present
+        final V value = cache.get(key);
+        return value != null ? value : cache.computeIfAbsent(key, factory);
+    }
+
+    private static <T> long readArrayElements(final JsonParser parser, final String arrayFieldName, final JavaType elementJavaType, final Consumer<? super T> consumer) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException("Expected a JSON object but got " + parser.getCurrentToken() + ".", parser.getCurrentLocation());
+        }
+        long count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (arrayFieldName.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                final ObjectReader reader = readerFor(elementJavaType);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    final T element = reader.readValue(parser);
+                    consumer.accept(element);
+                    count++;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
     @FunctionalInterface
     private interface SupplierThrowingIOException<T> {
         T get() throws IOException;
@@ -2,28 +2,88 @@ package io.sphere.sdk.models;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
 
 /**
- * A base class which implements {@link Object#toString()}, {@link Object#hashCode()} and {@link Object#equals(Object)} by reflection.
+ * A base class which implements {@link Object#toString()}, {@link Object#hashCode()} and {@link Object#equals(Object)} with the instance fields of the class.
+ *
+ * <p>The fields are looked up only once per class. The hash code is computed only once for classes which have only final fields
+ * of primitive types, enums or immutable value types like {@link String}, since the objects referenced by other fields may change.</p>
  */
 public abstract class Base {
+    private transient int cachedHashCode;
 
     @Override
     public boolean equals(Object o) {
-        return EqualsBuilder.reflectionEquals(this, o);
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+        final BaseFields fields = comparableFields(getClass(), o.getClass());
+        if (fields == null || (o instanceof Base && hasDifferentCachedHashCode((Base) o))) {
+            return false;
+        }
+        final EqualsBuilder builder = new EqualsBuilder();
+        for (int i = 0; i < fields.size() && builder.isEquals(); i++) {
+            builder.append(fields.getValue(i, this), fields.getValue(i, o));
+        }
+        return builder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = cachedHashCode;
+        if (result == 0) {
+            final BaseFields fields = BaseFields.of(getClass());
+            final HashCodeBuilder builder = new HashCodeBuilder();
+            for (int i = 0; i < fields.size(); i++) {
+                builder.append(fields.getValue(i, this));
+            }
+            result = builder.toHashCode();
+            if (fields.isHashCodeCacheable()) {
+                cachedHashCode = result;
+            }
+        }
+        return result;
     }
 
     @Override
     public String toString() {
-        return new ReflectionToStringBuilder(this, SdkDefaults.TO_STRING_STYLE)
-                //important to not log passwords
-                .setExcludeFieldNames("password", "newPassword", "currentPassword", "oldPassword", "access_token", "accessToken")
-                .build();
+        final BaseFields fields = BaseFields.of(getClass());
+        final ToStringBuilder builder = new ToStringBuilder(this, SdkDefaults.TO_STRING_STYLE);
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.isIncludedInToString(i)) {
+                builder.append(fields.getName(i), fields.getValue(i, this));
+            }
+        }
+        return builder.build();
+    }
+
+    private boolean hasDifferentCachedHashCode(final Base other) {
+        return cachedHashCode != 0 && other.cachedHashCode != 0 && cachedHashCode != other.cachedHashCode;
+    }
+
+    /**
+     * Determines the fields to compare, instances of a class and its subclass are only comparable if the subclass has no additional fields.
+     */
+    private static BaseFields comparableFields(final Class<?> left, final Class<?> right) {
+        if (left == right) {
+            return BaseFields.of(left);
+        }
+        final Class<?> superclass;
+        final Class<?> subclass;
+        if (left.isAssignableFrom(right)) {
+            superclass = left;
+            subclass = right;
+        } else if (right.isAssignableFrom(left)) {
+            superclass = right;
+            subclass = left;
+        } else {
+            return null;
+        }
+        final BaseFields fields = BaseFields.of(superclass);
+        return fields.size() == BaseFields.of(subclass).size() ? fields : null;
     }
 }
@@ -0,0 +1,104 @@
+package io.sphere.sdk.models;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+
+/**
+ * The instance fields of a class which are used by {@link Base#equals(Object)}, {@link Base#hashCode()} and {@link Base#toString()}.
+ *
+ * <p>The fields are collected once per class with the rules of the reflection builders of commons-lang which {@link Base} used before:
+ * static and transient fields and fields with a {@code $} in the name are ignored and the fields of the class come before the fields of its superclasses.</p>
+ */
+final class BaseFields {
+    //important to not log passwords
+    private static final List<String> TO_STRING_EXCLUDED_FIELD_NAMES = Arrays.asList("password", "newPassword", "currentPassword", "oldPassword", "access_token", "accessToken");
+    /**
+     * Types whose instances cannot change, a final field of another type like a collection or a map can refer to a mutable object.
+     */
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigDecimal.class, BigInteger.class, UUID.class, Locale.class, Currency.class,
+            Instant.class, LocalDate.class, LocalTime.class, LocalDateTime.class, ZonedDateTime.class, OffsetDateTime.class,
+            Duration.class, Period.class, ZoneId.class, ZoneOffset.class));
+    private static final ClassValue<BaseFields> CACHE = new ClassValue<BaseFields>() {
+        @Override
+        protected BaseFields computeValue(final Class<?> type) {
+            return new BaseFields(type);
+        }
+    };
+
+    private final String[] names;
+    private final Field[] fields;
+    private final boolean[] includedInToString;
+    private final boolean hashCodeCacheable;
+
+    private BaseFields(final Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && field.getName().indexOf('$') == -1) {
+                    fields.add(field);
+                }
+            }
+        }
+        names = new String[fields.size()];
+        this.fields = new Field[fields.size()];
+        includedInToString = new boolean[fields.size()];
+        boolean immutable = !Builder.class.isAssignableFrom(type);
+        for (int i = 0; i < fields.size(); i++) {
+            final Field field = fields.get(i);
+            field.setAccessible(true);
+            names[i] = field.getName();
+            this.fields[i] = field;
+            includedInToString[i] = !TO_STRING_EXCLUDED_FIELD_NAMES.contains(field.getName());
+            immutable = immutable && isImmutable(field);
+        }
+        hashCodeCacheable = immutable;
+    }
+
+    static BaseFields of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String getName(final int index) {
+        return names[index];
+    }
+
+    Object getValue(final int index, final Object object) {
+        try {
+            return fields[index].get(object);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    boolean isIncludedInToString(final int index) {
+        return includedInToString[index];
+    }
+
+    /**
+     * Checks if the hash code of an instance can be computed once since the class is no {@link Builder} and has only final fields
+     * of primitive types, enums or immutable value types like {@link String}. Classes with fields of other types like collections,
+     * maps or other models compute the hash code every time, since the referenced objects may change after the hash code was computed.
+     *
+     * @return true if the hash code can be cached
+     */
+    boolean isHashCodeCacheable() {
+        return hashCodeCacheable;
+    }
+
+    private static boolean isImmutable(final Field field) {
+        final Class<?> type = field.getType();
+        return Modifier.isFinal(field.getModifiers())
+                && (type.isPrimitive() || type.isEnum() || VALUE_TYPES.contains(type));
+    }
+}
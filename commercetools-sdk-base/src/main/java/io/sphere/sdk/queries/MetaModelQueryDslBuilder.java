@@ -46,7 +46,7 @@ public final class MetaModelQueryDslBuilder<T, C extends MetaModelQueryDsl<T, C,
     }
 
     protected MetaModelQueryDslBuilder(final MetaModelQueryDslImpl<T, C, Q, E> template) {
-        this(template.endpoint(), r -> template.deserialize(r), template.getQueryModel(), template.getExpansionModel(), template.queryDslBuilderFunction);
+        this(template.endpoint(), template.getResultMapper(), template.getQueryModel(), template.getExpansionModel(), template.queryDslBuilderFunction);
         predicate = template.predicates();
         sort = template.sort();
         limit = template.limit();
@@ -2,20 +2,20 @@ package io.sphere.sdk.queries;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.sphere.sdk.client.HttpRequestIntent;
-import io.sphere.sdk.client.SphereRequestUtils;
 import io.sphere.sdk.expansion.ExpansionPath;
 import io.sphere.sdk.expansion.ExpansionPathContainer;
 import io.sphere.sdk.http.HttpMethod;
 import io.sphere.sdk.http.NameValuePair;
 import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.http.UrlQueryBuilder;
+import io.sphere.sdk.json.SphereJsonUtils;
 import io.sphere.sdk.models.Base;
 
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static io.sphere.sdk.queries.QueryParameterKeys.*;
@@ -49,6 +49,8 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
     final E expansionModel;
     final Function<HttpResponse, PagedQueryResult<T>> resultMapper;
     final Function<MetaModelQueryDslBuilder<T, C, Q, E>, C> queryDslBuilderFunction;
+    //the query is immutable, so the request is only rendered once, also for equals and hashCode
+    private transient volatile HttpRequestIntent httpRequestIntent;
 
     public MetaModelQueryDslImpl(final List<QueryPredicate<T>> predicate, final List<QuerySort<T>> sort, @Nullable final Boolean fetchTotal, @Nullable final Long limit,
                                  @Nullable final Long offset, final String endpoint,
@@ -78,7 +80,7 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
     public MetaModelQueryDslImpl(final String endpoint, final TypeReference<PagedQueryResult<T>> pagedQueryResultTypeReference,
                                  final Q queryModel, final E expansionModel, final Function<MetaModelQueryDslBuilder<T, C, Q, E>, C> queryDslBuilderFunction,
                                  final List<NameValuePair> additionalHttpQueryParameters) {
-        this(emptyList(), emptyList(), null, null, null, endpoint, httpResponse -> SphereRequestUtils.deserialize(httpResponse, pagedQueryResultTypeReference),
+        this(emptyList(), emptyList(), null, null, null, endpoint, PagedQueryResultMapper.ofPagedQueryResultJavaType(SphereJsonUtils.convertToJavaType(pagedQueryResultTypeReference)),
                 emptyList(), additionalHttpQueryParameters, queryModel, expansionModel, queryDslBuilderFunction);
     }
 
@@ -86,7 +88,7 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
     public MetaModelQueryDslImpl(final String endpoint, final JavaType singleElementJavatype,
                                  final Q queryModel, final E expansionModel, final Function<MetaModelQueryDslBuilder<T, C, Q, E>, C> queryDslBuilderFunction,
                                  final List<NameValuePair> additionalNameValuePairs) {
-        this(emptyList(), emptyList(), null, null, null, endpoint, httpResponse -> SphereRequestUtils.deserialize(httpResponse, resolveJavaType(singleElementJavatype)),
+        this(emptyList(), emptyList(), null, null, null, endpoint, PagedQueryResultMapper.ofElementJavaType(singleElementJavatype),
                 emptyList(), additionalNameValuePairs, queryModel, expansionModel, queryDslBuilderFunction);
     }
 
@@ -267,8 +269,13 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
 
     @Override
     public final HttpRequestIntent httpRequestIntent() {
-        final String additions = queryParametersToString(true);
-        return HttpRequestIntent.of(HttpMethod.GET, endpoint + (additions.length() > 1 ? additions : ""));
+        HttpRequestIntent intent = httpRequestIntent;
+        if (intent == null) {
+            final String additions = queryParametersToString(true);
+            intent = HttpRequestIntent.of(HttpMethod.GET, endpoint + (additions.length() > 1 ? additions : ""));
+            httpRequestIntent = intent;
+        }
+        return intent;
     }
 
     @Override
@@ -276,6 +283,14 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
         return resultMapper.apply(httpResponse);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public long forEachResult(final HttpResponse httpResponse, final Consumer<? super T> consumer) {
+        return resultMapper instanceof PagedQueryResultMapper
+                ? ((PagedQueryResultMapper<T>) resultMapper).forEachResult(httpResponse, consumer)
+                : MetaModelQueryDsl.super.forEachResult(httpResponse, consumer);
+    }
+
     private String queryParametersToString(final boolean urlEncoded) {
         final UrlQueryBuilder builder = UrlQueryBuilder.of();
         predicates().forEach(predicate -> builder.add(WHERE, predicate.toSphereQuery(), urlEncoded));
@@ -328,16 +343,4 @@ public abstract class MetaModelQueryDslImpl<T, C extends MetaModelQueryDsl<T, C,
     Function<HttpResponse, PagedQueryResult<T>> getResultMapper() {
         return resultMapper;
     }
-
-    private static <T> JavaType resolveJavaType(final TypeReference<T> typeReference) {
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        final JavaType typeParameterJavaType = typeFactory.constructType(typeReference);
-        return resolveJavaType(typeParameterJavaType);
-    }
-
-    private static <T> JavaType resolveJavaType(final JavaType javaType) {
-        final TypeFactory typeFactory = TypeFactory.defaultInstance();
-        final JavaType resultJavaType = typeFactory.constructParametrizedType(PagedQueryResult.class, PagedQueryResult.class, javaType);
-        return resultJavaType;
-    }
 }
@@ -0,0 +1,55 @@
+package io.sphere.sdk.queries;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.sphere.sdk.client.SphereRequestUtils;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.StreamingHttpResponse;
+import io.sphere.sdk.json.JsonException;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.Base;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Maps an http response into a {@link PagedQueryResult} and keeps the type of the result elements
+ * so that the results can also be deserialized one by one.
+ *
+ * @param <T> type of one result element
+ */
+final class PagedQueryResultMapper<T> extends Base implements Function<HttpResponse, PagedQueryResult<T>> {
+    private static final String RESULTS_FIELD_NAME = "results";
+    private final JavaType elementJavaType;
+    private final JavaType pagedQueryResultJavaType;
+
+    private PagedQueryResultMapper(final JavaType elementJavaType, final JavaType pagedQueryResultJavaType) {
+        this.elementJavaType = elementJavaType;
+        this.pagedQueryResultJavaType = pagedQueryResultJavaType;
+    }
+
+    @Override
+    public PagedQueryResult<T> apply(final HttpResponse httpResponse) {
+        return SphereRequestUtils.deserialize(httpResponse, pagedQueryResultJavaType);
+    }
+
+    long forEachResult(final HttpResponse httpResponse, final Consumer<? super T> consumer) {
+        if (httpResponse instanceof StreamingHttpResponse) {
+            final InputStream responseBody = Optional.ofNullable(((StreamingHttpResponse) httpResponse).getResponseBodyAsStream()).orElseThrow(() -> new JsonException(httpResponse));
+            return SphereJsonUtils.readArrayElements(responseBody, RESULTS_FIELD_NAME, elementJavaType, consumer);
+        } else {
+            final byte[] responseBody = Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse));
+            return SphereJsonUtils.readArrayElements(responseBody, RESULTS_FIELD_NAME, elementJavaType, consumer);
+        }
+    }
+
+    static <T> PagedQueryResultMapper<T> ofElementJavaType(final JavaType elementJavaType) {
+        final JavaType pagedQueryResultJavaType = SphereJsonUtils.convertToJavaType(PagedQueryResult.class, elementJavaType);
+        return new PagedQueryResultMapper<>(elementJavaType, pagedQueryResultJavaType);
+    }
+
+    static <T> PagedQueryResultMapper<T> ofPagedQueryResultJavaType(final JavaType pagedQueryResultJavaType) {
+        return new PagedQueryResultMapper<>(pagedQueryResultJavaType.containedType(0), pagedQueryResultJavaType);
+    }
+}
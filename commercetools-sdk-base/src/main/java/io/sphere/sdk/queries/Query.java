@@ -3,6 +3,9 @@ package io.sphere.sdk.queries;
 import io.sphere.sdk.client.SphereRequest;
 import io.sphere.sdk.http.HttpResponse;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 public interface Query<T> extends SphereRequest<PagedQueryResult<T>> {
     long MAX_OFFSET = 100000;
     long MIN_OFFSET = 0;
@@ -10,6 +13,33 @@ public interface Query<T> extends SphereRequest<PagedQueryResult<T>> {
     @Override
     PagedQueryResult<T> deserialize(final HttpResponse httpResponse);
 
+    /**
+     * Deserializes the results of an http response one by one and passes them to {@code consumer}.
+     * Implementations which know the type of the results parse them incrementally,
+     * so the page is not kept in memory as a whole, the default implementation deserializes the complete page first.
+     *
+     * @param httpResponse the http response of SPHERE.IO
+     * @param consumer consumer for the result elements
+     * @return the number of results passed to {@code consumer}
+     */
+    default long forEachResult(final HttpResponse httpResponse, final Consumer<? super T> consumer) {
+        final List<T> results = deserialize(httpResponse).getResults();
+        results.forEach(consumer);
+        return results.size();
+    }
+
+    /**
+     * Creates a request for the same page which does not create a {@link PagedQueryResult} but passes every result element
+     * to {@code consumer} as it is deserialized, see {@link #forEachResult(HttpResponse, Consumer)}.
+     * The request results in the number of consumed elements.
+     *
+     * @param consumer consumer for the result elements, it is called in the thread which deserializes the response
+     * @return request consuming the results
+     */
+    default SphereRequest<Long> toStreamingRequest(final Consumer<? super T> consumer) {
+        return StreamingQueryRequest.of(this, consumer);
+    }
+
     default Query<T> toQuery() {
         return this;
     }
@@ -0,0 +1,51 @@
+package io.sphere.sdk.queries;
+
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.http.StreamingHttpResponse;
+import io.sphere.sdk.models.Base;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Request for one page of a {@link Query} which passes the result elements to a consumer instead of collecting them.
+ * It accepts streaming responses so the elements can be consumed while the page is still being received.
+ *
+ * @param <T> type of one result element
+ */
+final class StreamingQueryRequest<T> extends Base implements SphereRequest<Long> {
+    private final Query<T> query;
+    private final Consumer<? super T> resultConsumer;
+
+    private StreamingQueryRequest(final Query<T> query, final Consumer<? super T> resultConsumer) {
+        this.query = requireNonNull(query);
+        this.resultConsumer = requireNonNull(resultConsumer);
+    }
+
+    @Override
+    public Long deserialize(final HttpResponse httpResponse) {
+        return query.forEachResult(httpResponse, resultConsumer);
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        return query.httpRequestIntent();
+    }
+
+    @Override
+    public boolean canDeserialize(final HttpResponse httpResponse) {
+        return httpResponse instanceof StreamingHttpResponse ? httpResponse.hasSuccessResponseCode() : query.canDeserialize(httpResponse);
+    }
+
+    @Override
+    public boolean acceptsStreamingResponse() {
+        return true;
+    }
+
+    static <T> StreamingQueryRequest<T> of(final Query<T> query, final Consumer<? super T> resultConsumer) {
+        return new StreamingQueryRequest<>(query, resultConsumer);
+    }
+}
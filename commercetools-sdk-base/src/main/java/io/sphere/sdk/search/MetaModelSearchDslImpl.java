@@ -12,6 +12,7 @@ import io.sphere.sdk.models.LocalizedStringEntry;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -55,6 +56,8 @@ public abstract class MetaModelSearchDslImpl<T, C extends MetaModelSearchDsl<T,
     final E expansionModel;
     final Function<HttpResponse, PagedSearchResult<T>> resultMapper;
     final Function<MetaModelSearchDslBuilder<T, C, S, L, F, E>, C> searchDslBuilderFunction;
+    //the search is immutable, so the request is only rendered once, also for equals and hashCode
+    private transient volatile HttpRequestIntent httpRequestIntent;
 
     public MetaModelSearchDslImpl(@Nullable final LocalizedStringEntry text, @Nullable final Boolean fuzzy,
                                   final List<FacetExpression<T>> facets, final List<FilterExpression<T>> resultFilters,
@@ -418,8 +421,13 @@ public abstract class MetaModelSearchDslImpl<T, C extends MetaModelSearchDsl<T,
 
     @Override
     public HttpRequestIntent httpRequestIntent() {
-        final String additions = queryParametersToString(true);
-        return HttpRequestIntent.of(HttpMethod.POST, endpoint, HttpHeaders.of(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded"), StringHttpRequestBody.of(additions));
+        HttpRequestIntent intent = httpRequestIntent;
+        if (intent == null) {
+            final String additions = queryParametersToString(true);
+            intent = HttpRequestIntent.of(HttpMethod.POST, endpoint, HttpHeaders.of(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded"), StringHttpRequestBody.of(additions));
+            httpRequestIntent = intent;
+        }
+        return intent;
     }
 
     @Override
@@ -453,14 +461,31 @@ public abstract class MetaModelSearchDslImpl<T, C extends MetaModelSearchDsl<T,
         return builder.build();
     }
 
+    /**
+     * Searches are equal if they have the same endpoint and the same form body.
+     */
     @Override
     public final boolean equals(Object o) {
-        return o != null && (o instanceof Search) && ((Search)o).httpRequestIntent().getPath().equals(httpRequestIntent().getPath());
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !(o instanceof Search)) {
+            return false;
+        }
+        final HttpRequestIntent intent = httpRequestIntent();
+        final HttpRequestIntent otherIntent = ((Search) o).httpRequestIntent();
+        return otherIntent.getPath().equals(intent.getPath()) && Objects.equals(bodyOf(otherIntent), bodyOf(intent));
     }
 
     @Override
     public final int hashCode() {
-        return httpRequestIntent().getPath().hashCode();
+        final HttpRequestIntent intent = httpRequestIntent();
+        return 31 * intent.getPath().hashCode() + Objects.hashCode(bodyOf(intent));
+    }
+
+    @Nullable
+    private static Object bodyOf(final HttpRequestIntent intent) {
+        return intent.getBody() instanceof StringHttpRequestBody ? ((StringHttpRequestBody) intent.getBody()).getString() : intent.getBody();
     }
 
     @Override
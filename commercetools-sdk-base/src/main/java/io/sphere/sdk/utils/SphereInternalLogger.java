@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /** Internal logging used by the sphere Java client itself.
@@ -69,6 +70,7 @@ import java.util.function.Supplier;
  Have a look at the <a href="https://github.com/sphereio/commercetools-jvm-sdk-reproducer-example" target="_blank">sphereio/commercetools-jvm-sdk-reproducer-example</a>.
  */
 public final class SphereInternalLogger {
+    private static final ConcurrentHashMap<String, SphereInternalLogger> LOGGERS_BY_NAME = new ConcurrentHashMap<>();
     private final Logger underlyingLogger;
 
     private SphereInternalLogger(final Logger underlyingLogger) {
@@ -89,6 +91,10 @@ public final class SphereInternalLogger {
         return this;
     }
 
+    public boolean isDebugEnabled() {
+        return underlyingLogger.isDebugEnabled();
+    }
+
     public boolean isTraceEnabled() {
         return underlyingLogger.isTraceEnabled();
     }
@@ -120,11 +126,19 @@ public final class SphereInternalLogger {
     }
 
     public static SphereInternalLogger getLogger(final Class<?> clazz) {
-        return new SphereInternalLogger(LoggerFactory.getLogger(clazz));
+        return getLoggerByFullName(clazz.getName());
     }
 
     public static SphereInternalLogger getLogger(final String loggerName) {
-        return new SphereInternalLogger(LoggerFactory.getLogger("sphere." + loggerName));
+        return getLoggerByFullName("sphere." + loggerName);
+    }
+
+    /**
+     * Gets the logger from a cache, the levels of the underlying slf4j loggers can change nevertheless at runtime.
+     */
+    private static SphereInternalLogger getLoggerByFullName(final String name) {
+        final SphereInternalLogger cached = LOGGERS_BY_NAME.get(name);
+        return cached != null ? cached : LOGGERS_BY_NAME.computeIfAbsent(name, key -> new SphereInternalLogger(LoggerFactory.getLogger(key)));
     }
 
     private static String getPathElement(final HttpRequest httpRequest) {
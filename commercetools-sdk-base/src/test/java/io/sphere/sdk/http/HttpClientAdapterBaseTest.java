@@ -0,0 +1,47 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class HttpClientAdapterBaseTest {
+    @Test
+    public void failuresWithoutMessageCompleteTheResponse() throws Exception {
+        final CompletableFuture<HttpResponse> underlying = new CompletableFuture<>();
+        final HttpClient client = new FixedHttpClient(underlying);
+        final CompletableFuture<HttpResponse> response = client.execute(HttpRequest.of(HttpMethod.GET, "http://localhost")).toCompletableFuture();
+        underlying.completeExceptionally(new CancellationException());
+        try {
+            response.get(1, TimeUnit.SECONDS);
+            fail("the response should fail");
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(HttpException.class).hasRootCauseInstanceOf(CancellationException.class);
+        }
+        client.close();
+    }
+
+    private static final class FixedHttpClient extends HttpClientAdapterBase {
+        private final CompletionStage<HttpResponse> response;
+
+        private FixedHttpClient(final CompletionStage<HttpResponse> response) {
+            super(ResponseExecutionStrategy.ofIoThread());
+            this.response = response;
+        }
+
+        @Override
+        protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
+            return response;
+        }
+
+        @Override
+        protected void closeDelegate() {
+        }
+    }
+}
@@ -2,7 +2,10 @@ package io.sphere.sdk.http;
 
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,4 +25,40 @@ public class HttpHeadersTest {
         assertThat(headers.findFlatHeader("key")).isEqualTo(Optional.of("value"));
         assertThat(headers.getHeader("key")).isEqualTo(asList("value", "value2"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void lookupIgnoresTheCase() throws Exception {
+        final HttpHeaders headers = HttpHeaders.of("Content-Type", "application/json").plus("x-correlation-id", "id");
+        assertThat(headers.findFlatHeader("content-type")).contains("application/json");
+        assertThat(headers.getHeader("X-Correlation-ID")).containsExactly("id");
+        assertThat(headers.findFlatHeader("missing")).isEmpty();
+    }
+
+    @Test
+    public void lookupInLargeHeaderSets() throws Exception {
+        final List<NameValuePair> pairs = IntStream.range(0, 40)
+                .mapToObj(i -> NameValuePair.of("Header-" + (i % 20), "value" + i))
+                .collect(Collectors.toList());
+        final HttpHeaders headers = HttpHeaders.of(pairs);
+        for (int i = 0; i < 20; i++) {
+            assertThat(headers.getHeader("HEADER-" + i)).containsExactly("value" + i, "value" + (i + 20));
+            assertThat(headers.findFlatHeader("header-" + i)).contains("value" + i);
+        }
+        assertThat(headers.getHeader("Header-20")).isEmpty();
+    }
+
+    @Test
+    public void plusAllKeepsTheOrderAndSharesEmptySets() throws Exception {
+        final HttpHeaders constant = HttpHeaders.of("User-Agent", "sdk").plus("Accept-Encoding", "gzip");
+        assertThat(HttpHeaders.empty().plusAll(constant)).isSameAs(constant);
+        assertThat(constant.plusAll(HttpHeaders.empty())).isSameAs(constant);
+        final HttpHeaders combined = HttpHeaders.of("Content-Type", "text/plain").plusAll(constant);
+        assertThat(combined).isEqualTo(HttpHeaders.of("Content-Type", "text/plain").plus("User-Agent", "sdk").plus("Accept-Encoding", "gzip"));
+        assertThat(combined.getHeadersAsMap().keySet()).containsExactly("Content-Type", "User-Agent", "Accept-Encoding");
+    }
+
+    @Test
+    public void authorizationIsNotPrinted() throws Exception {
+        assertThat(HttpHeaders.of("authorization", "Bearer secret").toString()).doesNotContain("secret");
+    }
+}
@@ -0,0 +1,75 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RequestCompressionTest {
+    @Test
+    public void compressesOnlyStringBodiesAboveTheThreshold() throws Exception {
+        final RequestCompression compression = RequestCompression.ofGzip(3, Deflater.BEST_SPEED);
+        assertThat(compression.isCompressed(StringHttpRequestBody.of("ab"))).isFalse();
+        assertThat(compression.isCompressed(StringHttpRequestBody.of("abc"))).isTrue();
+        assertThat(compression.isCompressed(FormUrlEncodedHttpRequestBody.ofStringMap(singletonMap("query", "abcdef")))).isFalse();
+        assertThat(compression.isCompressed(null)).isFalse();
+        assertThat(RequestCompression.ofDisabled().isCompressed(StringHttpRequestBody.of("abc"))).isFalse();
+    }
+
+    @Test
+    public void validatesTheSettings() throws Exception {
+        assertThatThrownBy(() -> RequestCompression.ofGzip(-1, Deflater.BEST_SPEED)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestCompression.ofGzip(0, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void compressedBodiesCanBeDecompressed() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            //the surrogate pair of the emoji crosses the boundaries of the encoding buffer
+            builder.append("{\"name\":\"\u00e4\u00f6\u00fc\ud83d\ude00").append(i).append("\"},");
+        }
+        for (final String body : new String[]{"", "{}", builder.toString()}) {
+            assertThat(roundTrip(body, Deflater.BEST_SPEED)).isEqualTo(body);
+            assertThat(roundTrip(body, Deflater.DEFAULT_COMPRESSION)).isEqualTo(body);
+        }
+    }
+
+    @Test
+    public void readsSingleBytes() throws Exception {
+        try (final InputStream stream = RequestCompression.ofGzip(0, Deflater.BEST_SPEED).compress(StringHttpRequestBody.of("abc"))) {
+            assertThat(stream.read()).isEqualTo(0x1f);
+            assertThat(stream.read()).isEqualTo(0x8b);
+        }
+    }
+
+    @Test
+    public void canBeReadAndClosedAfterTheEnd() throws Exception {
+        final InputStream stream = RequestCompression.ofGzip(0, Deflater.BEST_SPEED).compress(StringHttpRequestBody.of("abc"));
+        final byte[] buffer = new byte[100];
+        while (stream.read(buffer) != -1) {
+        }
+        assertThat(stream.read(buffer)).isEqualTo(-1);
+        stream.close();
+    }
+
+    private static String roundTrip(final String body, final int level) throws IOException {
+        try (final InputStream stream = new GZIPInputStream(RequestCompression.ofGzip(0, level).compress(StringHttpRequestBody.of(body)))) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1000];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
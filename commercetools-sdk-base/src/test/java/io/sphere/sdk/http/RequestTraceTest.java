@@ -0,0 +1,50 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestTraceTest {
+    @Test
+    public void fallbacksDoNotOverwriteRecordedPhases() throws Exception {
+        final RequestTrace trace = RequestTrace.of("id");
+        assertThat(trace.getNanoTime(RequestPhase.BODY_COMPLETE)).isEqualTo(RequestTrace.NOT_RECORDED);
+        trace.record(RequestPhase.BODY_COMPLETE);
+        final long recorded = trace.getNanoTime(RequestPhase.BODY_COMPLETE);
+        trace.recordIfAbsent(RequestPhase.BODY_COMPLETE);
+        assertThat(trace.getNanoTime(RequestPhase.BODY_COMPLETE)).isEqualTo(recorded);
+        trace.recordIfAbsent(RequestPhase.FIRST_BYTE);
+        assertThat(trace.isRecorded(RequestPhase.FIRST_BYTE)).isTrue();
+    }
+
+    @Test
+    public void durationsBetweenPhases() throws Exception {
+        final RequestTrace trace = RequestTrace.of("id");
+        trace.record(RequestPhase.ENQUEUED);
+        assertThat(trace.getDuration(RequestPhase.ENQUEUED, RequestPhase.PARSED)).isEmpty();
+        Thread.sleep(5);
+        trace.record(RequestPhase.PARSED);
+        assertThat(trace.getDuration(RequestPhase.ENQUEUED, RequestPhase.PARSED).get()).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+    }
+
+    @Test
+    public void convertsTimestampsToTheWallClock() throws Exception {
+        final long before = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        final RequestTrace trace = RequestTrace.of("id");
+        trace.record(RequestPhase.ENQUEUED);
+        final long after = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() + 1);
+        assertThat(trace.toEpochNanos(trace.getNanoTime(RequestPhase.ENQUEUED))).isBetween(before, after);
+    }
+
+    @Test
+    public void traceIsNotPartOfTheEquality() throws Exception {
+        final HttpRequest request = HttpRequest.of(HttpMethod.GET, "http://localhost/foo");
+        final HttpRequest traced = request.withTrace(RequestTrace.of("id"));
+        assertThat(traced.getTrace()).isNotNull();
+        assertThat(traced).isEqualTo(request);
+        assertThat(traced.hashCode()).isEqualTo(request.hashCode());
+    }
+}
@@ -0,0 +1,57 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResponseExecutionStrategyTest {
+
+    @Test
+    public void ioThreadRunsInline() throws Exception {
+        final ResponseExecutionStrategy strategy = ResponseExecutionStrategy.ofIoThread();
+        final Thread caller = Thread.currentThread();
+        final CompletableFuture<Thread> executingThread = new CompletableFuture<>();
+        strategy.executor().execute(() -> executingThread.complete(Thread.currentThread()));
+        assertThat(executingThread.join()).isSameAs(caller);
+        assertThat(strategy.isIoThread()).isTrue();
+    }
+
+    @Test
+    public void ioThreadStreamsInAnOwnPool() throws Exception {
+        final ResponseExecutionStrategy strategy = ResponseExecutionStrategy.ofIoThread();
+        final Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, strategy.streamingExecutor()).join();
+        assertThat(thread.getName()).startsWith("sphere-http-streaming-");
+        assertThat(thread.isDaemon()).isTrue();
+
+        strategy.close();
+        assertThatThrownBy(() -> strategy.streamingExecutor().execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void dedicatedPoolMeasuresQueueingTime() throws Exception {
+        final ResponseExecutionStrategy strategy = ResponseExecutionStrategy.ofDedicatedPool(1);
+        final CompletableFuture<String> threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), strategy.executor());
+        assertThat(threadName.join()).startsWith("sphere-http-response-");
+        assertThat(strategy.getExecutedTaskCount()).isEqualTo(1);
+        assertThat(strategy.getMaxQueueingTime()).isLessThanOrEqualTo(strategy.getTotalQueueingTime());
+
+        strategy.close();
+        assertThatThrownBy(() -> strategy.executor().execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void callerSuppliedExecutorIsNotShutDown() throws Exception {
+        final Executor executor = Runnable::run;
+        final ResponseExecutionStrategy strategy = ResponseExecutionStrategy.ofExecutor(executor);
+        strategy.close();
+        final CompletableFuture<Boolean> executed = new CompletableFuture<>();
+        strategy.executor().execute(() -> executed.complete(true));
+        assertThat(executed.join()).isTrue();
+        assertThat(strategy.getExecutedTaskCount()).isEqualTo(1);
+    }
+}
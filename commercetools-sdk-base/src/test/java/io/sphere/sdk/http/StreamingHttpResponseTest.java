@@ -0,0 +1,71 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingHttpResponseTest {
+
+    @Test
+    public void readsChunksWhileTheyArrive() throws Exception {
+        final ChunkedInputStream body = new ChunkedInputStream();
+        final StreamingHttpResponse response = StreamingHttpResponseImpl.of(200, HttpHeaders.empty(), null, body);
+        body.offer(chunk("foo"));
+        final InputStream inputStream = response.getResponseBodyAsStream();
+        final byte[] buffer = new byte[10];
+        assertThat(inputStream.read(buffer)).isEqualTo(3);
+
+        final CompletableFuture<String> rest = CompletableFuture.supplyAsync(() -> read(inputStream));
+        body.offer(chunk("bar"));
+        body.offer(chunk("baz"));
+        body.complete();
+        assertThat(rest.join()).isEqualTo("barbaz");
+    }
+
+    @Test
+    public void getResponseBodyReadsTheWholeStream() throws Exception {
+        final ChunkedInputStream body = new ChunkedInputStream();
+        final StreamingHttpResponse response = StreamingHttpResponseImpl.of(200, HttpHeaders.empty(), null, body);
+        body.offer(chunk("foo"));
+        body.offer(chunk("bar"));
+        body.complete();
+        assertThat(response.getResponseBody()).isEqualTo("foobar".getBytes(StandardCharsets.UTF_8));
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo("foobar");
+    }
+
+    @Test
+    public void streamCanOnlyBeConsumedOnce() throws Exception {
+        final StreamingHttpResponse response = StreamingHttpResponse.of(HttpResponse.of(200, "foo"));
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo("foo");
+        assertThat(response.getResponseBody()).isNull();
+        assertThatThrownBy(() -> response.getResponseBodyAsStream()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void failureIsPropagatedToTheReader() throws Exception {
+        final ChunkedInputStream body = new ChunkedInputStream();
+        body.offer(chunk("foo"));
+        body.fail(new IOException("connection reset"));
+        assertThatThrownBy(() -> IOUtils.toString(body)).isInstanceOf(IOException.class).hasRootCauseInstanceOf(IOException.class);
+    }
+
+    private static ByteBuffer chunk(final String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(final InputStream inputStream) {
+        try {
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.net.URLEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UrlQueryBuilderTest {
+
+    @Test
+    public void encodesLikeUrlEncoder() throws Exception {
+        final String value = "masterData(current(name(en=\"foo bar\"))) and key in (\"ä-ö_ü.ß*\", \"😀\", \"~+&=/?#%\uD800\")";
+        final String query = UrlQueryBuilder.of().addEncoded("where", value).build();
+        assertThat(query).isEqualTo("where=" + URLEncoder.encode(value, "UTF-8"));
+    }
+
+    @Test
+    public void joinsParameters() throws Exception {
+        final UrlQueryBuilder builder = UrlQueryBuilder.of()
+                .add("where", "a b", false)
+                .add("limit", "10", true)
+                .add("sort", "name asc", true);
+        assertThat(builder.build()).isEqualTo("where=a b&limit=10&sort=name+asc");
+        assertThat(builder.toStringWithOptionalQuestionMark()).isEqualTo("?where=a b&limit=10&sort=name+asc");
+    }
+
+    @Test
+    public void emptyQuery() throws Exception {
+        assertThat(UrlQueryBuilder.of().build()).isEmpty();
+        assertThat(UrlQueryBuilder.of().toStringWithOptionalQuestionMark()).isEmpty();
+    }
+}
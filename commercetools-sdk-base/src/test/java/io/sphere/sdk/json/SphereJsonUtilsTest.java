@@ -1,13 +1,20 @@
 package io.sphere.sdk.json;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.models.Reference;
+import io.sphere.sdk.queries.PagedQueryResult;
 import org.junit.Test;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static java.util.Locale.*;
 import static org.assertj.core.api.Assertions.*;
@@ -124,4 +131,87 @@ public class SphereJsonUtilsTest {
         final Locale locale = SphereJsonUtils.readObject(jsonString, TypeReferences.localeTypeReference());
         assertThat(locale).isEqualTo(Locale.US);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void readArrayElements() {
+        final String jsonString = "{\"offset\":0,\"nested\":{\"results\":[\"ignored\"]},\"results\":[\"en\",\"de\"],\"total\":2}";
+        final List<Locale> locales = new ArrayList<>();
+        final long count = SphereJsonUtils.<Locale>readArrayElements(jsonString.getBytes(), "results", SphereJsonUtils.convertToJavaType(Locale.class), locales::add);
+        assertThat(count).isEqualTo(2);
+        assertThat(locales).containsExactly(Locale.ENGLISH, Locale.GERMAN);
+    }
+
+    @Test
+    public void readArrayElementsOfBrokenJson() {
+        final String brokenJsonString = "{\"results\":[\"en\",";
+        final List<Locale> locales = new ArrayList<>();
+        assertThatThrownBy(() -> SphereJsonUtils.<Locale>readArrayElements(brokenJsonString.getBytes(), "results", SphereJsonUtils.convertToJavaType(Locale.class), locales::add))
+                .isInstanceOf(JsonException.class);
+        assertThat(locales).containsExactly(Locale.ENGLISH);
+    }
+
+    @Test
+    public void javaTypesAreCached() {
+        final JavaType localeJavaType = SphereJsonUtils.convertToJavaType(TypeReferences.localeTypeReference());
+        assertThat(SphereJsonUtils.convertToJavaType(TypeReferences.localeTypeReference())).isSameAs(localeJavaType);
+        final JavaType pagedQueryResultJavaType = SphereJsonUtils.convertToJavaType(PagedQueryResult.class, localeJavaType);
+        assertThat(pagedQueryResultJavaType.getRawClass()).isEqualTo(PagedQueryResult.class);
+        assertThat(pagedQueryResultJavaType.containedType(0)).isEqualTo(localeJavaType);
+        assertThat(SphereJsonUtils.convertToJavaType(PagedQueryResult.class, localeJavaType)).isSameAs(pagedQueryResultJavaType);
+    }
+
+    @Test
+    public void readObjectWithRawContainerClass() {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> map = SphereJsonUtils.readObject("{\"foo\":\"bar\"}", Map.class);
+        assertThat(map).containsEntry("foo", "bar");
+        assertThat(SphereJsonUtils.toJsonString(map)).isEqualTo("{\"foo\":\"bar\"}");
+        assertThat(SphereJsonUtils.toJsonString(null)).isEqualTo("null");
+    }
+
+    @Test
+    public void acceleratedObjectMapper() throws Exception {
+        final ObjectMapper objectMapper = SphereJsonUtils.newAcceleratedObjectMapper();
+        final AcceleratedBean bean = new AcceleratedBean();
+        bean.setName(LocalizedString.of(ENGLISH, "dog food"));
+        bean.setReference(Reference.of("category", "category-id"));
+        bean.setCount(5);
+
+        final String jsonString = objectMapper.writeValueAsString(bean);
+        assertThat(SphereJsonUtils.parse(jsonString)).isEqualTo(SphereJsonUtils.toJsonNode(bean));
+        final AcceleratedBean readBean = objectMapper.readValue(jsonString, AcceleratedBean.class);
+        assertThat(readBean.getName()).isEqualTo(bean.getName());
+        assertThat(readBean.getReference()).isEqualTo(bean.getReference());
+        assertThat(readBean.getCount()).isEqualTo(5);
+    }
+
+    public static class AcceleratedBean {
+        private LocalizedString name;
+        private Reference<Object> reference;
+        private int count;
+
+        public LocalizedString getName() {
+            return name;
+        }
+
+        public void setName(final LocalizedString name) {
+            this.name = name;
+        }
+
+        public Reference<Object> getReference() {
+            return reference;
+        }
+
+        public void setReference(final Reference<Object> reference) {
+            this.reference = reference;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.sphere.sdk.models;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Locale.ENGLISH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaseTest {
+
+    @Test
+    public void sameResultsAsReflectionBuilders() throws Exception {
+        final Child child = new Child("a", 1, new int[]{1, 2}, LocalizedString.of(ENGLISH, "foo"));
+        final Child equalChild = new Child("a", 1, new int[]{1, 2}, LocalizedString.of(ENGLISH, "foo"));
+        final Child otherChild = new Child("a", 1, new int[]{1, 3}, LocalizedString.of(ENGLISH, "foo"));
+
+        assertThat(child).isEqualTo(equalChild).isNotEqualTo(otherChild);
+        assertThat(EqualsBuilder.reflectionEquals(child, equalChild)).isTrue();
+        assertThat(EqualsBuilder.reflectionEquals(child, otherChild)).isFalse();
+        assertThat(child.hashCode()).isEqualTo(HashCodeBuilder.reflectionHashCode(child));
+        assertThat(child.toString()).isEqualTo(new ReflectionToStringBuilder(child, SdkDefaults.TO_STRING_STYLE).build());
+    }
+
+    @Test
+    public void toStringExcludesPasswords() throws Exception {
+        final WithPassword withPassword = new WithPassword("john", "secret");
+        assertThat(withPassword.toString()).contains("john").doesNotContain("secret").doesNotContain("password");
+        assertThat(withPassword).isNotEqualTo(new WithPassword("john", "other"));
+    }
+
+    @Test
+    public void subclassWithoutAdditionalFieldsIsComparable() throws Exception {
+        final Parent parent = new Parent("a", 1);
+        assertThat(parent).isEqualTo(new ParentWithoutFields("a", 1));
+        assertThat(new ParentWithoutFields("a", 1)).isEqualTo(parent);
+        assertThat(parent).isNotEqualTo(new Child("a", 1, new int[0], null));
+        assertThat(new Child("a", 1, new int[0], null)).isNotEqualTo(parent);
+        assertThat(parent).isNotEqualTo("a");
+    }
+
+    @Test
+    public void hashCodeIsCachedOnlyForImmutableClasses() throws Exception {
+        assertThat(BaseFields.of(Parent.class).isHashCodeCacheable()).isTrue();
+        assertThat(BaseFields.of(LocalizedString.class).isHashCodeCacheable()).as("map field").isFalse();
+        assertThat(BaseFields.of(Child.class).isHashCodeCacheable()).as("array field").isFalse();
+        assertThat(BaseFields.of(MutableBuilder.class).isHashCodeCacheable()).isFalse();
+
+        final MutableBuilder builder = new MutableBuilder();
+        final int hashCodeOfEmptyBuilder = builder.hashCode();
+        builder.add("foo");
+        assertThat(builder.hashCode()).isNotEqualTo(hashCodeOfEmptyBuilder);
+    }
+
+    @Test
+    public void hashCodeFollowsChangesOfFinalCollections() throws Exception {
+        final WithMap withMap = new WithMap();
+        final WithMap other = new WithMap();
+        withMap.values.put("foo", "bar");
+        final int hashCodeBeforeChange = withMap.hashCode();
+        assertThat(withMap).isNotEqualTo(other);
+        other.hashCode();
+        other.values.put("foo", "bar");
+
+        assertThat(withMap.hashCode()).isEqualTo(other.hashCode()).isEqualTo(hashCodeBeforeChange);
+        assertThat(withMap).isEqualTo(other);
+        final Set<WithMap> set = new HashSet<>(singletonList(withMap));
+        assertThat(set).contains(other);
+    }
+
+    private static class Parent extends Base {
+        private static final String IGNORED_STATIC = "static";
+        private final String name;
+        private final int count;
+        private transient String ignoredTransient = "transient";
+
+        Parent(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    private static class ParentWithoutFields extends Parent {
+        ParentWithoutFields(final String name, final int count) {
+            super(name, count);
+        }
+    }
+
+    private static class Child extends Parent {
+        private final int[] numbers;
+        private final LocalizedString description;
+
+        Child(final String name, final int count, final int[] numbers, final LocalizedString description) {
+            super(name, count);
+            this.numbers = numbers;
+            this.description = description;
+        }
+    }
+
+    private static class WithPassword extends Base {
+        private final String email;
+        private final String password;
+
+        WithPassword(final String email, final String password) {
+            this.email = email;
+            this.password = password;
+        }
+    }
+
+    private static class WithMap extends Base {
+        private final Map<String, String> values = new HashMap<>();
+    }
+
+    private static class MutableBuilder extends Base implements Builder<List<String>> {
+        private final List<String> values = new ArrayList<>();
+
+        MutableBuilder add(final String value) {
+            values.add(value);
+            return this;
+        }
+
+        @Override
+        public List<String> build() {
+            return new ArrayList<>(values);
+        }
+    }
+}
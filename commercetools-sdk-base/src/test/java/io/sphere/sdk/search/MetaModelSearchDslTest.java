@@ -98,6 +98,15 @@ public class MetaModelSearchDslTest {
                 .isEqualTo(asList(EXPANSION_PATH_ONE, EXPANSION_PATH_TWO));
     }
 
+    @Test
+    public void equalityIncludesTheBody() throws Exception {
+        final TestableSearchDsl dsl = new TestableSearchDsl().withText(ENGLISH, "foo bär").withFacets(FACET_EXPR_ONE);
+        final TestableSearchDsl equalDsl = new TestableSearchDsl().withText(ENGLISH, "foo bär").withFacets(FACET_EXPR_ONE);
+        assertThat(dsl).isEqualTo(equalDsl).isNotEqualTo(dsl.withText(ENGLISH, "bar"));
+        assertThat(dsl.hashCode()).isEqualTo(equalDsl.hashCode());
+        assertThat(dsl.httpRequestIntent()).isSameAs(dsl.httpRequestIntent());
+    }
+
     static final class TestableSearchDsl extends MetaModelSearchDslImpl<Object, TestableSearchDsl, Object, Object, Object, Object> {
 
         TestableSearchDsl(){
@@ -10,4 +10,19 @@ public interface AsyncHttpClientAdapter extends HttpClient {
     static HttpClient of(final AsyncHttpClient asyncHttpClient) {
         return new AsyncHttpClientAdapterImpl(asyncHttpClient);
     }
+
+    static HttpClient of(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy) {
+        return new AsyncHttpClientAdapterImpl(asyncHttpClient, responseExecutionStrategy);
+    }
+
+    /**
+     * Creates an adapter which sends large request bodies compressed.
+     * @param asyncHttpClient the underlying client
+     * @param responseExecutionStrategy the threads to complete the responses in
+     * @param requestCompression the request bodies to compress
+     * @return adapter
+     */
+    static HttpClient of(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        return new AsyncHttpClientAdapterImpl(asyncHttpClient, responseExecutionStrategy, requestCompression);
+    }
 }
\ No newline at end of file
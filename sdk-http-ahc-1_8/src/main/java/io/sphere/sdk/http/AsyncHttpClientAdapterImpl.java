@@ -23,12 +23,23 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
         this.asyncHttpClient = asyncHttpClient;
     }
 
+    AsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy) {
+        super(responseExecutionStrategy);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    AsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        super(responseExecutionStrategy, requestCompression);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         final Request request = asAhcRequest(httpRequest);
         try {
-            final CompletionStage<Response> future = wrap(asyncHttpClient.executeRequest(request));
-            return future.thenApplyAsync(response -> convert(httpRequest, response), threadPool());
+            final ListenableFuture<Response> ahcFuture = asyncHttpClient.executeRequest(request, new TracingCompletionHandler(httpRequest));
+            //the listener of the future already runs in the executor
+            return propagateCancellation(wrap(ahcFuture).thenApply(response -> convert(httpRequest, response)), ahcFuture);
         } catch (final IOException e) {
             final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
             future.completeExceptionally(new HttpException(e));
@@ -64,10 +75,13 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
-            if (body instanceof StringHttpRequestBody) {
+            if (requestCompression().isCompressed(body)) {
+                builder.addHeader(HttpHeaders.CONTENT_ENCODING, RequestCompression.GZIP)
+                        .setBody(new CompressedBodyGenerator((StringHttpRequestBody) body, requestCompression()));
+            } else if (body instanceof StringHttpRequestBody) {
                 final String bodyAsString = ((StringHttpRequestBody) body).getString();
                 builder.setBodyEncoding(StandardCharsets.UTF_8.name()).setBody(bodyAsString);
             } else if (body instanceof FileHttpRequestBody) {
@@ -96,7 +110,7 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
      * @param <T> Type of the value that will be returned.
      * @return the Java 8 future implementation
      */
-    private static <T> CompletionStage<T> wrap(final ListenableFuture<T> listenableFuture, final Executor executor) {
+    private static <T> CompletableFuture<T> wrap(final ListenableFuture<T> listenableFuture, final Executor executor) {
         final CompletableFuture<T> result = new CompletableFuture<>();
         final Runnable listener = () -> {
             try {
@@ -110,7 +124,42 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
         return result;
     }
 
-    private CompletionStage<Response> wrap(final ListenableFuture<Response> listenableFuture) {
-        return wrap(listenableFuture, threadPool());
+    private CompletableFuture<Response> wrap(final ListenableFuture<Response> listenableFuture) {
+        return wrap(listenableFuture, executor());
+    }
+
+    /**
+     * The handler which the client uses by default, extended to record the phases of traced requests.
+     */
+    private static final class TracingCompletionHandler extends AsyncCompletionHandlerBase {
+        private final HttpRequest httpRequest;
+
+        private TracingCompletionHandler(final HttpRequest httpRequest) {
+            this.httpRequest = httpRequest;
+        }
+
+        @Override
+        public STATE onHeaderWriteCompleted() {
+            trace(httpRequest, RequestPhase.BYTES_SENT);
+            return super.onHeaderWriteCompleted();
+        }
+
+        @Override
+        public STATE onContentWriteCompleted() {
+            trace(httpRequest, RequestPhase.BYTES_SENT);
+            return super.onContentWriteCompleted();
+        }
+
+        @Override
+        public STATE onStatusReceived(final HttpResponseStatus status) throws Exception {
+            trace(httpRequest, RequestPhase.FIRST_BYTE);
+            return super.onStatusReceived(status);
+        }
+
+        @Override
+        public Response onCompleted(final Response response) throws Exception {
+            trace(httpRequest, RequestPhase.BODY_COMPLETE);
+            return super.onCompleted(response);
+        }
     }
 }
\ No newline at end of file
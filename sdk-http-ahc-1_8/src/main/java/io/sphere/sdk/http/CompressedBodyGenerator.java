@@ -0,0 +1,42 @@
+package io.sphere.sdk.http;
+
+import com.ning.http.client.Body;
+import com.ning.http.client.generators.InputStreamBodyGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Compresses a string body with a {@link RequestCompression} while it is written. Every body starts a new compressed stream,
+ * so redirects and retries send the whole body again. It extends {@link InputStreamBodyGenerator} since the Netty provider
+ * adds the chunk framing only for the bodies of this generator.
+ */
+final class CompressedBodyGenerator extends InputStreamBodyGenerator {
+    private final StringHttpRequestBody body;
+    private final RequestCompression requestCompression;
+    private volatile boolean patchNettyChunkingIssue = false;
+
+    CompressedBodyGenerator(final StringHttpRequestBody body, final RequestCompression requestCompression) {
+        super(new ByteArrayInputStream(new byte[0]));
+        this.body = body;
+        this.requestCompression = requestCompression;
+    }
+
+    @Override
+    public void patchNettyChunkingIssue(final boolean patchNettyChunkingIssue) {
+        this.patchNettyChunkingIssue = patchNettyChunkingIssue;
+        super.patchNettyChunkingIssue(patchNettyChunkingIssue);
+    }
+
+    /**
+     * Creates a body which reads a new compressed stream and closes it on {@link Body#close()}.
+     * @return the body
+     * @throws IOException if the body cannot be created
+     */
+    @Override
+    public Body createBody() throws IOException {
+        final InputStreamBodyGenerator attempt = new InputStreamBodyGenerator(requestCompression.compress(body));
+        attempt.patchNettyChunkingIssue(patchNettyChunkingIssue);
+        return attempt.createBody();
+    }
+}
@@ -0,0 +1,64 @@
+package io.sphere.sdk.http;
+
+import com.ning.http.client.Body;
+import com.ning.http.client.generators.InputStreamBodyGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Compresses a string body with a {@link RequestCompression} while it is written. Every attempt to send the request reads
+ * a new compressed stream, so redirects and retries send the whole body again. It extends {@link InputStreamBodyGenerator}
+ * since the Netty provider writes the stream of this generator chunked, the provider closes the stream with the body.
+ */
+final class CompressedBodyGenerator extends InputStreamBodyGenerator {
+    private final StringHttpRequestBody body;
+    private final RequestCompression requestCompression;
+
+    CompressedBodyGenerator(final StringHttpRequestBody body, final RequestCompression requestCompression) {
+        super(new ByteArrayInputStream(new byte[0]));
+        this.body = body;
+        this.requestCompression = requestCompression;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new RestartableInputStream();
+    }
+
+    @Override
+    public Body createBody() throws IOException {
+        return new InputStreamBodyGenerator(getInputStream()).createBody();
+    }
+
+    /**
+     * The Netty provider resets the stream if it sends the same request again, for example after a redirect,
+     * a reset starts the compression of the body from the beginning.
+     */
+    private final class RestartableInputStream extends FilterInputStream {
+        private RestartableInputStream() {
+            super(requestCompression.compress(body));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        /**
+         * Does nothing since {@link #reset()} always returns to the beginning of the body.
+         * @param readlimit ignored
+         */
+        @Override
+        public void mark(final int readlimit) {
+        }
+
+        @Override
+        public void reset() throws IOException {
+            in.close();
+            in = requestCompression.compress(body);
+        }
+    }
+}
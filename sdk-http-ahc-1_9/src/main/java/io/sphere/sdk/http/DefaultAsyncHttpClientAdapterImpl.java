@@ -8,17 +8,25 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ForkJoinPool;
 
 final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClient.class);
     private final AsyncHttpClient asyncHttpClient;
-    private final ForkJoinPool threadPool = new ForkJoinPool();
 
     DefaultAsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient) {
         this.asyncHttpClient = asyncHttpClient;
     }
 
+    DefaultAsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy) {
+        super(responseExecutionStrategy);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    DefaultAsyncHttpClientAdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        super(responseExecutionStrategy, requestCompression);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
     @Override
     protected CompletableFuture<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         if (LOGGER.isTraceEnabled()) {
@@ -28,17 +36,36 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
         }
         final Request request = asAhcRequest(httpRequest);
         final CompletableFuture<Response> future = new CompletableFuture<>();
-        asyncHttpClient.executeRequest(request, new AsyncCompletionHandler<Response>() {
+        final ListenableFuture<Response> ahcFuture = asyncHttpClient.executeRequest(request, new AsyncCompletionHandler<Response>() {
+            @Override
+            public STATE onHeaderWriteCompleted() {
+                trace(httpRequest, RequestPhase.BYTES_SENT);
+                return super.onHeaderWriteCompleted();
+            }
+
+            @Override
+            public STATE onContentWriteCompleted() {
+                trace(httpRequest, RequestPhase.BYTES_SENT);
+                return super.onContentWriteCompleted();
+            }
+
+            @Override
+            public STATE onStatusReceived(final HttpResponseStatus status) throws Exception {
+                trace(httpRequest, RequestPhase.FIRST_BYTE);
+                return super.onStatusReceived(status);
+            }
+
             @Override
             public Response onCompleted(final Response response) throws Exception {
-                    future.complete(response);
+                trace(httpRequest, RequestPhase.BODY_COMPLETE);
+                future.complete(response);
                 return response;
             }
 
             @Override
             public void onThrowable(final Throwable t) {
                 //nginx does not send status code so this http client explodes
-                final boolean maybeUriTooLongErrorFromNgingx = t.getMessage().contains("invalid version format: <HTML>");
+                final boolean maybeUriTooLongErrorFromNgingx = String.valueOf(t.getMessage()).contains("invalid version format: <HTML>");
                 final String message = maybeUriTooLongErrorFromNgingx
                         ? "There is a problem, maybe the request URI was too long due to an inefficient query."
                         : "The underlying HTTP client detected a problem.";
@@ -47,14 +74,14 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
 
             }
         });
-        return future.thenApplyAsync(response -> {
+        return propagateCancellation(future.thenApplyAsync(response -> {
             final byte[] responseBodyAsBytes = getResponseBodyAsBytes(response);
             final HttpResponse httpResponse = HttpResponse.of(response.getStatusCode(), responseBodyAsBytes, httpRequest, HttpHeaders.of(response.getHeaders()));
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.debug("response " + httpResponse);
             }
             return httpResponse;
-        }, threadPool);
+        }, executor()), ahcFuture);
     }
 
     private byte[] getResponseBodyAsBytes(final Response response) {
@@ -71,10 +98,13 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
-            if (body instanceof StringHttpRequestBody) {
+            if (requestCompression().isCompressed(body)) {
+                builder.addHeader(HttpHeaders.CONTENT_ENCODING, RequestCompression.GZIP)
+                        .setBody(new CompressedBodyGenerator((StringHttpRequestBody) body, requestCompression()));
+            } else if (body instanceof StringHttpRequestBody) {
                 final String bodyAsString = ((StringHttpRequestBody) body).getString();
                 builder.setBodyEncoding(StandardCharsets.UTF_8.name()).setBody(bodyAsString);
             } else if (body instanceof FileHttpRequestBody) {
@@ -0,0 +1,28 @@
+package io.sphere.sdk.http;
+
+import org.asynchttpclient.request.body.Body;
+import org.asynchttpclient.request.body.generator.BodyGenerator;
+import org.asynchttpclient.request.body.generator.InputStreamBodyGenerator;
+
+/**
+ * Compresses a string body with a {@link RequestCompression} while it is written. Every body starts a new compressed stream,
+ * so redirects and retries send the whole body again.
+ */
+final class CompressedBodyGenerator implements BodyGenerator {
+    private final StringHttpRequestBody body;
+    private final RequestCompression requestCompression;
+
+    CompressedBodyGenerator(final StringHttpRequestBody body, final RequestCompression requestCompression) {
+        this.body = body;
+        this.requestCompression = requestCompression;
+    }
+
+    /**
+     * Creates a body which reads a new compressed stream and closes it on {@link Body#close()}.
+     * @return the body
+     */
+    @Override
+    public Body createBody() {
+        return new InputStreamBodyGenerator(requestCompression.compress(body)).createBody();
+    }
+}
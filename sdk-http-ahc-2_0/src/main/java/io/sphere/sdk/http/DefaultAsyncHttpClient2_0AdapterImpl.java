@@ -13,12 +13,31 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
         this.asyncHttpClient = asyncHttpClient;
     }
 
+    DefaultAsyncHttpClient2_0AdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy) {
+        super(responseExecutionStrategy);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    DefaultAsyncHttpClient2_0AdapterImpl(final AsyncHttpClient asyncHttpClient, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        super(responseExecutionStrategy, requestCompression);
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         final Request request = asAhcRequest(httpRequest);
         final CompletableFuture<Response> future = new CompletableFuture<>();
-        asyncHttpClient.executeRequest(request, new ResponseAsyncCompletionHandler(future));
-        return future.thenApplyAsync(response -> convert(httpRequest, response), threadPool());
+        final ListenableFuture<Response> ahcFuture = asyncHttpClient.executeRequest(request, new ResponseAsyncCompletionHandler(future, httpRequest));
+        return propagateCancellation(future.thenApplyAsync(response -> convert(httpRequest, response), executor()), ahcFuture);
+    }
+
+    @Override
+    protected CompletionStage<StreamingHttpResponse> executeStreamingDelegate(final HttpRequest httpRequest) {
+        final Request request = asAhcRequest(httpRequest);
+        final CompletableFuture<StreamingHttpResponse> future = new CompletableFuture<>();
+        final ListenableFuture<?> ahcFuture = asyncHttpClient.executeRequest(request, new StreamingResponseAsyncHandler(future, httpRequest));
+        //the body is read blocking, so it must not happen in the IO thread which fills the stream
+        return propagateCancellation(future.thenApplyAsync(response -> response, streamingExecutor()), ahcFuture);
     }
 
     private HttpResponse convert(final HttpRequest httpRequest, final Response response) {
@@ -38,12 +57,17 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
                 .setUrl(request.getUrl())
                 .setMethod(request.getHttpMethod().toString());
 
-        request.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        request.getHeaders().forEach(builder::addHeader);
 
         Optional.ofNullable(request.getBody()).ifPresent(body -> {
             if (body instanceof StringHttpRequestBody) {
-                final String bodyAsString = ((StringHttpRequestBody) body).getString();
-                builder.setBody(bodyAsString);
+                final StringHttpRequestBody stringBody = (StringHttpRequestBody) body;
+                if (requestCompression().isCompressed(stringBody)) {
+                    builder.addHeader(HttpHeaders.CONTENT_ENCODING, RequestCompression.GZIP)
+                            .setBody(new CompressedBodyGenerator(stringBody, requestCompression()));
+                } else {
+                    builder.setBody(stringBody.getString());
+                }
                 if (!request.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE).isPresent()) {
                     builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
                 }
@@ -1,19 +1,41 @@
 package io.sphere.sdk.http;
 
 import org.asynchttpclient.AsyncCompletionHandler;
+import org.asynchttpclient.HttpResponseStatus;
 import org.asynchttpclient.Response;
 
 import java.util.concurrent.CompletableFuture;
 
 final class ResponseAsyncCompletionHandler extends AsyncCompletionHandler<Response> {
     private final CompletableFuture<Response> future;
+    private final HttpRequest httpRequest;
 
-    public ResponseAsyncCompletionHandler(final CompletableFuture<Response> future) {
+    public ResponseAsyncCompletionHandler(final CompletableFuture<Response> future, final HttpRequest httpRequest) {
         this.future = future;
+        this.httpRequest = httpRequest;
+    }
+
+    @Override
+    public State onHeadersWritten() {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BYTES_SENT);
+        return super.onHeadersWritten();
+    }
+
+    @Override
+    public State onContentWritten() {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BYTES_SENT);
+        return super.onContentWritten();
+    }
+
+    @Override
+    public State onStatusReceived(final HttpResponseStatus status) throws Exception {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.FIRST_BYTE);
+        return super.onStatusReceived(status);
     }
 
     @Override
     public Response onCompleted(final Response response) throws Exception {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BODY_COMPLETE);
         future.complete(response);
         return response;
     }
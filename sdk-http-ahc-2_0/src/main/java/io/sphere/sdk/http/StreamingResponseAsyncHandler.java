@@ -0,0 +1,82 @@
+package io.sphere.sdk.http;
+
+import org.asynchttpclient.AsyncHandler;
+import org.asynchttpclient.HttpResponseBodyPart;
+import org.asynchttpclient.HttpResponseHeaders;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.handler.ProgressAsyncHandler;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Completes the future with a {@link StreamingHttpResponse} as soon as the headers are received
+ * and feeds the body parts into the stream of the response.
+ */
+final class StreamingResponseAsyncHandler implements AsyncHandler<Void>, ProgressAsyncHandler<Void> {
+    private final CompletableFuture<StreamingHttpResponse> future;
+    private final HttpRequest httpRequest;
+    private final ChunkedInputStream body = new ChunkedInputStream();
+    private Integer statusCode;
+
+    StreamingResponseAsyncHandler(final CompletableFuture<StreamingHttpResponse> future, final HttpRequest httpRequest) {
+        this.future = future;
+        this.httpRequest = httpRequest;
+    }
+
+    @Override
+    public State onHeadersWritten() {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BYTES_SENT);
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onContentWritten() {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BYTES_SENT);
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onContentWriteProgress(final long amount, final long current, final long total) {
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onStatusReceived(final HttpResponseStatus responseStatus) throws Exception {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.FIRST_BYTE);
+        statusCode = responseStatus.getStatusCode();
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onHeadersReceived(final HttpResponseHeaders responseHeaders) throws Exception {
+        if (!responseHeaders.isTrailling()) {
+            final HttpHeaders headers = HttpHeaders.ofMapEntryList(responseHeaders.getHeaders().entries());
+            future.complete(StreamingHttpResponseImpl.of(statusCode, headers, httpRequest, body));
+        }
+        return State.CONTINUE;
+    }
+
+    @Override
+    public State onBodyPartReceived(final HttpResponseBodyPart bodyPart) throws Exception {
+        if (body.isClosed()) {
+            return State.ABORT;
+        }
+        body.offer(ByteBuffer.wrap(bodyPart.getBodyPartBytes()));
+        return State.CONTINUE;
+    }
+
+    @Override
+    public void onThrowable(final Throwable t) {
+        future.completeExceptionally(t);
+        body.fail(t);
+    }
+
+    @Override
+    public Void onCompleted() throws Exception {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BODY_COMPLETE);
+        future.complete(StreamingHttpResponseImpl.of(statusCode, HttpHeaders.empty(), httpRequest, body));
+        body.complete();
+        return null;
+    }
+}
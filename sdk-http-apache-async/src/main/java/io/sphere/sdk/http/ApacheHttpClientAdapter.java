@@ -12,4 +12,19 @@ public interface ApacheHttpClientAdapter extends HttpClient {
     static HttpClient of(final CloseableHttpAsyncClient client) {
         return ApacheHttpClientAdapterImpl.of(client);
     }
+
+    static HttpClient of(final CloseableHttpAsyncClient client, final ResponseExecutionStrategy responseExecutionStrategy) {
+        return ApacheHttpClientAdapterImpl.of(client, responseExecutionStrategy);
+    }
+
+    /**
+     * Creates an adapter which sends large request bodies compressed.
+     * @param client the underlying client
+     * @param responseExecutionStrategy the threads to complete the responses in
+     * @param requestCompression the request bodies to compress
+     * @return adapter
+     */
+    static HttpClient of(final CloseableHttpAsyncClient client, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        return ApacheHttpClientAdapterImpl.of(client, responseExecutionStrategy, requestCompression);
+    }
 }
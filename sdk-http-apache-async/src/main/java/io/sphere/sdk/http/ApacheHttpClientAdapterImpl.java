@@ -10,17 +10,18 @@ import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
 import org.apache.http.message.BasicNameValuePair;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.function.Function;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 
@@ -29,7 +30,8 @@ import static java.util.Arrays.asList;
 final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
     private final CloseableHttpAsyncClient apacheHttpClient;
 
-    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient) {
+    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        super(responseExecutionStrategy, requestCompression);
         this.apacheHttpClient = apacheHttpClient;
         if (!apacheHttpClient.isRunning()) {
             apacheHttpClient.start();
@@ -37,7 +39,16 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
     }
 
     public static HttpClient of(final CloseableHttpAsyncClient client) {
-        return new ApacheHttpClientAdapterImpl(client);
+        //the response is already buffered by the Apache client, so the conversion is cheap and happens in its I/O thread
+        return of(client, ResponseExecutionStrategy.ofIoThread());
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final ResponseExecutionStrategy responseExecutionStrategy) {
+        return of(client, responseExecutionStrategy, RequestCompression.ofDisabled());
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        return new ApacheHttpClientAdapterImpl(client, responseExecutionStrategy, requestCompression);
     }
 
     @Override
@@ -49,8 +60,31 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) throws Throwable {
         final HttpUriRequest realHttpRequest = toApacheRequest(httpRequest);
         final CompletableFuture<org.apache.http.HttpResponse> apacheResponseFuture = new CompletableFuture<>();
-        apacheHttpClient.execute(realHttpRequest, new CompletableFutureCallbackAdapter<>(apacheResponseFuture));
-        return apacheResponseFuture.thenApply(apacheResponse -> convertApacheToSphereResponse(apacheResponse, httpRequest));
+        final Future<org.apache.http.HttpResponse> exchange = httpRequest.getTrace() == null
+                ? apacheHttpClient.execute(realHttpRequest, new CompletableFutureCallbackAdapter<>(apacheResponseFuture))
+                : apacheHttpClient.execute(tracingProducer(realHttpRequest, httpRequest), new TracingResponseConsumer(httpRequest), new CompletableFutureCallbackAdapter<>(apacheResponseFuture));
+        return propagateCancellation(apacheResponseFuture.thenApplyAsync(apacheResponse -> convertApacheToSphereResponse(apacheResponse, httpRequest), executor()), exchange);
+    }
+
+    @Override
+    protected CompletionStage<StreamingHttpResponse> executeStreamingDelegate(final HttpRequest httpRequest) throws Throwable {
+        final HttpUriRequest realHttpRequest = toApacheRequest(httpRequest);
+        final CompletableFuture<StreamingHttpResponse> responseFuture = new CompletableFuture<>();
+        final StreamingResponseConsumer responseConsumer = new StreamingResponseConsumer(responseFuture, httpRequest);
+        final CompletableFuture<Void> exchangeFuture = new CompletableFuture<>();
+        final Future<Void> exchange = apacheHttpClient.execute(tracingProducer(realHttpRequest, httpRequest), responseConsumer, new CompletableFutureCallbackAdapter<>(exchangeFuture));
+        exchangeFuture.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                responseConsumer.exchangeFailed(throwable);
+            }
+        });
+        //the body is read blocking, so it must not happen in the IO thread which fills the stream
+        return propagateCancellation(responseFuture.thenApplyAsync(response -> response, streamingExecutor()), exchange);
+    }
+
+    private static HttpAsyncRequestProducer tracingProducer(final HttpUriRequest realHttpRequest, final HttpRequest httpRequest) {
+        final HttpAsyncRequestProducer producer = HttpAsyncMethods.create(realHttpRequest);
+        return httpRequest.getTrace() == null ? producer : new TracingRequestProducer(producer, httpRequest);
     }
 
     private HttpResponse convertApacheToSphereResponse(final org.apache.http.HttpResponse apacheResponse, final HttpRequest httpRequest) {
@@ -71,17 +105,14 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
                     }
                 }).orElse(null);
         final Integer statusCode = apacheResponse.getStatusLine().getStatusCode();
-        final Map<String, List<Header>> apacheHeaders = asList(apacheResponse.getAllHeaders()).stream()
-                .collect(Collectors.groupingBy(Header::getName));
-        final Function<Map.Entry<String, List<Header>>, String> keyMapper = e -> e.getKey();
-        final Map<String, List<String>> headers = apacheHeaders.entrySet().stream()
-                .collect(Collectors.toMap(
-                                keyMapper,
-                        e -> e.getValue().stream().map(Header::getValue).collect(Collectors.toList())
-                        )
-                );
-
-        return HttpResponse.of(statusCode, bodyNullable, httpRequest, HttpHeaders.of(headers));
+        return HttpResponse.of(statusCode, bodyNullable, httpRequest, convertHeaders(apacheResponse));
+    }
+
+    static HttpHeaders convertHeaders(final org.apache.http.HttpResponse apacheResponse) {
+        final List<NameValuePair> headers = asList(apacheResponse.getAllHeaders()).stream()
+                .map(header -> NameValuePair.of(header.getName(), header.getValue()))
+                .collect(Collectors.toList());
+        return HttpHeaders.of(headers);
     }
 
     private HttpUriRequest toApacheRequest(final HttpRequest httpRequest) throws UnsupportedEncodingException {
@@ -90,12 +121,14 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
         final RequestBuilder builder = RequestBuilder
                 .create(method)
                 .setUri(uri);
-        httpRequest.getHeaders().getHeadersAsMap().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+        httpRequest.getHeaders().forEach(builder::addHeader);
 
         if (httpRequest.getBody() != null) {
             final HttpRequestBody body = httpRequest.getBody();
             final HttpEntity httpEntity;
-            if (body instanceof StringHttpRequestBody) {
+            if (requestCompression().isCompressed(body)) {
+                httpEntity = new CompressedStringEntity((StringHttpRequestBody) body, requestCompression());
+            } else if (body instanceof StringHttpRequestBody) {
                 httpEntity = stringEntityOf(((StringHttpRequestBody) body).getString());
             } else if (body instanceof FileHttpRequestBody) {
                 httpEntity = new FileEntity(((FileHttpRequestBody)body).getFile());
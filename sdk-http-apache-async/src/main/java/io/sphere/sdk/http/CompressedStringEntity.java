@@ -0,0 +1,55 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Entity which compresses a string body with a {@link RequestCompression} while it is written.
+ * The compressed length is unknown in advance, so the entity is sent chunked.
+ */
+final class CompressedStringEntity extends AbstractHttpEntity {
+    private final StringHttpRequestBody body;
+    private final RequestCompression requestCompression;
+
+    CompressedStringEntity(final StringHttpRequestBody body, final RequestCompression requestCompression) {
+        this.body = body;
+        this.requestCompression = requestCompression;
+        setChunked(true);
+        setContentType("application/json; charset=utf-8");
+        setContentEncoding(RequestCompression.GZIP);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return requestCompression.compress(body);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        try (final InputStream content = getContent()) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
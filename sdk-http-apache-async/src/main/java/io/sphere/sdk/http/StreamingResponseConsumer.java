@@ -0,0 +1,95 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.Header;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.AsyncByteConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Completes the future with a {@link StreamingHttpResponse} as soon as the headers are received
+ * and feeds the body into the stream of the response.
+ */
+final class StreamingResponseConsumer extends AsyncByteConsumer<Void> {
+    private final CompletableFuture<StreamingHttpResponse> future;
+    private final HttpRequest httpRequest;
+    private final ChunkedInputStream body = new ChunkedInputStream();
+
+    StreamingResponseConsumer(final CompletableFuture<StreamingHttpResponse> future, final HttpRequest httpRequest) {
+        this.future = future;
+        this.httpRequest = httpRequest;
+    }
+
+    @Override
+    protected void onResponseReceived(final org.apache.http.HttpResponse response) {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.FIRST_BYTE);
+        final boolean gzipEncoded = Optional.ofNullable(response.getFirstHeader(HttpHeaders.CONTENT_ENCODING))
+                .map(Header::getValue)
+                .map(v -> v.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        final InputStream content = response.getEntity() == null ? null : gzipEncoded ? new LazyGzipInputStream(body) : body;
+        final HttpHeaders headers = ApacheHttpClientAdapterImpl.convertHeaders(response);
+        future.complete(StreamingHttpResponseImpl.of(response.getStatusLine().getStatusCode(), headers, httpRequest, content));
+    }
+
+    @Override
+    protected void onByteReceived(final ByteBuffer buffer, final IOControl ioControl) {
+        //the buffer is reused by the consumer
+        final ByteBuffer chunk = ByteBuffer.allocate(buffer.remaining());
+        chunk.put(buffer);
+        chunk.flip();
+        body.offer(chunk);
+    }
+
+    @Override
+    protected Void buildResult(final HttpContext context) {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BODY_COMPLETE);
+        body.complete();
+        return null;
+    }
+
+    void exchangeFailed(final Throwable throwable) {
+        future.completeExceptionally(throwable);
+        body.fail(throwable);
+    }
+
+    /**
+     * Creates the {@link GZIPInputStream} on the first read since its constructor blocks until the gzip header is received.
+     */
+    private static final class LazyGzipInputStream extends InputStream {
+        private final InputStream compressed;
+        private InputStream decompressed;
+
+        private LazyGzipInputStream(final InputStream compressed) {
+            this.compressed = compressed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decompressed().read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            return decompressed().read(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            compressed.close();
+        }
+
+        private InputStream decompressed() throws IOException {
+            if (decompressed == null) {
+                decompressed = new GZIPInputStream(compressed);
+            }
+            return decompressed;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+
+/**
+ * Records {@link RequestPhase#BYTES_SENT} when the delegate has written the whole request.
+ */
+final class TracingRequestProducer implements HttpAsyncRequestProducer {
+    private final HttpAsyncRequestProducer delegate;
+    private final HttpRequest httpRequest;
+
+    TracingRequestProducer(final HttpAsyncRequestProducer delegate, final HttpRequest httpRequest) {
+        this.delegate = delegate;
+        this.httpRequest = httpRequest;
+    }
+
+    @Override
+    public HttpHost getTarget() {
+        return delegate.getTarget();
+    }
+
+    @Override
+    public org.apache.http.HttpRequest generateRequest() throws IOException, HttpException {
+        return delegate.generateRequest();
+    }
+
+    @Override
+    public void produceContent(final ContentEncoder encoder, final IOControl ioControl) throws IOException {
+        delegate.produceContent(encoder, ioControl);
+    }
+
+    @Override
+    public void requestCompleted(final HttpContext context) {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BYTES_SENT);
+        delegate.requestCompleted(context);
+    }
+
+    @Override
+    public void failed(final Exception ex) {
+        delegate.failed(ex);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return delegate.isRepeatable();
+    }
+
+    @Override
+    public void resetRequest() throws IOException {
+        delegate.resetRequest();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
@@ -0,0 +1,29 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.nio.protocol.BasicAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+
+/**
+ * The consumer which the client uses by default, extended to record the phases of traced requests.
+ */
+final class TracingResponseConsumer extends BasicAsyncResponseConsumer {
+    private final HttpRequest httpRequest;
+
+    TracingResponseConsumer(final HttpRequest httpRequest) {
+        this.httpRequest = httpRequest;
+    }
+
+    @Override
+    protected void onResponseReceived(final org.apache.http.HttpResponse response) throws IOException {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.FIRST_BYTE);
+        super.onResponseReceived(response);
+    }
+
+    @Override
+    protected org.apache.http.HttpResponse buildResult(final HttpContext context) {
+        HttpClientAdapterBase.trace(httpRequest, RequestPhase.BODY_COMPLETE);
+        return super.buildResult(context);
+    }
+}
@@ -0,0 +1,100 @@
+package io.sphere.sdk.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * {@link InputStream} which is fed with {@link ByteBuffer} chunks by the IO thread of an HTTP client
+ * and blocks on reading until the next chunk is available.
+ *
+ * <p>The chunks are not limited, so if the reader is slower than the network the chunks are buffered in memory
+ * which is never more than the fully buffered response body would take.</p>
+ */
+final class ChunkedInputStream extends InputStream {
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    private final BlockingQueue<ByteBuffer> chunks = new LinkedBlockingQueue<>();
+    private volatile Throwable failure;
+    private volatile boolean closed = false;
+    private ByteBuffer current = ByteBuffer.allocate(0);
+    private boolean finished = false;
+
+    /**
+     * Adds a chunk, the buffer must not be modified afterwards.
+     * @param chunk the next part of the body
+     */
+    void offer(final ByteBuffer chunk) {
+        if (!closed && chunk.hasRemaining()) {
+            chunks.add(chunk);
+        }
+    }
+
+    void complete() {
+        chunks.add(END);
+    }
+
+    void fail(final Throwable throwable) {
+        failure = throwable;
+        chunks.add(END);
+    }
+
+    /**
+     * Checks if the reader closed the stream, in this case the HTTP client can abort receiving the body.
+     * @return true if closed
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextChunk() ? current.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        } else if (!nextChunk()) {
+            return -1;
+        }
+        final int count = Math.min(length, current.remaining());
+        current.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current.remaining();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        chunks.clear();
+    }
+
+    private boolean nextChunk() throws IOException {
+        while (!current.hasRemaining()) {
+            if (finished || closed) {
+                return false;
+            }
+            try {
+                current = chunks.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response body.");
+            }
+            if (current == END) {
+                finished = true;
+                if (failure != null) {
+                    throw new IOException("Receiving the response body failed.", failure);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+package io.sphere.sdk.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Reads a string as gzip compressed UTF-8 bytes. The string is encoded and compressed chunk by chunk while the stream is read,
+ * so neither the encoded nor the compressed body is held in memory as a whole.
+ * The native memory of the {@link Deflater} is freed when the stream is read completely or closed.
+ */
+final class GzipCompressingInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_SIZE = 8;
+    private final CharBuffer chars;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] input = new byte[BUFFER_SIZE];
+    private final ByteBuffer inputBuffer = ByteBuffer.wrap(input);
+    private final byte[] trailer = new byte[TRAILER_SIZE];
+    private int headerPosition = 0;
+    private int trailerPosition = -1;
+    private boolean charsEncoded = false;
+    private boolean inputComplete = false;
+    private boolean closed = false;
+
+    GzipCompressingInputStream(final CharSequence body, final int level) {
+        this.chars = CharBuffer.wrap(body);
+        this.deflater = new Deflater(level, true);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        final int read = read(single, 0, 1);
+        return read < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        } else if (length == 0) {
+            return 0;
+        } else if (headerPosition < HEADER.length) {
+            final int count = Math.min(length, HEADER.length - headerPosition);
+            System.arraycopy(HEADER, headerPosition, bytes, offset, count);
+            headerPosition += count;
+            return count;
+        }
+        while (trailerPosition < 0) {
+            if (deflater.needsInput() && !inputComplete) {
+                fillInput();
+            }
+            final int compressed = deflater.deflate(bytes, offset, length);
+            if (compressed > 0) {
+                return compressed;
+            } else if (deflater.finished()) {
+                writeTrailer();
+            }
+        }
+        if (trailerPosition == TRAILER_SIZE) {
+            return -1;
+        }
+        final int count = Math.min(length, TRAILER_SIZE - trailerPosition);
+        System.arraycopy(trailer, trailerPosition, bytes, offset, count);
+        trailerPosition += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+        }
+    }
+
+    private void fillInput() {
+        inputBuffer.clear();
+        if (!charsEncoded) {
+            charsEncoded = encoder.encode(chars, inputBuffer, true).isUnderflow();
+        }
+        if (charsEncoded) {
+            inputComplete = encoder.flush(inputBuffer).isUnderflow();
+        }
+        final int encodedLength = inputBuffer.position();
+        crc.update(input, 0, encodedLength);
+        deflater.setInput(input, 0, encodedLength);
+        if (inputComplete) {
+            deflater.finish();
+        }
+    }
+
+    private void writeTrailer() {
+        writeLittleEndian((int) crc.getValue(), 0);
+        writeLittleEndian((int) deflater.getBytesRead(), 4);
+        trailerPosition = 0;
+        //frees the native memory already, in case the underlying client does not close the stream
+        deflater.end();
+    }
+
+    private void writeLittleEndian(final int value, final int position) {
+        for (int i = 0; i < 4; i++) {
+            trailer[position + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}
@@ -6,6 +6,19 @@ import java.util.concurrent.CompletionStage;
 public interface HttpClient extends Closeable {
     CompletionStage<HttpResponse> execute(HttpRequest httpRequest);
 
+    /**
+     * Executes a request and completes the stage as soon as the status code and the headers are received,
+     * the body can be read with {@link StreamingHttpResponse#getResponseBodyAsStream()} while it is still being transferred.
+     *
+     * <p>The default implementation waits for the complete response of {@link #execute(HttpRequest)}.</p>
+     *
+     * @param httpRequest the request to execute
+     * @return stage of the response
+     */
+    default CompletionStage<StreamingHttpResponse> executeStreaming(final HttpRequest httpRequest) {
+        return execute(httpRequest).thenApply(StreamingHttpResponse::of);
+    }
+
     @Override
     void close();
 }
@@ -3,22 +3,60 @@ package io.sphere.sdk.http;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Base class for implementing {@link HttpClient}s.
  *
+ * <p>Implementations should complete the responses with {@link #executor()} which is determined by the {@link ResponseExecutionStrategy}.</p>
+ *
+ * <p>If the stage of a response is cancelled, for example by a timeout, the stage of the implementation is cancelled too,
+ * implementations should abort the request then with {@link #propagateCancellation(CompletableFuture, Future)}.</p>
+ *
+ * <p>If the request has a {@link RequestTrace} implementations should record the phases {@link RequestPhase#BYTES_SENT},
+ * {@link RequestPhase#FIRST_BYTE} and {@link RequestPhase#BODY_COMPLETE} with {@link #trace(HttpRequest, RequestPhase)}
+ * in the callbacks of the underlying client. If an implementation does not record them, the time the response arrives
+ * in this class is used for {@link RequestPhase#BODY_COMPLETE} and for streaming responses for {@link RequestPhase#FIRST_BYTE}.</p>
+ *
+ * <p>Implementations should send the bodies for which {@link RequestCompression#isCompressed(HttpRequestBody)} of {@link #requestCompression()}
+ * is true as stream of {@link RequestCompression#compress(StringHttpRequestBody)} with the header {@value HttpHeaders#CONTENT_ENCODING}: gzip.</p>
  */
 public abstract class HttpClientAdapterBase extends Base implements HttpClient {
     protected static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
-    private final ForkJoinPool threadPool = new ForkJoinPool();
+    private final ResponseExecutionStrategy responseExecutionStrategy;
+    private final RequestCompression requestCompression;
+    @Nullable
+    private ForkJoinPool threadPool;
+
+    protected HttpClientAdapterBase() {
+        this(ResponseExecutionStrategy.ofDefault());
+    }
+
+    protected HttpClientAdapterBase(final ResponseExecutionStrategy responseExecutionStrategy) {
+        this(responseExecutionStrategy, RequestCompression.ofDisabled());
+    }
+
+    protected HttpClientAdapterBase(final ResponseExecutionStrategy responseExecutionStrategy, final RequestCompression requestCompression) {
+        this.responseExecutionStrategy = requireNonNull(responseExecutionStrategy);
+        this.requestCompression = requireNonNull(requestCompression);
+    }
 
     @Override
     public final void close() {
         try {
-            threadPool.shutdown();
+            responseExecutionStrategy.close();
+            synchronized (this) {
+                if (threadPool != null) {
+                    threadPool.shutdown();
+                }
+            }
             closeDelegate();
         } catch (final Throwable e) {
             throw new HttpException(e);
@@ -27,14 +65,27 @@ public abstract class HttpClientAdapterBase extends Base implements HttpClient {
 
     @Override
     public final CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+        return execute(httpRequest, RequestPhase.BODY_COMPLETE, () -> executeDelegate(httpRequest));
+    }
+
+    @Override
+    public final CompletionStage<StreamingHttpResponse> executeStreaming(final HttpRequest httpRequest) {
+        return execute(httpRequest, RequestPhase.FIRST_BYTE, () -> executeStreamingDelegate(httpRequest));
+    }
+
+    private <R extends HttpResponse> CompletionStage<R> execute(final HttpRequest httpRequest, final RequestPhase responsePhase, final DelegateExecution<R> delegateExecution) {
         try {
             if (logger.isTraceEnabled()) {
                 logger.debug("executing " + httpRequest);
             } else if (logger.isDebugEnabled()) {
                 logger.debug("{} {}", httpRequest.getHttpMethod(), httpRequest.getUrl());
             }
-            final CompletableFuture<HttpResponse> result = new CompletableFuture<>();
-            executeDelegate(httpRequest)
+            final CompletableFuture<R> result = new CompletableFuture<>();
+            final CompletionStage<R> delegateStage = delegateExecution.execute();
+            if (delegateStage instanceof Future) {
+                propagateCancellation(result, (Future<?>) delegateStage);
+            }
+            delegateStage
                     .thenApply(httpResponse -> {
                         if (logger.isTraceEnabled()) {
                             logger.debug("response " + httpResponse);
@@ -43,7 +94,7 @@ public abstract class HttpClientAdapterBase extends Base implements HttpClient {
                     }).whenComplete((nullableHttpResponse, nullableThrowable) -> {
                 if (nullableThrowable != null) {
                     //nginx does not send status code so this http client explodes
-                    final boolean maybeUriTooLongErrorFromNgingx = nullableThrowable.getMessage().contains("invalid version format: <HTML>");
+                    final boolean maybeUriTooLongErrorFromNgingx = String.valueOf(nullableThrowable.getMessage()).contains("invalid version format: <HTML>");
                     final String message = maybeUriTooLongErrorFromNgingx
                             ? "There is a problem, maybe the request URI was too long due to an inefficient query."
                             : "The underlying HTTP client detected a problem.";
@@ -52,13 +103,17 @@ public abstract class HttpClientAdapterBase extends Base implements HttpClient {
                             : new HttpException(message, nullableThrowable);
                     result.completeExceptionally(throwable);
                 } else {
+                    final RequestTrace trace = httpRequest.getTrace();
+                    if (trace != null) {
+                        trace.recordIfAbsent(responsePhase);
+                    }
                     result.complete(nullableHttpResponse);
                 }
             });
 
             return result;
         } catch (final Throwable e) {//exceptions should be wrapped into the CompletionStage
-            final CompletableFuture<HttpResponse> failedFuture = new CompletableFuture<>();
+            final CompletableFuture<R> failedFuture = new CompletableFuture<>();
             failedFuture.completeExceptionally(e);
             return failedFuture;
         }
@@ -66,9 +121,90 @@ public abstract class HttpClientAdapterBase extends Base implements HttpClient {
 
     protected abstract CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) throws Throwable;
 
+    /**
+     * Executes a request with a streaming response body, adapters which cannot stream the body can use the default
+     * implementation which wraps the fully received response of {@link #executeDelegate(HttpRequest)}.
+     *
+     * @param httpRequest the request to execute
+     * @return stage of the response which completes after the headers are received
+     * @throws Throwable if the request cannot be executed
+     */
+    protected CompletionStage<StreamingHttpResponse> executeStreamingDelegate(final HttpRequest httpRequest) throws Throwable {
+        return executeDelegate(httpRequest).thenApply(StreamingHttpResponse::of);
+    }
+
     protected abstract void closeDelegate() throws Throwable;
 
-    protected final ForkJoinPool threadPool() {
+    /**
+     * Cancels the underlying future if the given future gets cancelled, so the request is aborted and its connection is freed.
+     *
+     * @param future the future which may be cancelled
+     * @param underlying the future to cancel with it
+     * @param <T> type of the future
+     * @return the given future
+     */
+    protected static <T> CompletableFuture<T> propagateCancellation(final CompletableFuture<T> future, final Future<?> underlying) {
+        future.whenComplete((ignoredResult, ignoredThrowable) -> {
+            if (future.isCancelled()) {
+                underlying.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Records a phase of a request if the request is traced.
+     *
+     * @param httpRequest the request
+     * @param phase the phase which has been reached now
+     */
+    protected static void trace(final HttpRequest httpRequest, final RequestPhase phase) {
+        final RequestTrace trace = httpRequest.getTrace();
+        if (trace != null) {
+            trace.record(phase);
+        }
+    }
+
+    /**
+     * Executor to complete the responses with.
+     * @return executor of the {@link ResponseExecutionStrategy}
+     */
+    protected final Executor executor() {
+        return responseExecutionStrategy.executor();
+    }
+
+    /**
+     * Executor to complete streaming responses with, in contrast to {@link #executor()} it never runs in the I/O thread
+     * since reading the body blocks until the I/O thread receives the next chunk.
+     * @return executor for streaming responses
+     */
+    protected final Executor streamingExecutor() {
+        return responseExecutionStrategy.streamingExecutor();
+    }
+
+    /**
+     * Thread pool of the client which is created on the first call and shut down with the client.
+     * @return thread pool
+     * @deprecated complete the responses with {@link #executor()}, so the {@link ResponseExecutionStrategy} of the client is used
+     */
+    @Deprecated
+    protected final synchronized ForkJoinPool threadPool() {
+        if (threadPool == null) {
+            threadPool = new ForkJoinPool();
+        }
         return threadPool;
     }
+
+    /**
+     * Determines which request bodies are sent compressed.
+     * @return the compression setting of this client
+     */
+    protected final RequestCompression requestCompression() {
+        return requestCompression;
+    }
+
+    @FunctionalInterface
+    private interface DelegateExecution<R> {
+        CompletionStage<R> execute() throws Throwable;
+    }
 }
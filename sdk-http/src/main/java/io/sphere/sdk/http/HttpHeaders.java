@@ -1,11 +1,19 @@
 package io.sphere.sdk.http;
 
+import javax.annotation.Nullable;
 import java.util.*;
+import java.util.function.BiConsumer;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.*;
 
+/**
+ * Immutable HTTP headers which keep the order in which they have been added.
+ *
+ * <p>The names and values are stored in one array. The lookup of names is case-insensitive as defined by HTTP,
+ * small header sets are scanned and for larger ones like the headers of responses an index is built on the first lookup.
+ * Since instances cannot change they can be shared, for example constant headers can be created once
+ * and appended with {@link #plusAll(HttpHeaders)}.</p>
+ */
 public final class HttpHeaders extends Base {
     public static final String ACCEPT_ENCODING = "Accept-Encoding";
     public static final String AUTHORIZATION = "Authorization";
@@ -13,27 +21,50 @@ public final class HttpHeaders extends Base {
     public static final String CONTENT_ENCODING = "Content-Encoding";
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String CONTENT_LENGTH = "Content-Length";
-    private final List<NameValuePair> data;
+    private static final int MAX_SCANNED_SIZE = 8;
+    private static final String[] NO_HEADERS = new String[0];
+    private static final HttpHeaders EMPTY = new HttpHeaders(NO_HEADERS);
+    /**
+     * The name of the header i is at position 2*i and its value at 2*i+1.
+     */
+    private final String[] namesAndValues;
+    @Nullable
+    private volatile Index index;
+    @Nullable
+    private volatile Map<String, List<String>> map;
 
-    private HttpHeaders(final List<NameValuePair> data) {
-        this.data = unmodifiableList(data);
+    private HttpHeaders(final String[] namesAndValues) {
+        this.namesAndValues = namesAndValues;
     }
 
     public static HttpHeaders of(final List<NameValuePair> headers) {
-        return new HttpHeaders(headers);
+        final String[] namesAndValues = new String[headers.size() * 2];
+        int position = 0;
+        for (final NameValuePair header : headers) {
+            namesAndValues[position++] = header.getName();
+            namesAndValues[position++] = header.getValue();
+        }
+        return ofNamesAndValues(namesAndValues);
     }
 
     public static HttpHeaders of(final Map<String, List<String>> headers) {
-        return new HttpHeaders(NameValuePair.convertStringListMapToList(headers));
+        int size = 0;
+        for (final List<String> values : headers.values()) {
+            size += values.size();
+        }
+        final String[] namesAndValues = new String[size * 2];
+        int position = 0;
+        for (final Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            for (final String value : entry.getValue()) {
+                namesAndValues[position++] = entry.getKey();
+                namesAndValues[position++] = value;
+            }
+        }
+        return ofNamesAndValues(namesAndValues);
     }
 
     public static HttpHeaders of(final String key, final String value) {
-        final NameValuePair nameValuePair = NameValuePair.of(key, value);
-        return of(nameValuePair);
-    }
-
-    private static HttpHeaders of(final NameValuePair nameValuePair) {
-        return new HttpHeaders(Collections.singletonList(nameValuePair));
+        return new HttpHeaders(new String[]{key, value});
     }
 
     public static HttpHeaders empty() {
@@ -41,55 +72,219 @@ public final class HttpHeaders extends Base {
     }
 
     public static HttpHeaders of() {
-        return new HttpHeaders(emptyList());
+        return EMPTY;
+    }
+
+    private static HttpHeaders ofNamesAndValues(final String[] namesAndValues) {
+        return namesAndValues.length == 0 ? EMPTY : new HttpHeaders(namesAndValues);
     }
 
     /**
      * Gets the header as list since they can occur multiple times. If it does exist, the list is empty.
+     * The case of the key is ignored.
      * @param key the key of the header to find
      * @return empty or filled list of header values
      */
     public List<String> getHeader(final String key) {
-        return data.stream()
-                .filter(entry -> entry.getName().equals(key))
-                .map(entry -> entry.getValue())
-                .collect(toList());
+        int header = firstHeader(key);
+        if (header < 0) {
+            return emptyList();
+        }
+        final String first = valueOf(header);
+        header = nextHeader(header, key);
+        if (header < 0) {
+            return singletonList(first);
+        }
+        final List<String> values = new ArrayList<>(2);
+        values.add(first);
+        for (; header >= 0; header = nextHeader(header, key)) {
+            values.add(valueOf(header));
+        }
+        return unmodifiableList(values);
     }
 
     /**
-     * Finds the first header value for a certain key.
+     * Finds the first header value for a certain key. The case of the key is ignored.
      * @param key the key of the header to find
      * @return the header value as optional
      */
     public Optional<String> findFlatHeader(final String key) {
-        return getHeader(key).stream().findFirst();
+        final int header = firstHeader(key);
+        return header < 0 ? Optional.empty() : Optional.of(valueOf(header));
     }
 
+    /**
+     * Gets the headers grouped by their names, the map is created on the first call.
+     * @return unmodifiable map of the names to their values in the order they have been added
+     */
     public Map<String, List<String>> getHeadersAsMap() {
-        return NameValuePair.convertToStringListMap(data);
+        Map<String, List<String>> result = map;
+        if (result == null) {
+            final Map<String, List<String>> grouped = new LinkedHashMap<>();
+            forEach((name, value) -> grouped.computeIfAbsent(name, ignored -> new ArrayList<>(1)).add(value));
+            grouped.replaceAll((name, values) -> unmodifiableList(values));
+            result = unmodifiableMap(grouped);
+            map = result;
+        }
+        return result;
+    }
+
+    /**
+     * Passes each header to the action in the order the headers have been added, a header with multiple values is passed once per value.
+     * In contrast to {@link #getHeadersAsMap()} this does not create any objects.
+     * @param action the consumer of the name and the value of each header
+     */
+    public void forEach(final BiConsumer<? super String, ? super String> action) {
+        for (int position = 0; position < namesAndValues.length; position += 2) {
+            action.accept(namesAndValues[position], namesAndValues[position + 1]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return namesAndValues.length == 0;
     }
 
     public HttpHeaders plus(final String key, final String value) {
-        final List<NameValuePair> list = new ArrayList<>(data.size() + 1);
-        list.addAll(data);
-        list.add(NameValuePair.of(key, value));
-        return HttpHeaders.of(list);
+        final String[] combined = Arrays.copyOf(namesAndValues, namesAndValues.length + 2);
+        combined[namesAndValues.length] = key;
+        combined[namesAndValues.length + 1] = value;
+        return new HttpHeaders(combined);
+    }
+
+    /**
+     * Creates headers which contain these headers followed by the given headers.
+     * If one of the header sets is empty, the other one is returned without copying it.
+     * @param headers the headers to append
+     * @return headers containing both header sets
+     */
+    public HttpHeaders plusAll(final HttpHeaders headers) {
+        if (headers.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return headers;
+        }
+        final String[] combined = Arrays.copyOf(namesAndValues, namesAndValues.length + headers.namesAndValues.length);
+        System.arraycopy(headers.namesAndValues, 0, combined, namesAndValues.length, headers.namesAndValues.length);
+        return new HttpHeaders(combined);
+    }
+
+    private String valueOf(final int header) {
+        return namesAndValues[header * 2 + 1];
+    }
+
+    private int size() {
+        return namesAndValues.length / 2;
+    }
+
+    private int firstHeader(final String key) {
+        return size() <= MAX_SCANNED_SIZE ? scan(0, key) : index().first(key);
+    }
+
+    private int nextHeader(final int header, final String key) {
+        return size() <= MAX_SCANNED_SIZE ? scan(header + 1, key) : index().next(header);
+    }
+
+    private int scan(final int fromHeader, final String key) {
+        for (int header = fromHeader; header < size(); header++) {
+            if (namesAndValues[header * 2].equalsIgnoreCase(key)) {
+                return header;
+            }
+        }
+        return -1;
+    }
+
+    private Index index() {
+        Index result = index;
+        if (result == null) {
+            result = new Index(namesAndValues);
+            index = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof HttpHeaders && Arrays.equals(namesAndValues, ((HttpHeaders) o).namesAndValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(namesAndValues);
     }
 
     @Override
     public final String toString() {
-        final Map<String, List<String>> newMap = new HashMap<>();
-        newMap.putAll(getHeadersAsMap());
-        if (newMap.containsKey(AUTHORIZATION)) {
-            newMap.put(AUTHORIZATION, Collections.singletonList("**removed from output**"));
-        }
+        final Map<String, List<String>> newMap = new LinkedHashMap<>(getHeadersAsMap());
+        newMap.replaceAll((name, values) -> name.equalsIgnoreCase(AUTHORIZATION) ? singletonList("**removed from output**") : values);
         return newMap.toString();
     }
 
     public static HttpHeaders ofMapEntryList(final List<Map.Entry<String, String>> entries) {
-        final List<NameValuePair> nameValuePairList = entries.stream()
-                .map(element -> NameValuePair.of(element.getKey(), element.getValue()))
-                .collect(toList());
-        return HttpHeaders.of(nameValuePairList);
+        final String[] namesAndValues = new String[entries.size() * 2];
+        int position = 0;
+        for (final Map.Entry<String, String> entry : entries) {
+            namesAndValues[position++] = entry.getKey();
+            namesAndValues[position++] = entry.getValue();
+        }
+        return ofNamesAndValues(namesAndValues);
+    }
+
+    /**
+     * Open addressing hash table from the case-insensitive names to their first header,
+     * further headers with the same name are linked in {@code next}.
+     */
+    private static final class Index {
+        private final String[] namesAndValues;
+        private final int[] slots;
+        private final int[] next;
+
+        private Index(final String[] namesAndValues) {
+            this.namesAndValues = namesAndValues;
+            final int size = namesAndValues.length / 2;
+            slots = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+            next = new int[size];
+            Arrays.fill(next, -1);
+            final int[] last = new int[size];
+            for (int header = 0; header < size; header++) {
+                final String name = namesAndValues[header * 2];
+                int slot = hash(name) & (slots.length - 1);
+                while (true) {
+                    final int first = slots[slot] - 1;
+                    if (first < 0) {
+                        slots[slot] = header + 1;
+                        last[header] = header;
+                        break;
+                    } else if (namesAndValues[first * 2].equalsIgnoreCase(name)) {
+                        next[last[first]] = header;
+                        last[first] = header;
+                        break;
+                    }
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+            }
+        }
+
+        private int first(final String key) {
+            int slot = hash(key) & (slots.length - 1);
+            while (true) {
+                final int header = slots[slot] - 1;
+                if (header < 0 || namesAndValues[header * 2].equalsIgnoreCase(key)) {
+                    return header;
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+        }
+
+        private int next(final int header) {
+            return next[header];
+        }
+
+        private static int hash(final String name) {
+            int hash = 0;
+            for (int i = 0; i < name.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            }
+            return hash ^ (hash >>> 16);
+        }
     }
-}
\ No newline at end of file
+}
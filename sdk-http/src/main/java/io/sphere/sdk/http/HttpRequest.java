@@ -12,11 +12,29 @@ public interface HttpRequest {
     @Nullable
     HttpRequestBody getBody();
 
+    /**
+     * Gets the trace in which the {@link HttpClient} records the phases of the request, it is not part of the equality of requests.
+     * @return the trace or null if the request is not traced
+     */
+    @Nullable
+    default RequestTrace getTrace() {
+        return null;
+    }
+
+    /**
+     * Creates a copy of this request with a trace.
+     * @param trace the trace for the phases of the request or null to not trace it
+     * @return the new request
+     */
+    default HttpRequest withTrace(@Nullable final RequestTrace trace) {
+        return new HttpRequestImpl(getHttpMethod(), getUrl(), getHeaders(), getBody(), trace);
+    }
+
     static HttpRequest of(final HttpMethod httpMethod, final String url) {
         return of(httpMethod, url, HttpHeaders.empty(), null);
     }
 
     static HttpRequest of(final HttpMethod httpMethod, final String url, final HttpHeaders headers, @Nullable final HttpRequestBody body) {
-        return new HttpRequestImpl(httpMethod, url, headers, body);
+        return new HttpRequestImpl(httpMethod, url, headers, body, null);
     }
-}
\ No newline at end of file
+}
@@ -8,12 +8,15 @@ final class HttpRequestImpl extends Base implements HttpRequest {
     private final HttpHeaders headers;
     @Nullable
     private final HttpRequestBody body;
+    @Nullable
+    private final transient RequestTrace trace;
 
-    HttpRequestImpl(final HttpMethod httpMethod, final String url, final HttpHeaders headers, @Nullable final HttpRequestBody body) {
+    HttpRequestImpl(final HttpMethod httpMethod, final String url, final HttpHeaders headers, @Nullable final HttpRequestBody body, @Nullable final RequestTrace trace) {
         this.httpMethod = httpMethod;
         this.url = url;
         this.headers = headers;
         this.body = body;
+        this.trace = trace;
     }
 
     @Override
@@ -36,4 +39,10 @@ final class HttpRequestImpl extends Base implements HttpRequest {
     public HttpRequestBody getBody() {
         return body;
     }
+
+    @Override
+    @Nullable
+    public RequestTrace getTrace() {
+        return trace;
+    }
 }
\ No newline at end of file
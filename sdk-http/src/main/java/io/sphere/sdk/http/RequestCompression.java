@@ -0,0 +1,99 @@
+package io.sphere.sdk.http;
+
+import javax.annotation.Nullable;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+
+/**
+ * Determines if an {@link HttpClient} adapter sends request bodies gzip compressed, this reduces the upload time
+ * of large commands and imports at the cost of CPU time in the thread which writes the request.
+ *
+ * <ul>
+ *     <li>{@link #ofDisabled()} sends all bodies uncompressed, this is the default of the adapters</li>
+ *     <li>{@link #ofGzip()} compresses string bodies of at least 1024 characters with {@link Deflater#BEST_SPEED}</li>
+ *     <li>{@link #ofGzip(int, int)} compresses string bodies with a custom threshold and level</li>
+ * </ul>
+ *
+ * <p>Only {@link StringHttpRequestBody}s are compressed. The body is encoded and compressed while it is written,
+ * so it is not held in memory a second time, and sent with the header {@value HttpHeaders#CONTENT_ENCODING}: gzip
+ * and chunked transfer encoding since the compressed length is not known in advance.</p>
+ */
+public final class RequestCompression extends Base {
+    public static final String GZIP = "gzip";
+    private static final int DEFAULT_MIN_BODY_SIZE = 1024;
+    private static final RequestCompression DISABLED = new RequestCompression(false, Integer.MAX_VALUE, Deflater.NO_COMPRESSION);
+    private final boolean enabled;
+    private final int minBodySize;
+    private final int level;
+
+    private RequestCompression(final boolean enabled, final int minBodySize, final int level) {
+        this.enabled = enabled;
+        this.minBodySize = minBodySize;
+        this.level = level;
+    }
+
+    /**
+     * Sends all request bodies uncompressed.
+     * @return compression setting
+     */
+    public static RequestCompression ofDisabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Compresses string bodies with at least 1024 characters with the fastest compression level,
+     * since the compression runs in the I/O threads of the underlying client.
+     * @return compression setting
+     */
+    public static RequestCompression ofGzip() {
+        return ofGzip(DEFAULT_MIN_BODY_SIZE, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Compresses string bodies which have at least {@code minBodySize} characters.
+     * @param minBodySize the minimal number of characters of a body to compress it, smaller bodies are sent uncompressed
+     * @param level the compression level from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     *              or {@link Deflater#DEFAULT_COMPRESSION}
+     * @return compression setting
+     */
+    public static RequestCompression ofGzip(final int minBodySize, final int level) {
+        if (minBodySize < 0) {
+            throw new IllegalArgumentException("minBodySize must not be negative but was " + minBodySize);
+        }
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("level must be between -1 and 9 but was " + level);
+        }
+        return new RequestCompression(true, minBodySize, level);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMinBodySize() {
+        return minBodySize;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks if a request body should be sent compressed.
+     * @param body the body of the request
+     * @return true if the body is a {@link StringHttpRequestBody} which reaches the threshold
+     */
+    public boolean isCompressed(@Nullable final HttpRequestBody body) {
+        return enabled && body instanceof StringHttpRequestBody && ((StringHttpRequestBody) body).getString().length() >= minBodySize;
+    }
+
+    /**
+     * Creates a stream of the compressed body, the body is compressed while the stream is read.
+     * Each call creates a new stream, so adapters can use it for retries.
+     * @param body the body to compress
+     * @return gzip compressed UTF-8 bytes of the body
+     */
+    public InputStream compress(final StringHttpRequestBody body) {
+        return new GzipCompressingInputStream(body.getString(), level);
+    }
+}
@@ -0,0 +1,40 @@
+package io.sphere.sdk.http;
+
+/**
+ * Phases of a request in their chronological order, a {@link RequestTrace} holds a timestamp for each recorded phase.
+ */
+public enum RequestPhase {
+    /**
+     * The request was passed to the client, the time in decorators which wrap the client like queues lies before this phase.
+     */
+    ENQUEUED,
+    /**
+     * The access token is present.
+     */
+    TOKEN_READY,
+    /**
+     * The HTTP request including the body is created.
+     */
+    REQUEST_SERIALIZED,
+    /**
+     * The underlying HTTP client has written the request to the connection.
+     */
+    BYTES_SENT,
+    /**
+     * The status line of the response is received.
+     */
+    FIRST_BYTE,
+    /**
+     * The whole response body is received.
+     */
+    BODY_COMPLETE,
+    /**
+     * A thread of the {@link ResponseExecutionStrategy} started to process the response,
+     * the time since {@link #BODY_COMPLETE} is the time the response waited for the thread.
+     */
+    PARSING_STARTED,
+    /**
+     * The result or the exception is created from the response.
+     */
+    PARSED
+}
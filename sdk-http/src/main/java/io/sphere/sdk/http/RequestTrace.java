@@ -0,0 +1,142 @@
+package io.sphere.sdk.http;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Timestamps of the {@link RequestPhase}s of one request and its attributes like the status code.
+ *
+ * <p>A trace travels with the {@link HttpRequest} (see {@link HttpRequest#getTrace()}) so the adapters of the {@link HttpClient}s
+ * can record the phases which only the underlying client observes, like the time the request was written to the connection.
+ * The phases can be recorded from any thread.</p>
+ *
+ * <p>The timestamps are values of {@link System#nanoTime()} which have no relation to the wall clock.
+ * {@link #toEpochNanos(long)} converts them to nanoseconds since the epoch for exporters which need absolute timestamps
+ * like the span events of OpenTelemetry.</p>
+ */
+public final class RequestTrace {
+    /**
+     * Timestamp of the phases which have not been recorded.
+     */
+    public static final long NOT_RECORDED = Long.MIN_VALUE;
+    public static final String HTTP_METHOD = "http.method";
+    public static final String HTTP_URL = "http.url";
+    public static final String HTTP_STATUS_CODE = "http.status_code";
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+    private final String correlationId;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final AtomicLongArray timestamps = new AtomicLongArray(PHASES.length);
+    private final Map<String, String> attributes = new ConcurrentHashMap<>();
+
+    private RequestTrace(final String correlationId, final long startEpochNanos, final long startNanoTime) {
+        this.correlationId = requireNonNull(correlationId);
+        this.startEpochNanos = startEpochNanos;
+        this.startNanoTime = startNanoTime;
+        for (int i = 0; i < PHASES.length; i++) {
+            timestamps.set(i, NOT_RECORDED);
+        }
+    }
+
+    public static RequestTrace of(final String correlationId) {
+        return new RequestTrace(correlationId, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()), System.nanoTime());
+    }
+
+    /**
+     * Gets the id which is sent with the request, so the request can be found in the logs of the server.
+     * @return the correlation id
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Records that a phase has been reached now, a phase which has already been recorded is overwritten.
+     * @param phase the reached phase
+     */
+    public void record(final RequestPhase phase) {
+        timestamps.set(phase.ordinal(), System.nanoTime());
+    }
+
+    /**
+     * Records that a phase has been reached now if it has not been recorded before,
+     * so a fallback does not overwrite the more accurate timestamp of an {@link HttpClient} adapter.
+     * @param phase the reached phase
+     */
+    public void recordIfAbsent(final RequestPhase phase) {
+        timestamps.compareAndSet(phase.ordinal(), NOT_RECORDED, System.nanoTime());
+    }
+
+    public boolean isRecorded(final RequestPhase phase) {
+        return timestamps.get(phase.ordinal()) != NOT_RECORDED;
+    }
+
+    /**
+     * Gets the timestamp of a phase.
+     * @param phase the phase
+     * @return the value of {@link System#nanoTime()} when the phase was reached or {@link #NOT_RECORDED}
+     */
+    public long getNanoTime(final RequestPhase phase) {
+        return timestamps.get(phase.ordinal());
+    }
+
+    /**
+     * Gets the duration between two phases.
+     * @param from the earlier phase
+     * @param to the later phase
+     * @return the duration or an empty optional if one of the phases has not been recorded
+     */
+    public Optional<Duration> getDuration(final RequestPhase from, final RequestPhase to) {
+        final long start = getNanoTime(from);
+        final long end = getNanoTime(to);
+        return start == NOT_RECORDED || end == NOT_RECORDED ? Optional.empty() : Optional.of(Duration.ofNanos(end - start));
+    }
+
+    /**
+     * Converts a timestamp of this trace to the nanoseconds since the epoch, the precision of the result is limited
+     * by the precision of {@link System#currentTimeMillis()} when the trace was created.
+     * @param nanoTime a timestamp of {@link #getNanoTime(RequestPhase)}
+     * @return nanoseconds since 1970-01-01T00:00:00Z
+     */
+    public long toEpochNanos(final long nanoTime) {
+        return startEpochNanos + (nanoTime - startNanoTime);
+    }
+
+    public void setAttribute(final String name, final String value) {
+        attributes.put(name, value);
+    }
+
+    /**
+     * Gets the attributes of the request like {@value #HTTP_METHOD}, {@value #HTTP_URL} and {@value #HTTP_STATUS_CODE}.
+     * @return unmodifiable view of the attributes
+     */
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("RequestTrace[correlationId=").append(correlationId);
+        long previous = NOT_RECORDED;
+        for (final RequestPhase phase : PHASES) {
+            final long nanoTime = getNanoTime(phase);
+            if (nanoTime != NOT_RECORDED) {
+                builder.append(", ").append(phase).append('=');
+                if (previous == NOT_RECORDED) {
+                    builder.append("0ns");
+                } else {
+                    builder.append('+').append(nanoTime - previous).append("ns");
+                }
+                previous = nanoTime;
+            }
+        }
+        return builder.append(", attributes=").append(attributes).append(']').toString();
+    }
+}
@@ -0,0 +1,186 @@
+package io.sphere.sdk.http;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines the thread in which an {@link HttpClient} adapter converts the response of the underlying client and completes
+ * the returned {@link java.util.concurrent.CompletionStage}, so it is also the thread of the following non-async stages like the deserialization of the response.
+ *
+ * <ul>
+ *     <li>{@link #ofIoThread()} avoids any thread hop and has the lowest latency, but the following stages must not block</li>
+ *     <li>{@link #ofExecutor(Executor)} uses an executor which is managed by the caller</li>
+ *     <li>{@link #ofDedicatedPool(int)} uses a pool with a fixed amount of threads which is shut down with the client</li>
+ * </ul>
+ *
+ * <p>The strategy measures how long the responses wait for a thread, see {@link #getMaxQueueingTime()} and {@link #getTotalQueueingTime()}.
+ * Since it can own a thread pool an instance should only be used for one client.</p>
+ */
+public final class ResponseExecutionStrategy {
+    private final Executor executor;
+    private final boolean inline;
+    private final boolean ownsExecutor;
+    private final LongAdder executedTasks = new LongAdder();
+    private final LongAdder totalQueueingNanos = new LongAdder();
+    private final AtomicLong maxQueueingNanos = new AtomicLong();
+    @Nullable
+    private ExecutorService streamingPool;
+    private boolean closed = false;
+
+    private ResponseExecutionStrategy(final Executor executor, final boolean inline, final boolean ownsExecutor) {
+        this.executor = requireNonNull(executor);
+        this.inline = inline;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Completes the responses in the I/O thread of the underlying client.
+     * @return strategy
+     */
+    public static ResponseExecutionStrategy ofIoThread() {
+        return new ResponseExecutionStrategy(Runnable::run, true, false);
+    }
+
+    /**
+     * Completes the responses in {@code executor}, the executor is not shut down if the client is closed.
+     * @param executor the executor for the responses
+     * @return strategy
+     */
+    public static ResponseExecutionStrategy ofExecutor(final Executor executor) {
+        return new ResponseExecutionStrategy(executor, false, false);
+    }
+
+    /**
+     * Completes the responses in a pool of daemon threads which is shut down if the client is closed.
+     * @param poolSize the number of threads
+     * @return strategy
+     */
+    public static ResponseExecutionStrategy ofDedicatedPool(final int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be at least 1 but was " + poolSize);
+        }
+        return new ResponseExecutionStrategy(Executors.newFixedThreadPool(poolSize, new DaemonThreadFactory("sphere-http-response-")), false, true);
+    }
+
+    /**
+     * The strategy used if none is specified: an own {@link ForkJoinPool} for each client.
+     * @return strategy
+     */
+    public static ResponseExecutionStrategy ofDefault() {
+        return new ResponseExecutionStrategy(new ForkJoinPool(), false, true);
+    }
+
+    /**
+     * Checks if the responses are completed in the I/O thread. In this case adapters need another thread
+     * for streaming responses since reading the body blocks until the I/O thread delivers the next chunk.
+     * @return true if no thread hop is done
+     */
+    public boolean isIoThread() {
+        return inline;
+    }
+
+    /**
+     * Provides the executor to complete the responses with, it records the queueing time of the tasks.
+     * @return executor
+     */
+    public Executor executor() {
+        return inline ? executor : this::executeMeasured;
+    }
+
+    /**
+     * Provides the executor to complete streaming responses with. Reading their body blocks until the I/O thread receives
+     * the next chunk, so if the responses are completed in the I/O thread they are completed in a pool of daemon threads instead
+     * which is created on the first use and shut down with the client.
+     * @return executor which does not run in the I/O thread
+     */
+    public Executor streamingExecutor() {
+        return inline ? streamingPool() : executor();
+    }
+
+    public long getExecutedTaskCount() {
+        return executedTasks.sum();
+    }
+
+    public Duration getTotalQueueingTime() {
+        return Duration.ofNanos(totalQueueingNanos.sum());
+    }
+
+    public Duration getMaxQueueingTime() {
+        return Duration.ofNanos(maxQueueingNanos.get());
+    }
+
+    /**
+     * Shuts down the executor if it has been created by this strategy.
+     */
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+        synchronized (this) {
+            closed = true;
+            if (streamingPool != null) {
+                streamingPool.shutdown();
+            }
+        }
+    }
+
+    private synchronized ExecutorService streamingPool() {
+        if (streamingPool == null) {
+            if (closed) {
+                throw new IllegalStateException("The strategy is already closed.");
+            }
+            //the threads block until the whole body is read, so the pool is not bounded like the pool of the I/O threads
+            streamingPool = Executors.newCachedThreadPool(new DaemonThreadFactory("sphere-http-streaming-"));
+        }
+        return streamingPool;
+    }
+
+    private void executeMeasured(final Runnable command) {
+        final long enqueued = System.nanoTime();
+        executor.execute(() -> {
+            final long queueingNanos = System.nanoTime() - enqueued;
+            executedTasks.increment();
+            totalQueueingNanos.add(queueingNanos);
+            maxQueueingNanos.accumulateAndGet(queueingNanos, Math::max);
+            command.run();
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseExecutionStrategy{" +
+                "executor=" + executor +
+                ", executedTasks=" + getExecutedTaskCount() +
+                ", totalQueueingTime=" + getTotalQueueingTime() +
+                ", maxQueueingTime=" + getMaxQueueingTime() +
+                '}';
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+        private final String namePrefix;
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        private DaemonThreadFactory(final String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, namePrefix + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.sphere.sdk.http;
+
+import javax.annotation.Nullable;
+import java.io.InputStream;
+
+/**
+ * A {@link HttpResponse} whose body can be consumed while it is still being received.
+ *
+ * <p>The body can only be consumed once: either incrementally with {@link #getResponseBodyAsStream()}
+ * or completely with {@link #getResponseBody()} which blocks until the whole body is received.
+ * After the stream has been handed out {@link #getResponseBody()} returns null.</p>
+ *
+ * @see HttpClient#executeStreaming(HttpRequest)
+ */
+public interface StreamingHttpResponse extends HttpResponse {
+    /**
+     * Provides the response body as stream which blocks on reading until the next chunk of the body is received.
+     * The caller is responsible to close the stream.
+     *
+     * @return the body stream or null if the response has no body
+     * @throws IllegalStateException if the stream has already been handed out
+     */
+    @Nullable
+    InputStream getResponseBodyAsStream();
+
+    /**
+     * Wraps a fully received {@link HttpResponse} as {@link StreamingHttpResponse}.
+     *
+     * @param httpResponse the response to wrap
+     * @return streaming response
+     */
+    static StreamingHttpResponse of(final HttpResponse httpResponse) {
+        return httpResponse instanceof StreamingHttpResponse
+                ? (StreamingHttpResponse) httpResponse
+                : StreamingHttpResponseImpl.ofBufferedResponse(httpResponse);
+    }
+}
@@ -0,0 +1,104 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+final class StreamingHttpResponseImpl extends Base implements StreamingHttpResponse {
+    @Nullable
+    private final Integer statusCode;
+    private final HttpHeaders headers;
+    @Nullable
+    private final HttpRequest associatedRequest;
+    @Nullable
+    private InputStream responseBodyStream;
+    @Nullable
+    private byte[] responseBody;
+    private boolean streamHandedOut = false;
+
+    private StreamingHttpResponseImpl(@Nullable final Integer statusCode, final HttpHeaders headers, @Nullable final HttpRequest associatedRequest,
+                                      @Nullable final InputStream responseBodyStream, @Nullable final byte[] responseBody) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.associatedRequest = associatedRequest;
+        this.responseBodyStream = responseBodyStream;
+        this.responseBody = responseBody;
+    }
+
+    @Nullable
+    @Override
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Nullable
+    @Override
+    public synchronized byte[] getResponseBody() {
+        if (responseBody == null && responseBodyStream != null && !streamHandedOut) {
+            try (final InputStream inputStream = responseBodyStream) {
+                responseBody = readFully(inputStream);
+            } catch (final IOException e) {
+                throw new HttpException(e);
+            }
+            responseBodyStream = null;
+        }
+        return responseBody;
+    }
+
+    @Nullable
+    @Override
+    public synchronized InputStream getResponseBodyAsStream() {
+        if (streamHandedOut) {
+            throw new IllegalStateException("The response body stream has already been consumed.");
+        }
+        streamHandedOut = true;
+        final InputStream result = responseBody != null ? new ByteArrayInputStream(responseBody) : responseBodyStream;
+        responseBody = null;
+        responseBodyStream = null;
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public HttpRequest getAssociatedRequest() {
+        return associatedRequest;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("statusCode", statusCode)
+                .append("headers", headers)
+                .append("associatedRequest", associatedRequest)
+                .append("streamHandedOut", streamHandedOut)
+                .toString();
+    }
+
+    static StreamingHttpResponse of(@Nullable final Integer statusCode, final HttpHeaders headers, @Nullable final HttpRequest associatedRequest,
+                                    @Nullable final InputStream responseBodyStream) {
+        return new StreamingHttpResponseImpl(statusCode, headers, associatedRequest, responseBodyStream, null);
+    }
+
+    static StreamingHttpResponse ofBufferedResponse(final HttpResponse httpResponse) {
+        return new StreamingHttpResponseImpl(httpResponse.getStatusCode(), httpResponse.getHeaders(), httpResponse.getAssociatedRequest(), null, httpResponse.getResponseBody());
+    }
+
+    private static byte[] readFully(final InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -1,21 +1,22 @@
 package io.sphere.sdk.http;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.concurrent.CompletionException;
-
-import static java.util.stream.Collectors.joining;
+import java.nio.charset.StandardCharsets;
 
+/**
+ * Builds the query part of an URL or a form body in one {@link StringBuilder}.
+ *
+ * <p>The values are encoded like {@link java.net.URLEncoder} does it with UTF-8, without creating intermediate strings for the parameters.</p>
+ */
 public final class UrlQueryBuilder extends Base {
-    final List<String> elements = new LinkedList<>();
+    private static final int INITIAL_CAPACITY = 128;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private final StringBuilder query = new StringBuilder(INITIAL_CAPACITY);
 
     private UrlQueryBuilder() {
     }
 
     public UrlQueryBuilder add(final String key, final String value) {
-        elements.add(key + "=" + value);
+        appendKey(key).append(value);
         return this;
     }
 
@@ -24,33 +25,63 @@ public final class UrlQueryBuilder extends Base {
     }
 
     public UrlQueryBuilder addEncoded(final String key, final String value) {
-        return add(key, urlEncode(value));
-    }
-
-    private String buildPath() {
-        return elements.stream().collect(joining("&"));
+        urlEncode(value, appendKey(key));
+        return this;
     }
 
     public String build() {
-        return buildPath();
+        return query.toString();
     }
 
     public String toStringWithOptionalQuestionMark() {
-        final String withoutQuestionMark = buildPath();
-        final boolean isEmpty = "".equals(withoutQuestionMark);
-        return isEmpty ? "" : "?" + withoutQuestionMark;
+        return query.length() == 0 ? "" : new StringBuilder(query.length() + 1).append('?').append(query).toString();
     }
 
     public static UrlQueryBuilder of() {
         return new UrlQueryBuilder();
     }
 
-    private static String urlEncode(final String s) {
-        final String encoding = "UTF-8";
-        try {
-            return URLEncoder.encode(s, encoding);
-        } catch (final UnsupportedEncodingException e) {
-            throw new CompletionException(String.format("Could not encode url %s with encoding %s", s, encoding), e);
+    private StringBuilder appendKey(final String key) {
+        if (query.length() > 0) {
+            query.append('&');
         }
+        return query.append(key).append('=');
+    }
+
+    private static void urlEncode(final String s, final StringBuilder target) {
+        final int length = s.length();
+        target.ensureCapacity(target.length() + length);
+        int i = 0;
+        while (i < length) {
+            final char c = s.charAt(i);
+            if (isUnreserved(c)) {
+                target.append(c);
+                i++;
+            } else if (c == ' ') {
+                target.append('+');
+                i++;
+            } else if (c < 0x80) {
+                appendPercentEncoded((byte) c, target);
+                i++;
+            } else {
+                int end = i + 1;
+                while (end < length && s.charAt(end) >= 0x80) {
+                    end++;
+                }
+                for (final byte b : s.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                    appendPercentEncoded(b, target);
+                }
+                i = end;
+            }
+        }
+    }
+
+    private static void appendPercentEncoded(final byte b, final StringBuilder target) {
+        target.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+    }
+
+    private static boolean isUnreserved(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '*';
     }
 }